@@ -0,0 +1,50 @@
+#!/bin/sh
+# CDS 아카이브 학습 실행 (Dockerfile 의 cds 스테이지에서 /app 기준으로 실행)
+#  - 로컬 Redis + 가짜 외부 서버(CdsTrainingUpstream)를 띄우고 runOnce 를 실제로 한번 돌림
+#  - 종료(System.exit)될때 로드된 클래스가 app.jsa 로 떨어짐
+set -eu
+
+FAKE_PORT=18080
+
+redis6-server --port 6379 --save "" --appendonly no --daemonize yes
+java -cp /tmp/cds-training.jar com.seoulhousing.cds.CdsTrainingUpstream "$FAKE_PORT" &
+FAKE_PID=$!
+sleep 2
+
+export INGEST_CORE_SERVER_PORT=0
+export INGEST_CORE_APP_NAME=ingest-core-cds-training
+export INGEST_CORE_PROFILE=local
+export REDIS_HOST=127.0.0.1
+export REDIS_PORT=6379
+
+export MAIN_SERVER_BASE_URL="http://127.0.0.1:$FAKE_PORT"
+export MAIN_SERVER_INGEST_PATH=/ingest
+
+export EXTERNAL_MYHOME_BASE_URL="http://127.0.0.1:$FAKE_PORT/myhome"
+export EXTERNAL_MYHOME_SERVICE_KEY=cds-training
+export EXTERNAL_MYHOME_CONNECT_TIMEOUT_MS=2000
+export EXTERNAL_MYHOME_READ_TIMEOUT_MS=5000
+
+export EXTERNAL_SH_RSS_NOTICE_URL="http://127.0.0.1:$FAKE_PORT/sh/rss"
+export EXTERNAL_SH_RSS_CONNECT_TIMEOUT_MS=2000
+export EXTERNAL_SH_RSS_READ_TIMEOUT_MS=5000
+
+export INGEST_SCOPE=seoul
+export INGEST_MYHOME_NUM_OF_ROWS=100
+export INGEST_MYHOME_CATEGORY_RSDT=rsdt
+export INGEST_MYHOME_CATEGORY_LTRSDT=ltrsdt
+export INGEST_SH_CATEGORY=rental
+export INGEST_SH_SEED_LIMIT=50
+
+# 운영 실행과 같은 옵션(AOT 포함)으로 돌려야 같은 클래스들이 아카이브에 들어감
+# 학습 실행의 작업 성공 여부는 상관없음 (아카이브만 만들어지면 됨)
+set +e
+java -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true -jar app.jar
+echo "[CDS-TRAINING] training run exited with $?"
+set -e
+
+kill "$FAKE_PID" || true
+redis6-cli -p 6379 shutdown nosave || true
+
+test -s app.jsa
+echo "[CDS-TRAINING] archive written: $(du -h app.jsa | cut -f1)"
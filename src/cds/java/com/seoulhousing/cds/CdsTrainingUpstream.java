@@ -0,0 +1,119 @@
+package com.seoulhousing.cds;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+// CDS 아카이브 학습 실행(docker/cds-training.sh)에서 쓰는 가짜 외부 서버
+// 마이홈 목록 / SH RSS / 메인서버 ingest 를 흉내내서 학습 실행이 실제 운영과 같은 경로(HTTP, JSON/XML 파싱, 전송)를 타게 함
+// 스프링 빈이 아님 (별도 JVM 에서 main 으로 실행), src/cds 소스셋이라 bootJar 에는 들어가지 않음
+public final class CdsTrainingUpstream {
+
+    private static final int ITEMS_PER_CATEGORY = 40;
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+    private static final DateTimeFormatter RFC_1123 =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.ENGLISH);
+
+    private CdsTrainingUpstream() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : 18080;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/myhome/rsdtRcritNtcList", ex -> respond(ex, 200, "application/json",
+                myHomePage("R", 25000).getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/myhome/ltRsdtRcritNtcList", ex -> respond(ex, 200, "application/json",
+                myHomePage("L", 35000).getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/sh/rss", ex -> respond(ex, 200, "text/xml; charset=EUC-KR", shRss()));
+        server.createContext("/ingest", CdsTrainingUpstream::ingest);
+        server.start();
+
+        System.out.println("[CDS-TRAINING] fake upstream listening on " + port);
+    }
+
+    // 받은 아이템 수만큼 전부 created 로 응답
+    private static void ingest(HttpExchange ex) throws IOException {
+        String body;
+        try (InputStream in = ex.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        int received = countOf(body, "\"externalKey\"");
+        String json = "{\"received\":" + received + ",\"created\":" + received + ",\"updated\":0,\"skipped\":0}";
+        respond(ex, 200, "application/json", json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String myHomePage(String prefix, int idBase) {
+        StringBuilder sb = new StringBuilder(ITEMS_PER_CATEGORY * 600);
+        sb.append("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},")
+                .append("\"body\":{\"totalCount\":\"").append(ITEMS_PER_CATEGORY)
+                .append("\",\"numOfRows\":\"100\",\"pageNo\":\"1\",\"item\":[");
+
+        for (int i = 0; i < ITEMS_PER_CATEGORY; i++) {
+            int id = idBase + i;
+            if (i > 0) sb.append(',');
+            sb.append("{\"pblancId\":\"").append(id)
+                    .append("\",\"houseSn\":\"").append(i % 7 + 1)
+                    .append("\",\"sttusNm\":\"접수중\"")
+                    .append(",\"pblancNm\":\"[학습] ").append(prefix).append(' ').append(id).append(" 입주자 모집공고\"")
+                    .append(",\"suplyInsttNm\":\"서울주택도시공사\",\"houseTyNm\":\"아파트\",\"suplyTyNm\":\"행복주택\"")
+                    .append(",\"rcritPblancDe\":\"20260301\",\"przwnerPresnatnDe\":\"20260420\"")
+                    .append(",\"beginDe\":\"20260310\",\"endDe\":\"20260320\"")
+                    .append(",\"url\":\"https://apply.lh.or.kr/notice/").append(id).append('"')
+                    .append(",\"brtcNm\":\"서울특별시\",\"signguNm\":\"강남구\"")
+                    .append(",\"fullAdres\":\"서울특별시 강남구 테헤란로 ").append(i + 1).append('"')
+                    .append(",\"refrnLegaldongNm\":\"강남구 역삼동\"")
+                    .append(",\"rentGtn\":").append(1_000_000 + i * 10_000)
+                    .append(",\"enty\":0,\"prtpay\":0,\"surlus\":0,\"mtRntchrg\":").append(100_000 + i * 1_000)
+                    .append('}');
+        }
+        return sb.append("]}}}").toString();
+    }
+
+    // 실제 피드처럼 EUC-KR 로 인코딩
+    private static byte[] shRss() {
+        ZonedDateTime base = ZonedDateTime.now(ZoneOffset.UTC).withNano(0);
+
+        StringBuilder sb = new StringBuilder(ITEMS_PER_CATEGORY * 500);
+        sb.append("<?xml version=\"1.0\" encoding=\"EUC-KR\"?>\n<rss version=\"2.0\"><channel>")
+                .append("<title>공고 및 공지</title><language>ko</language>");
+
+        for (int i = 0; i < ITEMS_PER_CATEGORY; i++) {
+            int seq = 300_000 - i;
+            sb.append("<item><title><![CDATA[[임대] 학습용 공고 ").append(seq).append("]]></title>")
+                    .append("<link>https://www.i-sh.co.kr/main/lay2/program/S1T294C297/www/brd/m_247/view.do?seq=")
+                    .append(seq).append("&amp;multi_itm_seq=0</link>")
+                    .append("<description><![CDATA[상세 내용은 첨부파일을 확인하시기 바랍니다.]]></description>")
+                    .append("<pubDate>").append(RFC_1123.format(base.minusHours(i))).append("</pubDate></item>");
+        }
+        sb.append("</channel></rss>");
+        return sb.toString().getBytes(EUC_KR);
+    }
+
+    private static void respond(HttpExchange ex, int status, String contentType, byte[] body) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", contentType);
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static int countOf(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+}
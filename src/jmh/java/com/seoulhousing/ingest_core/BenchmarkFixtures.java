@@ -0,0 +1,47 @@
+package com.seoulhousing.ingest_core;
+
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeListResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 벤치마크 공용 픽스처 (src/jmh/resources/fixtures)
+ *
+ * - sh/notice-euckr.xml     : SH 공고 RSS (EUC-KR, 아이템 50개)
+ * - myhome/rsdt-page.json   : 마이홈 공공임대 목록 한 페이지 (아이템 100개)
+ *
+ * 둘다 실제 응답 구조를 그대로 따른 합성 데이터, 바뀌면 각 벤치마크 setup 에서 개수 확인으로 바로 실패함
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SH_NOTICE = "/fixtures/sh/notice-euckr.xml";
+    public static final int SH_NOTICE_ITEMS = 50;
+
+    public static final String MYHOME_PAGE = "/fixtures/myhome/rsdt-page.json";
+    public static final int MYHOME_PAGE_ITEMS = 100;
+
+    // 마이홈 클라이언트와 같은 Jackson 3 매퍼
+    public static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private BenchmarkFixtures() {}
+
+    public static byte[] bytes(String path) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(path)) {
+            if (in == null) throw new IllegalStateException("fixture not found: " + path);
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static MyHomeListResponse myHomePage() {
+        MyHomeListResponse page = JSON.readValue(bytes(MYHOME_PAGE), MyHomeListResponse.class);
+        if (page.itemsOrEmpty().size() != MYHOME_PAGE_ITEMS) {
+            throw new IllegalStateException("myhome fixture item count mismatch: " + page.itemsOrEmpty().size());
+        }
+        return page;
+    }
+}
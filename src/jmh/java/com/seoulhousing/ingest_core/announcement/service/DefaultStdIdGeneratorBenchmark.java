@@ -0,0 +1,71 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import com.seoulhousing.ingest_core.BenchmarkFixtures;
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * stdId 생성 벤치마크
+ *
+ * - myhome : 마이홈 픽스처 아이템 100개의 pblancId/houseSn
+ * - shRss  : 같은 개수의 seq
+ * - 1 op = stdId 1개
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultStdIdGeneratorBenchmark {
+
+    private static final int N = BenchmarkFixtures.MYHOME_PAGE_ITEMS;
+
+    private final StdIdGenerator generator = new DefaultStdIdGenerator();
+
+    private String[] pblancIds;
+    private String[] houseSns;
+    private String[] seqs;
+
+    @Setup
+    public void setup() {
+        List<MyHomeItemDto> items = BenchmarkFixtures.myHomePage().itemsOrEmpty();
+
+        pblancIds = new String[N];
+        houseSns = new String[N];
+        seqs = new String[N];
+        for (int i = 0; i < N; i++) {
+            pblancIds[i] = items.get(i).getPblancId();
+            houseSns[i] = items.get(i).getHouseSn();
+            seqs[i] = Integer.toString(298_537 - i * 7);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void myhome(Blackhole bh) {
+        for (int i = 0; i < N; i++) bh.consume(generator.myhome("rsdt", pblancIds[i], houseSns[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void shRss(Blackhole bh) {
+        for (int i = 0; i < N; i++) bh.consume(generator.shRss(seqs[i]));
+    }
+}
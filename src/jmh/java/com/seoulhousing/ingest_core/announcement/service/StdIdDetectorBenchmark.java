@@ -0,0 +1,79 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신규/누락 감지 벤치마크
+ *
+ * - seen    : size 개 (마이홈 stdId 모양)
+ * - current : seen 의 90% + 새 stdId 10% (순서 섞음, 시드 고정)
+ * - 1 op = 감지 한번 (size 별로 비교)
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StdIdDetectorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Set<String> seen;
+    private List<String> current;
+
+    private final NewStdIdDetector newDetector = new DefaultNewStdIdDetector();
+    private final MissingStdIdDetector missingDetector = new DefaultMissingStdIdDetector();
+
+    @Setup
+    public void setup() {
+        int churn = size / 10;
+
+        seen = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) seen.add(stdId(i));
+
+        current = new ArrayList<>(size);
+        for (int i = churn; i < size + churn; i++) current.add(stdId(i));
+        Collections.shuffle(current, new Random(size));
+    }
+
+    @Benchmark
+    public List<String> newStdIds() {
+        return newDetector.detect(seen, current);
+    }
+
+    @Benchmark
+    public List<String> missingStdIds() {
+        return missingDetector.detect(seen, current);
+    }
+
+    @Benchmark
+    public StdIdDiffEngine.Diff diffBoth() {
+        return StdIdDiffEngine.diff(seen, current);
+    }
+
+    private static String stdId(int i) {
+        return "myhome:rsdt:" + (2026_000_000 + i) + ":" + (i % 40 + 1);
+    }
+}
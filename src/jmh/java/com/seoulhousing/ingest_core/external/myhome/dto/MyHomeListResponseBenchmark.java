@@ -0,0 +1,47 @@
+package com.seoulhousing.ingest_core.external.myhome.dto;
+
+import com.seoulhousing.ingest_core.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마이홈 목록 응답 역직렬화 벤치마크 (Jackson 3)
+ *
+ * - 픽스처 : fixtures/myhome/rsdt-page.json (한 페이지, 아이템 100개, 금액은 숫자 -> 문자열 필드)
+ * - 1 op = 페이지 1개
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MyHomeListResponseBenchmark {
+
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        json = BenchmarkFixtures.bytes(BenchmarkFixtures.MYHOME_PAGE);
+
+        // 픽스처 개수 확인
+        BenchmarkFixtures.myHomePage();
+    }
+
+    @Benchmark
+    public MyHomeListResponse deserialize() {
+        return BenchmarkFixtures.JSON.readValue(json, MyHomeListResponse.class);
+    }
+}
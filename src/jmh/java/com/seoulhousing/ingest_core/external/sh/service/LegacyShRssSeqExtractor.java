@@ -0,0 +1,34 @@
+package com.seoulhousing.ingest_core.external.sh.service;
+
+import java.net.URI;
+
+// 벤치마크 비교용 : 재작성 전 ShRssSeqExtractor 그대로 (링크마다 URI 생성 + split)
+public class LegacyShRssSeqExtractor extends ShRssSeqExtractor {
+
+    @Override
+    public String extractSeq(String link){
+        if(link == null) return null;
+
+        try{
+            URI uri = URI.create(link.trim());
+            String query = uri.getQuery();
+
+            if(query == null) return null;
+
+            for (String s : query.split("&")) {
+
+                int index = s.indexOf("=");
+                if(index < 0) continue;
+
+                String key = s.substring(0, index);
+                String value = s.substring(index + 1);
+
+                if("seq".equalsIgnoreCase(key)) return value;
+            }
+
+            return null;
+        }catch (Exception e){
+            return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.seoulhousing.ingest_core.external.sh.service;
+
+import com.seoulhousing.ingest_core.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * pubDate 파싱 벤치마크 (포매터 vs 직접 파싱 + 캐시)
+ *
+ * - 날짜 : 픽스처(fixtures/sh/notice-euckr.xml)의 pubDate 50개, 파서가 넘기는 것처럼 StringBuilder 로
+ * - cached   : 피드를 반복해서 읽는 경우 (대부분 캐시 적중)
+ * - uncached : 캐시 없이 직접 파싱만 (처음 보는 날짜)
+ * - 1 op = 날짜 1개
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShRssPubDateParserBenchmark {
+
+    private static final DateTimeFormatter PUBDATE_FMT =
+            DateTimeFormatter.RFC_1123_DATE_TIME.withLocale(Locale.ENGLISH);
+
+    private StringBuilder[] dates;
+    private String[] dateStrings;
+
+    @Setup
+    public void setup() throws Exception {
+        String xml = new String(BenchmarkFixtures.bytes(BenchmarkFixtures.SH_NOTICE), "EUC-KR");
+
+        dates = new StringBuilder[ShRssXmlParserBenchmark.FIXTURE_ITEMS];
+        dateStrings = new String[dates.length];
+        int at = 0;
+        for (int i = 0; i < dates.length; i++) {
+            int start = xml.indexOf("<pubDate>", at) + "<pubDate>".length();
+            int end = xml.indexOf("</pubDate>", start);
+            dateStrings[i] = xml.substring(start, end);
+            dates[i] = new StringBuilder(dateStrings[i]);
+            at = end;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ShRssXmlParserBenchmark.FIXTURE_ITEMS)
+    public void formatter(Blackhole bh) {
+        for (StringBuilder d : dates) {
+            try {
+                bh.consume(ZonedDateTime.parse(d.toString().trim(), PUBDATE_FMT).toInstant());
+            } catch (Exception e) {
+                bh.consume((Instant) null);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ShRssXmlParserBenchmark.FIXTURE_ITEMS)
+    public void cached(Blackhole bh) {
+        for (StringBuilder d : dates) bh.consume(ShRssPubDateParser.parseOrNull(d));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ShRssXmlParserBenchmark.FIXTURE_ITEMS)
+    public void uncached(Blackhole bh) {
+        for (String d : dateStrings) bh.consume(ShRssPubDateParser.parseFixed(d));
+    }
+}
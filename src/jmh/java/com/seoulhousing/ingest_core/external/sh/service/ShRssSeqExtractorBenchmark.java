@@ -0,0 +1,55 @@
+package com.seoulhousing.ingest_core.external.sh.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * seq 추출 벤치마크 (URI + split vs 한번 훑기)
+ *
+ * - 링크 : 실제 SH 공고 링크 모양 + 깨진 링크 1개 (예외 경로 비용 포함)
+ * - 1 op = 링크 1개
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShRssSeqExtractorBenchmark {
+
+    static final String[] LINKS = {
+            "https://www.i-sh.co.kr/main/lay2/program/S1T294C297/www/brd/m_247/view.do?seq=298537&multi_itm_seq=0",
+            "https://www.i-sh.co.kr/main/lay2/program/S1T294C297/www/brd/m_247/view.do?multi_itm_seq=0&seq=298522",
+            "http://www.i-sh.co.kr/view.do?SEQ=298111",
+            "http://www.i-sh.co.kr/view.do",
+            "http://www.i-sh.co.kr/view.do?seq=298 537|broken",
+    };
+
+    private final ShRssSeqExtractor legacy = new LegacyShRssSeqExtractor();
+    private final ShRssSeqExtractor current = new ShRssSeqExtractor();
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void legacy(Blackhole bh) {
+        for (String link : LINKS) bh.consume(legacy.extractSeq(link));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void current(Blackhole bh) {
+        for (String link : LINKS) bh.consume(current.extractSeq(link));
+    }
+}
@@ -0,0 +1,82 @@
+package com.seoulhousing.ingest_core.external.sh.service;
+
+import com.seoulhousing.ingest_core.BenchmarkFixtures;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SH RSS 파서 벤치마크 (재작성 전 vs 현재)
+ *
+ * - 픽스처 : fixtures/sh/notice-euckr.xml (실제 피드 구조 그대로, EUC-KR, 아이템 50개)
+ * - 1 op = 아이템 1개 로 맞춰둠 (@OperationsPerInvocation)
+ *   -> gc 프로파일러의 gc.alloc.rate.norm 이 곧 "아이템당 할당 바이트"
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShRssXmlParserBenchmark {
+
+    // 픽스처 아이템 수 (바뀌면 setup 에서 바로 실패)
+    static final int FIXTURE_ITEMS = BenchmarkFixtures.SH_NOTICE_ITEMS;
+
+    private byte[] rssBytes;
+    private LegacyShRssXmlParser legacy;
+    private ShRssXmlParser current;
+
+    @Setup
+    public void setup() {
+        rssBytes = BenchmarkFixtures.bytes(BenchmarkFixtures.SH_NOTICE);
+
+        // 재작성 전 파서는 재작성 전 seq 추출과 같이 돌림
+        legacy = new LegacyShRssXmlParser(new LegacyShRssSeqExtractor());
+        current = new ShRssXmlParser(new ShRssSeqExtractor());
+
+        // 두 파서가 같은 결과를 내는지 먼저 확인
+        List<ShRssItem> a = legacy.parse(rssBytes);
+        List<ShRssItem> b = current.parse(rssBytes);
+        if (a.size() != FIXTURE_ITEMS || b.size() != FIXTURE_ITEMS) {
+            throw new IllegalStateException("fixture item count mismatch. legacy=" + a.size() + ", current=" + b.size());
+        }
+        for (int i = 0; i < FIXTURE_ITEMS; i++) {
+            ShRssItem x = a.get(i);
+            ShRssItem y = b.get(i);
+            if (!x.getSeq().equals(y.getSeq())
+                    || !x.getTitle().equals(y.getTitle())
+                    || !x.getLink().equals(y.getLink())
+                    || !Objects.equals(x.getPublishedAt(), y.getPublishedAt())) {
+                throw new IllegalStateException("parser mismatch at item " + i);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIXTURE_ITEMS)
+    public List<ShRssItem> legacy() {
+        return legacy.parse(rssBytes);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIXTURE_ITEMS)
+    public List<ShRssItem> current() {
+        return current.parse(rssBytes);
+    }
+}
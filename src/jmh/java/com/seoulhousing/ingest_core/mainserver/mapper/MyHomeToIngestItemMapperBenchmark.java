@@ -0,0 +1,49 @@
+package com.seoulhousing.ingest_core.mainserver.mapper;
+
+import com.seoulhousing.ingest_core.BenchmarkFixtures;
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마이홈 -> 메인서버 DTO 변환 벤치마크
+ *
+ * - 마이홈 픽스처 아이템 100개 (날짜/금액 파싱 포함)
+ * - 1 op = 아이템 1개
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MyHomeToIngestItemMapperBenchmark {
+
+    private List<MyHomeItemDto> items;
+
+    @Setup
+    public void setup() {
+        items = BenchmarkFixtures.myHomePage().itemsOrEmpty();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.MYHOME_PAGE_ITEMS)
+    public void map(Blackhole bh) {
+        for (MyHomeItemDto item : items) bh.consume(MyHomeToIngestItemMapper.map(item));
+    }
+}
@@ -0,0 +1,57 @@
+package com.seoulhousing.ingest_core.redis;
+
+import com.seoulhousing.ingest_core.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 스냅샷 리더 gzip 해제 벤치마크
+ *
+ * - payload : 픽스처를 setup 에서 기본 압축 레벨로 gzip 한 것
+ * - 1 op = 스냅샷 1개 해제
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotGzipBenchmark {
+
+    @Param({BenchmarkFixtures.MYHOME_PAGE, BenchmarkFixtures.SH_NOTICE})
+    public String fixture;
+
+    private byte[] gz;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] raw = BenchmarkFixtures.bytes(fixture);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+            gos.write(raw);
+        }
+        gz = baos.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] gunzip() {
+        return SnapshotGzip.gunzip(gz);
+    }
+}
@@ -1,39 +1,159 @@
 package com.seoulhousing.ingest_core.announcement.adapter;
 
 import com.seoulhousing.ingest_core.announcement.port.SeenStdIdReaderPort;
+import com.seoulhousing.ingest_core.announcement.service.CompactStdIdSet;
 import com.seoulhousing.ingest_core.config.EnvProvider;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class RedisSeenStdIdReaderAdapter  implements SeenStdIdReaderPort {
+    // 크기를 알때 미리 잡아둘 최대 원소 수 (지문 테이블 상한의 절반 아래)
+    private static final long MAX_PRESIZE = 1L << 28;
+
     @Qualifier("redisStringTemplate")
     private final RedisTemplate<String, String> redisStringTemplate;
 
     private final EnvProvider envProvider;
 
+    // set 크기가 이 값을 넘으면 SMEMBERS 한방 대신 SSCAN 으로 나눠 읽음 (0 이하 = 항상 SMEMBERS)
+    // 크기를 모르면 SCARD 를 따로 하지 않고 바로 SSCAN (작은 set 은 보통 한번에 다 옴)
+    @Value("${ingest.seen.scan-threshold:0}")
+    private int scanThreshold;
+
+    // SSCAN 한번에 요청할 COUNT 힌트
+    @Value("${ingest.seen.scan-count:1000}")
+    private int scanCount;
+
+    // SMISMEMBER 한번에 실어보낼 멤버 수
+    @Value("${ingest.seen.membership-batch-size:500}")
+    private int membershipBatchSize;
+
     @Override
     public Set<String> getSeenStdIds(String source, String category, String scope) {
-        String key = seenKey(source, category, scope);
+        return getSeenStdIds(source, category, scope, -1L);
+    }
+
+    @Override
+    public Set<String> getSeenStdIds(String source, String category, String scope, long knownSize) {
+        String key = seenKey(envProvider.envKey(), source, category, scope);
+
+        // 큰 set 은 커서로 조금씩 읽어서 Redis 이벤트루프를 오래 막지 않게 함
+        if (scanThreshold > 0 && (knownSize < 0 || knownSize > scanThreshold)) {
+            return recordSize(source, IngestMetrics.time(IngestMetrics.SEEN_REDIS,
+                    () -> scanMembers(key, knownSize), "op", "sscan"));
+        }
 
         // Redis 전부 조회
-        Set<String> members = redisStringTemplate.opsForSet().members(key);
+        Set<String> members = IngestMetrics.time(IngestMetrics.SEEN_REDIS,
+                () -> redisStringTemplate.opsForSet().members(key), "op", "smembers");
 
         // Redis가 null 줄 수도 있으니 방어
-        if (members == null) return Collections.emptySet();
+        if (members == null) return recordSize(source, Collections.emptySet());
+        return recordSize(source, members);
+    }
+
+    private static Set<String> recordSize(String source, Set<String> members) {
+        IngestMetrics.record(IngestMetrics.SEEN_SIZE, members.size(), "source", source);
+        return members;
+    }
+
+    @Override
+    public long countSeen(String source, String category, String scope) {
+        String key = seenKey(envProvider.envKey(), source, category, scope);
+        Long size = IngestMetrics.time(IngestMetrics.SEEN_REDIS,
+                () -> redisStringTemplate.opsForSet().size(key), "op", "scard");
+        return (size == null) ? 0L : size;
+    }
+
+    @Override
+    public List<String> filterUnseen(String source, String category, String scope, List<String> stdIds) {
+        if (stdIds == null || stdIds.isEmpty()) return List.of();
+
+        String key = seenKey(envProvider.envKey(), source, category, scope);
+
+        // 같은 stdId 는 한번만 물어봄
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(stdIds));
+        int batchSize = Math.max(1, membershipBatchSize);
+
+        // 배치별 SMISMEMBER 를 파이프라인으로 한번에 보내고 응답을 모아받음
+        List<Object> replies = IngestMetrics.time(IngestMetrics.SEEN_REDIS,
+                () -> redisStringTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                    for (int from = 0; from < distinct.size(); from += batchSize) {
+                        List<String> batch = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+                        sMIsMember(connection, rawKey, batch);
+                    }
+                    return null;
+                }), "op", "smismember");
+
+        Set<String> seenHits = new HashSet<>();
+        int idx = 0;
+        for (Object reply : replies) {
+            if (!(reply instanceof List<?> flags)) {
+                throw new IllegalStateException("SMISMEMBER 응답 형식이 올바르지 않음: " + reply);
+            }
+            for (Object flag : flags) {
+                if (Boolean.TRUE.equals(flag)) seenHits.add(distinct.get(idx));
+                idx++;
+            }
+        }
+        if (idx != distinct.size()) {
+            throw new IllegalStateException("SMISMEMBER 응답 개수 불일치. expected=" + distinct.size() + ", actual=" + idx);
+        }
+
+        // 입력 순서/중복 그대로 unseen 만 남김
+        List<String> unseen = new ArrayList<>();
+        for (String stdId : stdIds) {
+            if (!seenHits.contains(stdId)) unseen.add(stdId);
+        }
+        return unseen;
+    }
+
+    private static void sMIsMember(RedisConnection connection, byte[] rawKey, List<String> batch) {
+        byte[][] rawMembers = new byte[batch.size()][];
+        for (int i = 0; i < batch.size(); i++) {
+            rawMembers[i] = batch.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        connection.setCommands().sMIsMember(rawKey, rawMembers);
+    }
+
+    // SSCAN 커서로 읽으면서 지문 set 에 채움 (HashSet 처럼 원소마다 노드를 만들지 않음, 누락 계산용 문자열은 유지)
+    // 크기를 알면 미리 잡아둬서 리해시 없이 한번에 할당
+    private Set<String> scanMembers(String key, long knownSize) {
+        Set<String> members = new CompactStdIdSet((int) Math.min(Math.max(knownSize, 0L), MAX_PRESIZE));
+        ScanOptions options = ScanOptions.scanOptions().count(Math.max(1, scanCount)).build();
+
+        // SSCAN 은 같은 멤버를 두번 줄 수 있지만 Set 이라 그대로 add 해도 됨
+        try (Cursor<String> cursor = redisStringTemplate.opsForSet().scan(key, options)) {
+            while (cursor.hasNext()) {
+                members.add(cursor.next());
+            }
+        }
         return members;
     }
 
-    // seen stdId set 전용키 생성
-    private String seenKey(String source, String category, String scope) {
-        return "seoulhousing:" + norm(envProvider.envKey())
+    // seen stdId set 전용키 생성 (RedisSeenStdIdWriterAdapter 와 같은 규칙을 쓰도록 공유)
+    static String seenKey(String env, String source, String category, String scope) {
+        return "seoulhousing:" + norm(env)
                 + ":seen:" + norm(source)
                 + ":" + norm(category)
                 + ":" + norm(scope);
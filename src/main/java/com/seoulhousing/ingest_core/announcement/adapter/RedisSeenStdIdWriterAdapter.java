@@ -0,0 +1,66 @@
+package com.seoulhousing.ingest_core.announcement.adapter;
+
+import com.seoulhousing.ingest_core.announcement.port.SeenStdIdWriterPort;
+import com.seoulhousing.ingest_core.config.EnvProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class RedisSeenStdIdWriterAdapter implements SeenStdIdWriterPort {
+
+    @Qualifier("redisStringTemplate")
+    private final RedisTemplate<String, String> redisStringTemplate;
+
+    private final EnvProvider envProvider;
+
+    // SADD 한번에 실어보낼 멤버 수
+    @Value("${ingest.seen.write-batch-size:500}")
+    private int writeBatchSize;
+
+    @Override
+    public void addSeenStdIds(String source, String category, String scope, Collection<String> stdIds) {
+        if (stdIds == null || stdIds.isEmpty()) return;
+
+        // 리더와 같은 키 규칙
+        String key = RedisSeenStdIdReaderAdapter.seenKey(envProvider.envKey(), source, category, scope);
+
+        // 공백 제외 + 중복 제거
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String raw : stdIds) {
+            if (raw == null) continue;
+            String stdId = raw.trim();
+            if (!stdId.isEmpty()) distinct.add(stdId);
+        }
+        if (distinct.isEmpty()) return;
+
+        List<String> members = new ArrayList<>(distinct);
+        int batchSize = Math.max(1, writeBatchSize);
+
+        // 배치별 SADD 를 파이프라인으로 한번에 보냄
+        redisStringTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            for (int from = 0; from < members.size(); from += batchSize) {
+                List<String> batch = members.subList(from, Math.min(from + batchSize, members.size()));
+
+                byte[][] rawMembers = new byte[batch.size()][];
+                for (int i = 0; i < batch.size(); i++) {
+                    rawMembers[i] = batch.get(i).getBytes(StandardCharsets.UTF_8);
+                }
+                connection.setCommands().sAdd(rawKey, rawMembers);
+            }
+            return null;
+        });
+    }
+}
@@ -1,14 +1,14 @@
 package com.seoulhousing.ingest_core.announcement.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.List;
 
 
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor
 @ToString
 public class ChangeDetectionResult {
 
@@ -21,4 +21,47 @@ public class ChangeDetectionResult {
 
     private final int currentCount;
     private final int seenCount;
+
+    // 이미 보낸적 있지만 내용 체크섬이 달라진 stdId (체크섬 비교를 안했으면 빈 목록)
+    private final List<String> changedStdIds;
+
+    // 누락을 계산했는지 (멤버십 확인으로 판정하면 seen 전체를 모르니 false, 이때 missingStdIds 는 의미없는 빈 목록)
+    private final boolean missingComputed;
+
+    // 체크섬 비교 없이 신규/누락만 감지한 결과
+    public ChangeDetectionResult(
+            String source,
+            String category,
+            String scope,
+            List<String> newStdIds,
+            List<String> missingStdIds,
+            int currentCount,
+            int seenCount
+    ) {
+        this(source, category, scope, newStdIds, missingStdIds, currentCount, seenCount, List.of(), true);
+    }
+
+    // 신규만 판정하고 누락은 계산하지 않은 결과 (멤버십 확인 경로)
+    public static ChangeDetectionResult withoutMissing(
+            String source,
+            String category,
+            String scope,
+            List<String> newStdIds,
+            int currentCount,
+            int seenCount
+    ) {
+        return new ChangeDetectionResult(
+                source, category, scope, newStdIds, List.of(), currentCount, seenCount, List.of(), false);
+    }
+
+    // 로그용 누락 개수 (계산 안했으면 "skipped")
+    public String missingCountText() {
+        return missingComputed ? String.valueOf(missingStdIds.size()) : "skipped";
+    }
+
+    public ChangeDetectionResult withChangedStdIds(List<String> changedStdIds) {
+        return new ChangeDetectionResult(
+                source, category, scope, newStdIds, missingStdIds, currentCount, seenCount, List.copyOf(changedStdIds),
+                missingComputed);
+    }
 }
@@ -1,10 +1,31 @@
 package com.seoulhousing.ingest_core.announcement.port;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 // Redis에서 이미 존재하는 StdId를 조회할수 있도록해주는 포트
 public interface SeenStdIdReaderPort {
 
     Set<String> getSeenStdIds(String source, String category, String scope);
 
+    // 호출부가 이미 SCARD 로 크기를 알고있을때 (knownSize < 0 이면 모름) : 어댑터가 크기를 다시 묻지 않고 그대로 씀
+    default Set<String> getSeenStdIds(String source, String category, String scope, long knownSize) {
+        return getSeenStdIds(source, category, scope);
+    }
+
+    // seen set 크기만 조회 (SCARD)
+    long countSeen(String source, String category, String scope);
+
+    // set 을 내려받지 않고 서버에서 멤버십만 확인해서 seen 에 없는 stdId 만 반환 (입력 순서 유지)
+    List<String> filterUnseen(String source, String category, String scope, List<String> stdIds);
+
+    // 수집이 끝나기 전에 미리 읽어두기 위한 비동기 조회 (가상스레드에서 실행)
+    default CompletableFuture<Set<String>> getSeenStdIdsAsync(String source, String category, String scope) {
+        return CompletableFuture.supplyAsync(
+                () -> getSeenStdIds(source, category, scope),
+                task -> Thread.ofVirtual().name("seen-prefetch").start(task)
+        );
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.seoulhousing.ingest_core.announcement.port;
+
+import java.util.Collection;
+
+// 메인서버가 받은 stdId 를 Redis seen set 에 기록하는 포트
+public interface SeenStdIdWriterPort {
+
+    void addSeenStdIds(String source, String category, String scope, Collection<String> stdIds);
+
+}
@@ -4,6 +4,7 @@ package com.seoulhousing.ingest_core.announcement.service;
 import com.seoulhousing.ingest_core.announcement.dto.ChangeDetectionResult;
 
 import java.util.List;
+import java.util.Map;
 
 
 //공고 변경 감지 서비스
@@ -15,4 +16,26 @@ public interface AnnouncementChangeDetectionService {
             String scope,
             List<String> currentStdIds
     );
+
+    // 신규/누락 + 내용 변경 감지
+    // currentChecksums : 현재 stdId -> 내용 체크섬, storedChecksums : 지난번에 기록된 stdId -> 체크섬
+    ChangeDetectionResult detect(
+            String source,
+            String category,
+            String scope,
+            List<String> currentStdIds,
+            Map<String, String> currentChecksums,
+            Map<String, String> storedChecksums
+    );
+
+    // detect 가 seen set 을 받지 않고 멤버십 확인으로 판정할 수 있는지
+    // true 면 detect 쪽 seen 미리읽기는 버려질 수 있으니 걸지 않음 (openSession 은 항상 set 전체를 씀)
+    boolean usesMembershipCheck();
+
+    // 페이지 단위 스트리밍 감지용 세션 열기
+    ChangeDetectionSession openSession(
+            String source,
+            String category,
+            String scope
+    );
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import com.seoulhousing.ingest_core.announcement.dto.ChangeDetectionResult;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+// 페이지 단위로 신규를 판정하는 변경 감지 세션
+// seen 은 세션을 열때 한번만 읽고, 현재 stdId 는 누락 감지를 위해 모아둔다 (아이템 원본은 들고있지 않음)
+public class ChangeDetectionSession {
+
+    private final String source;
+    private final String category;
+    private final String scope;
+
+    private final Set<String> seen;
+    private final NewStdIdDetector newStdIdDetector;
+    private final MissingStdIdDetector missingStdIdDetector;
+
+    private final List<String> current = new ArrayList<>();
+    private final Set<String> emitted = new HashSet<>();
+    private final List<String> newStdIds = new ArrayList<>();
+    private final Set<String> changedEmitted = new HashSet<>();
+    private final List<String> changedStdIds = new ArrayList<>();
+
+    public ChangeDetectionSession(
+            String source,
+            String category,
+            String scope,
+            Set<String> seen,
+            NewStdIdDetector newStdIdDetector,
+            MissingStdIdDetector missingStdIdDetector
+    ) {
+        this.source = source;
+        this.category = category;
+        this.scope = scope;
+        this.seen = (seen == null) ? Set.of() : seen;
+        this.newStdIdDetector = newStdIdDetector;
+        this.missingStdIdDetector = missingStdIdDetector;
+    }
+
+    // 한 페이지의 stdId 중 신규만 반환 (앞 페이지에서 이미 신규로 나간 stdId는 다시 반환하지 않음)
+    public synchronized List<String> detectNew(List<String> pageStdIds) {
+        if (pageStdIds == null || pageStdIds.isEmpty()) return List.of();
+
+        List<String> pageNew = new ArrayList<>();
+        for (String stdId : newStdIdDetector.detect(seen, pageStdIds)) {
+            if (emitted.add(stdId)) pageNew.add(stdId);
+        }
+
+        for (String raw : pageStdIds) {
+            if (raw == null) continue;
+            String stdId = raw.trim();
+            if (!stdId.isEmpty()) current.add(stdId);
+        }
+
+        newStdIds.addAll(pageNew);
+        return List.copyOf(pageNew);
+    }
+
+    // 한 페이지의 stdId -> 체크섬 중 내용이 바뀐 것만 반환 (detectNew 이후에 호출, 신규로 나간건 제외)
+    // pageStoredChecksums : 이 페이지 stdId 들만 골라 읽은 지난번 체크섬 (전체 해쉬를 들고있지 않기 위함)
+    public synchronized List<String> detectChanged(
+            Map<String, String> pageChecksums,
+            Map<String, String> pageStoredChecksums
+    ) {
+        if (pageChecksums == null || pageChecksums.isEmpty()) return List.of();
+
+        List<String> pageChanged = new ArrayList<>();
+        for (String stdId : diffChecksums(pageChecksums, pageStoredChecksums, emitted::contains)) {
+            if (changedEmitted.add(stdId)) pageChanged.add(stdId);
+        }
+
+        changedStdIds.addAll(pageChanged);
+        return List.copyOf(pageChanged);
+    }
+
+    // 기록된 체크섬이 있고 현재와 다른 stdId (excluded 는 제외, currentChecksums 순서 유지)
+    static List<String> diffChecksums(
+            Map<String, String> currentChecksums,
+            Map<String, String> storedChecksums,
+            Predicate<String> excluded
+    ) {
+        if (storedChecksums == null || storedChecksums.isEmpty()) return List.of();
+
+        List<String> changed = new ArrayList<>();
+        currentChecksums.forEach((stdId, checksum) -> {
+            if (stdId == null || checksum == null || excluded.test(stdId)) return;
+
+            String stored = storedChecksums.get(stdId);
+            if (stored != null && !stored.equals(checksum)) changed.add(stdId);
+        });
+        return changed;
+    }
+
+    // 모든 페이지를 넘긴 뒤 호출해서 전체 요약을 만든다
+    public synchronized ChangeDetectionResult finish() {
+        List<String> missingStdIds = missingStdIdDetector.detect(seen, current);
+        IngestMetrics.diff(source, newStdIds.size(), missingStdIds.size(), changedStdIds.size());
+
+        return new ChangeDetectionResult(
+                source,
+                category,
+                scope,
+                List.copyOf(newStdIds),
+                missingStdIds,
+                current.size(),
+                seen.size(),
+                List.copyOf(changedStdIds),
+                true // 세션은 seen 전체를 들고 있어서 누락도 항상 계산함
+        );
+    }
+}
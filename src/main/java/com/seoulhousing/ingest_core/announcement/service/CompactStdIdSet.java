@@ -0,0 +1,64 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// 조회한 seen stdId 를 담는 추가 전용 Set (StdIdFingerprintSet 기반)
+// HashSet 처럼 원소마다 노드 객체를 만들지 않아서 큰 seen set 을 받을때 힙/GC 부담이 적음
+// 누락 계산에 원본 문자열이 필요하니 문자열은 그대로 들고있음, 삭제는 지원하지 않음
+public final class CompactStdIdSet extends AbstractSet<String> {
+
+    private final StdIdFingerprintSet table;
+
+    // expectedSize 를 모르면 0 (넣으면서 늘어남)
+    public CompactStdIdSet(int expectedSize) {
+        this.table = new StdIdFingerprintSet(expectedSize);
+    }
+
+    @Override
+    public boolean add(String stdId) {
+        if (stdId == null) {
+            throw new IllegalArgumentException("stdId must not be null");
+        }
+        int before = table.size();
+        table.add(stdId);
+        return table.size() != before;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return (o instanceof String s) && table.indexOf(s, 0, s.length()) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int slot = advance(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < table.capacity();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                String key = table.keyAt(slot);
+                slot = advance(slot + 1);
+                return key;
+            }
+
+            private int advance(int from) {
+                int i = from;
+                while (i < table.capacity() && table.keyAt(i) == null) i++;
+                return i;
+            }
+        };
+    }
+}
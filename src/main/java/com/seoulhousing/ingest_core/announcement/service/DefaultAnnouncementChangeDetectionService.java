@@ -2,20 +2,34 @@ package com.seoulhousing.ingest_core.announcement.service;
 
 import com.seoulhousing.ingest_core.announcement.dto.ChangeDetectionResult;
 import com.seoulhousing.ingest_core.announcement.port.SeenStdIdReaderPort;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class DefaultAnnouncementChangeDetectionService  implements AnnouncementChangeDetectionService{
 
+    private static final Logger log = LoggerFactory.getLogger(DefaultAnnouncementChangeDetectionService.class);
+
     private final NewStdIdDetector newStdIdDetector;
     private final MissingStdIdDetector missingStdIdDetector;
+    private final SeenStdIdPrefetcher seenStdIdPrefetcher;
     private final SeenStdIdReaderPort seenStdIdReaderPort;
 
+    // seen 크기가 현재 목록의 몇 배를 넘으면 set 전체를 받지 않고 서버에서 멤버십만 확인할지 (0 이하 = 항상 전체 조회)
+    @Value("${ingest.seen.membership-ratio:0}")
+    private int membershipRatio;
+
     @Override
     public ChangeDetectionResult detect(
             String source,
@@ -24,24 +38,153 @@ public class DefaultAnnouncementChangeDetectionService  implements AnnouncementC
             List<String> currentStdIds
     ) {
 
-        // Redis에 저장된 기존 stdId들
-        Set<String> seen = seenStdIdReaderPort.getSeenStdIds(source, category, scope);
+        return recordDiff(detectNewAndMissing(source, category, scope, currentStdIds));
+    }
+
+    // diff 지표는 감지 한번에 한번만 (신규/누락/변경을 같이 기록)
+    private static ChangeDetectionResult recordDiff(ChangeDetectionResult result) {
+        int newCount = result.getNewStdIds().size();
+        int changedCount = result.getChangedStdIds().size();
+        if (result.isMissingComputed()) {
+            IngestMetrics.diff(result.getSource(), newCount, result.getMissingStdIds().size(), changedCount);
+        } else {
+            IngestMetrics.diffWithoutMissing(result.getSource(), newCount, changedCount);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean usesMembershipCheck() {
+        return membershipRatio > 0;
+    }
+
+    private ChangeDetectionResult detectNewAndMissing(
+            String source,
+            String category,
+            String scope,
+            List<String> currentStdIds
+    ) {
+        // 멤버십 확인을 쓰면 비용을 비교해서 경로를 고름 (더 싸면 set 을 내려받지 않음)
+        if (membershipRatio > 0) {
+            return detectByMembershipIfCheaper(source, category, scope, currentStdIds);
+        }
+
+        // Redis에 저장된 기존 stdId들 (작업 시작때 미리 읽어둔게 있으면 그걸 사용)
+        Set<String> seen = seenStdIdPrefetcher.takeOrLoad(source, category, scope);
+
+        return fullDiff(source, category, scope, seen, currentStdIds);
+    }
+
+    @Override
+    public ChangeDetectionResult detect(
+            String source,
+            String category,
+            String scope,
+            List<String> currentStdIds,
+            Map<String, String> currentChecksums,
+            Map<String, String> storedChecksums
+    ) {
+        ChangeDetectionResult base = detectNewAndMissing(source, category, scope, currentStdIds);
+        if (currentChecksums == null || currentChecksums.isEmpty()) return recordDiff(base);
+
+        // 신규가 아닌 stdId 중 기록된 체크섬과 다른 것만 변경으로 봄 (기록이 없으면 판단하지 않음)
+        Set<String> newSet = new HashSet<>(base.getNewStdIds());
+        List<String> changed = ChangeDetectionSession.diffChecksums(currentChecksums, storedChecksums, newSet::contains);
 
-        // 신규 stdId 감지
-        List<String> newStdIds = newStdIdDetector.detect(seen, currentStdIds);
+        return recordDiff(base.withChangedStdIds(changed));
+    }
 
-        // 누락 stdId 감지
-        List<String> missingStdIds = missingStdIdDetector.detect(seen, currentStdIds);
+    // 신규/누락을 한번에 계산 (현재 목록 정규화도 한번만)
+    private static ChangeDetectionResult fullDiff(
+            String source,
+            String category,
+            String scope,
+            Set<String> seen,
+            List<String> currentStdIds
+    ) {
+        StdIdDiffEngine.Diff diff = IngestMetrics.time(IngestMetrics.DIFF,
+                () -> StdIdDiffEngine.diff(seen, currentStdIds), "source", source);
 
         // 결과 요약 DTO 생성
         return new ChangeDetectionResult(
                 source,
                 category,
                 scope,
-                newStdIds,
-                missingStdIds,
+                diff.newStdIds(),
+                diff.missingStdIds(),
                 currentStdIds == null ? 0 : currentStdIds.size(),
                 seen.size()
         );
     }
+
+    // 비용 비교 : 이미 받아둔 seen 이 있으면 그게 공짜, 아니면 SCARD 와 현재 목록 크기로 판단
+    // 전체 조회로 가면 SCARD 로 얻은 크기를 넘겨서 어댑터가 다시 묻지 않게 함
+    // 멤버십 경로에서는 seen 전체를 모르니 누락은 계산하지 않음 (missingComputed=false)
+    private ChangeDetectionResult detectByMembershipIfCheaper(
+            String source,
+            String category,
+            String scope,
+            List<String> currentStdIds
+    ) {
+        Set<String> ready = seenStdIdPrefetcher.takeIfReady(source, category, scope);
+        if (ready != null) {
+            return fullDiff(source, category, scope, ready, currentStdIds);
+        }
+
+        List<String> current = normalize(currentStdIds);
+        long seenCount = seenStdIdReaderPort.countSeen(source, category, scope);
+
+        if (seenCount <= (long) membershipRatio * Math.max(1, current.size())) {
+            Set<String> seen = seenStdIdPrefetcher.takeOrLoad(source, category, scope, seenCount);
+            return fullDiff(source, category, scope, seen, currentStdIds);
+        }
+
+        // 진행중인 미리읽기는 더이상 필요없음
+        seenStdIdPrefetcher.discard(source, category, scope);
+
+        List<String> newStdIds = current.isEmpty()
+                ? List.of()
+                : List.copyOf(seenStdIdReaderPort.filterUnseen(source, category, scope, current));
+
+        log.info("[Detect] membership mode. source={}, category={}, scope={}, seen={}, current={}",
+                source, category, scope, seenCount, current.size());
+
+        return ChangeDetectionResult.withoutMissing(
+                source,
+                category,
+                scope,
+                newStdIds,
+                currentStdIds == null ? 0 : currentStdIds.size(),
+                (int) Math.min(seenCount, Integer.MAX_VALUE)
+        );
+    }
+
+    // DefaultNewStdIdDetector 와 같은 정규화 (null/공백 제외, trim, 순서와 중복은 유지)
+    private static List<String> normalize(List<String> rawList) {
+        if (rawList == null || rawList.isEmpty()) return List.of();
+
+        List<String> out = new ArrayList<>(rawList.size());
+        for (String raw : rawList) {
+            if (raw == null) continue;
+            String stdId = raw.trim();
+            if (!stdId.isEmpty()) out.add(stdId);
+        }
+        return out;
+    }
+
+    @Override
+    public ChangeDetectionSession openSession(String source, String category, String scope) {
+
+        // 세션 동안 재사용할 seen 을 한번만 읽는다
+        Set<String> seen = seenStdIdPrefetcher.takeOrLoad(source, category, scope);
+
+        return new ChangeDetectionSession(
+                source,
+                category,
+                scope,
+                seen,
+                newStdIdDetector,
+                missingStdIdDetector
+        );
+    }
 }
@@ -4,7 +4,8 @@ import com.seoulhousing.ingest_core.announcement.port.SeenStdIdReaderPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
+import java.util.List;
+import java.util.Set;
 
 // 기본 누락 후보 감지기
 @Service
@@ -17,37 +18,7 @@ public class DefaultMissingStdIdDetector implements MissingStdIdDetector{
             return List.of();
         }
 
-        //신규 stdIds를 정규화해주기
-        Set<String> current = normalizeToSet(currentStdIds);
-
-        List<String> missing = new ArrayList<>();
-
-        for (String s : seenStdIds) {
-            if (s == null) continue;
-            String stdId = s.trim();
-            if (stdId.isEmpty()) continue;
-
-            if (!current.contains(stdId)) {
-                missing.add(stdId);
-            }
-        }
-
-
-        return List.copyOf(missing);
-    }
-
-    private static Set<String> normalizeToSet(List<String> rawList) {
-        if (rawList == null || rawList.isEmpty()) {
-            return Collections.emptySet();
-        }
-
-        Set<String> set = new HashSet<>();
-        for (String raw : rawList) {
-            if (raw == null) continue;
-            String v = raw.trim();
-            if (v.isEmpty()) continue;
-            set.add(v);
-        }
-        return set;
+        // 현재 stdId 를 지문 set 으로 한번만 정규화해서 seen 을 훑음
+        return StdIdDiffEngine.missingStdIds(seenStdIds, currentStdIds);
     }
 }
@@ -0,0 +1,91 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import com.seoulhousing.ingest_core.announcement.port.SeenStdIdReaderPort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 작업 시작시 seen set 로딩을 미리 걸어두고, 변경 감지 시점에 그 결과를 넘겨주는 컴포넌트
+// 외부 API 수집 중에 Redis 왕복이 끝나도록 해서 수집 이후의 대기시간을 없앤다
+@Component
+@RequiredArgsConstructor
+public class SeenStdIdPrefetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SeenStdIdPrefetcher.class);
+
+    private final SeenStdIdReaderPort seenStdIdReaderPort;
+
+    private final Map<String, CompletableFuture<Set<String>>> prefetched = new ConcurrentHashMap<>();
+
+    // 비동기 로딩 시작 (이미 걸려있으면 무시)
+    public void prefetch(String source, String category, String scope) {
+        prefetched.computeIfAbsent(
+                key(source, category, scope),
+                k -> seenStdIdReaderPort.getSeenStdIdsAsync(source, category, scope)
+        );
+    }
+
+    // 미리 읽어둔게 있으면 그 결과를 한번만 쓰고, 없거나 실패했으면 바로 읽는다
+    public Set<String> takeOrLoad(String source, String category, String scope) {
+        return takeOrLoad(source, category, scope, -1L);
+    }
+
+    // knownSize : 호출부가 이미 아는 seen 크기 (바로 읽을때 어댑터가 SCARD 를 다시 하지 않게 넘김, 모르면 음수)
+    public Set<String> takeOrLoad(String source, String category, String scope, long knownSize) {
+        CompletableFuture<Set<String>> future = prefetched.remove(key(source, category, scope));
+
+        if (future != null) {
+            try {
+                Set<String> seen = future.join();
+                if (seen != null) return seen;
+            } catch (CompletionException | CancellationException e) {
+                log.warn("[Seen] prefetch failed -> reload. source={}, category={}, scope={}, ex={}",
+                        source, category, scope, e.getClass().getSimpleName());
+            }
+        }
+
+        return (knownSize < 0)
+                ? seenStdIdReaderPort.getSeenStdIds(source, category, scope)
+                : seenStdIdReaderPort.getSeenStdIds(source, category, scope, knownSize);
+    }
+
+    // 미리읽기가 이미 성공적으로 끝나있을때만 그 결과를 넘겨줌 (아니면 null, 진행중인 미리읽기는 그대로 둠)
+    public Set<String> takeIfReady(String source, String category, String scope) {
+        String key = key(source, category, scope);
+        CompletableFuture<Set<String>> future = prefetched.get(key);
+
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) return null;
+
+        prefetched.remove(key, future);
+        return future.getNow(null);
+    }
+
+    // 한 카테고리의 미리읽기를 버림 (다른 경로로 판정하기로 했을때)
+    public void discard(String source, String category, String scope) {
+        CompletableFuture<Set<String>> future = prefetched.remove(key(source, category, scope));
+        if (future != null) future.cancel(false);
+    }
+
+    // 쓰이지 않은 미리읽기 정리 (다음 실행에서 오래된 seen 을 쓰지 않도록)
+    public void discardAll() {
+        prefetched.values().forEach(f -> f.cancel(false));
+        prefetched.clear();
+    }
+
+    private static String key(String source, String category, String scope) {
+        return norm(source) + ":" + norm(category) + ":" + norm(scope);
+    }
+
+    private static String norm(String raw) {
+        return (raw == null) ? "" : raw.trim().toLowerCase(Locale.ROOT);
+    }
+}
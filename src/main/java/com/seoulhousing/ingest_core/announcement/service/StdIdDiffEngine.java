@@ -0,0 +1,108 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+// 신규/누락 감지 공용 엔진
+// 현재 stdId 를 한번만 정규화해서 지문 set 으로 만들고, seen 을 한번 훑어서 신규와 누락을 같이 계산한다
+// 결과 규칙은 DefaultNewStdIdDetector / DefaultMissingStdIdDetector 와 동일
+//  - 신규 : 현재 목록 순서 그대로, 중복도 그대로 (null/공백 제외, trim)
+//  - 누락 : seen 순회 순서 그대로 (trim 한 값)
+public final class StdIdDiffEngine {
+
+    private StdIdDiffEngine() {
+    }
+
+    public record Diff(List<String> newStdIds, List<String> missingStdIds) {
+    }
+
+    // 신규 + 누락 한번에
+    public static Diff diff(Collection<String> seenStdIds, List<String> currentStdIds) {
+        return compute(seenStdIds, currentStdIds, true);
+    }
+
+    // 신규만 : seen 이 이미 Set 이면 그대로 contains 하는게 가장 싸다 (페이지 단위 감지용)
+    public static List<String> newStdIds(Set<String> seenStdIds, List<String> currentStdIds) {
+        if (currentStdIds == null || currentStdIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> seen = (seenStdIds == null) ? Set.of() : seenStdIds;
+
+        List<String> newOnes = new ArrayList<>();
+        for (String raw : currentStdIds) {
+            if (raw == null) continue;
+            String stdId = raw.trim();
+            if (stdId.isEmpty()) continue;
+
+            if (!seen.contains(stdId)) {
+                newOnes.add(stdId);
+            }
+        }
+        return Collections.unmodifiableList(newOnes);
+    }
+
+    // 누락만
+    public static List<String> missingStdIds(Collection<String> seenStdIds, List<String> currentStdIds) {
+        return compute(seenStdIds, currentStdIds, false).missingStdIds();
+    }
+
+    private static Diff compute(Collection<String> seenStdIds, List<String> currentStdIds, boolean withNew) {
+        Collection<String> seen = (seenStdIds == null) ? List.of() : seenStdIds;
+        int currentSize = (currentStdIds == null) ? 0 : currentStdIds.size();
+
+        // 1) 현재 stdId 정규화 + 지문 set (원소별 슬롯을 기억해서 신규 계산때 다시 찾지 않음)
+        StdIdFingerprintSet current = new StdIdFingerprintSet(currentSize);
+        int[] slots = new int[currentSize];
+        int n = 0;
+        if (currentStdIds != null) {
+            for (String raw : currentStdIds) {
+                if (raw == null) continue;
+                String stdId = raw.trim();
+                if (stdId.isEmpty()) continue;
+                slots[n++] = current.add(stdId);
+            }
+        }
+
+        // 2) seen 한번 순회 : 현재에 없으면 누락, 그대로 같은 값이면 그 슬롯은 신규 아님
+        // 신규 판정은 기존처럼 trim 전 seen 값과 정확히 같아야 seen 으로 본다
+        boolean[] seenExact = withNew ? new boolean[current.capacity()] : null;
+        List<String> missing = new ArrayList<>();
+
+        for (String s : seen) {
+            if (s == null) continue;
+
+            int to = s.length();
+            int from = 0;
+            while (from < to && s.charAt(from) <= ' ') from++;
+            while (to > from && s.charAt(to - 1) <= ' ') to--;
+            if (from == to) continue;
+
+            boolean untrimmed = (from == 0 && to == s.length());
+            int slot = (n == 0) ? -1 : current.indexOf(s, from, to);
+
+            if (slot < 0) {
+                missing.add(untrimmed ? s : s.substring(from, to));
+            } else if (withNew && untrimmed) {
+                seenExact[slot] = true;
+            }
+        }
+
+        if (!withNew) {
+            return new Diff(List.of(), Collections.unmodifiableList(missing));
+        }
+
+        // 3) 현재 순서대로 seen 에 없던 것만 신규
+        List<String> newOnes = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (!seenExact[slots[i]]) {
+                newOnes.add(current.keyAt(slots[i]));
+            }
+        }
+
+        return new Diff(Collections.unmodifiableList(newOnes), Collections.unmodifiableList(missing));
+    }
+}
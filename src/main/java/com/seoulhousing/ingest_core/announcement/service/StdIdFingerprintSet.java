@@ -0,0 +1,112 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import com.seoulhousing.ingest_core.common.Fingerprints;
+
+// 지문(long) 기반 오픈 어드레싱 set (선형 탐사)
+// 지문 배열과 같은 인덱스에 원본 문자열을 두고, 지문이 같을때만 문자열 비교를 한다
+// 예상 크기로 만들면 리사이즈 없이 적재율 0.5 이하, 예상보다 많이 넣으면 두배로 늘림 (이때 이전 슬롯 번호는 무효)
+final class StdIdFingerprintSet {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] fingerprints;
+    private String[] keys;
+    private int mask;
+    private int size;
+
+    StdIdFingerprintSet(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(4, expectedSize) * 2L);
+        this.fingerprints = new long[capacity];
+        this.keys = new String[capacity];
+        this.mask = capacity - 1;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String keyAt(int slot) {
+        return keys[slot];
+    }
+
+    // 없으면 넣고, 있으면 기존 슬롯을 반환
+    int add(String key) {
+        long fp = Fingerprints.of(key);
+        int i = probe(fp, key);
+        if (keys[i] != null) {
+            return i;
+        }
+
+        if (size + 1 > (keys.length >> 1)) {
+            grow();
+            i = probe(fp, key);
+        }
+        keys[i] = key;
+        fingerprints[i] = fp;
+        size++;
+        return i;
+    }
+
+    // raw 의 [from, to) 구간과 같은 키의 슬롯 (없으면 -1)
+    int indexOf(String raw, int from, int to) {
+        long fp = Fingerprints.of(raw, from, to);
+        int len = to - from;
+        int i = (int) fp & mask;
+
+        while (true) {
+            String k = keys[i];
+            if (k == null) {
+                return -1;
+            }
+            if (fingerprints[i] == fp && k.length() == len && raw.regionMatches(from, k, 0, len)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    // key 가 있는 슬롯, 없으면 넣을 빈 슬롯
+    private int probe(long fp, String key) {
+        int i = (int) fp & mask;
+        while (true) {
+            String k = keys[i];
+            if (k == null || (fingerprints[i] == fp && k.equals(key))) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        long[] oldFingerprints = fingerprints;
+        String[] oldKeys = keys;
+        int capacity = tableSizeFor(oldKeys.length * 2L);
+
+        fingerprints = new long[capacity];
+        keys = new String[capacity];
+        mask = capacity - 1;
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            String k = oldKeys[j];
+            if (k == null) continue;
+
+            int i = (int) oldFingerprints[j] & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = k;
+            fingerprints[i] = oldFingerprints[j];
+        }
+    }
+
+    private static int tableSizeFor(long wanted) {
+        if (wanted >= MAX_CAPACITY) {
+            throw new IllegalArgumentException("stdId set too large: " + wanted);
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.seoulhousing.ingest_core.common;
+
+// 문자열의 64비트 지문 (비암호화 해시, FNV-1a + 비트 섞기)
+// stdId 지문(StdIdFingerprintSet)과 내용 체크섬(IngestItemChecksums)이 같이 씀
+// 지문이 같아도 다른 문자열일 수 있으니 판정은 항상 지문 비교 후 문자열 비교로 확정해야 함
+public final class Fingerprints {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Fingerprints() {
+    }
+
+    public static long of(CharSequence s) {
+        return of(s, 0, s.length());
+    }
+
+    // [from, to) 구간만 해시 (trim 한 문자열을 새로 만들지 않고 지문을 구하기 위함)
+    public static long of(CharSequence s, int from, int to) {
+        long h = FNV_OFFSET;
+        for (int i = from; i < to; i++) {
+            h ^= s.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return mix(h ^ (to - from));
+    }
+
+    // 하위 비트까지 고르게 퍼지도록 섞기 (테이블 인덱스로 하위 비트를 씀)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,113 @@
+package com.seoulhousing.ingest_core.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 호스트별로 동시에 나가는 요청 수를 제한하는 인터셉터
+// 자리는 응답 바디를 다 읽고 close 될때 반납 (헤더만 받고 반납하면 본문 다운로드가 상한 밖으로 샘)
+class HostConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int maxPerHost;
+    private final long permitTimeoutMs;
+    private final ConcurrentHashMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    HostConcurrencyLimitInterceptor(int maxPerHost, long permitTimeoutMs) {
+        if (maxPerHost < 1) {
+            throw new IllegalArgumentException("maxPerHost must be >= 1");
+        }
+        this.maxPerHost = maxPerHost;
+        this.permitTimeoutMs = permitTimeoutMs;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+
+        String host = request.getURI().getHost();
+        Semaphore semaphore = permits.computeIfAbsent(host == null ? "" : host, h -> new Semaphore(maxPerHost));
+
+        acquire(semaphore, host);
+
+        try {
+            return new PermitReleasingResponse(execution.execute(request, body), semaphore);
+        } catch (IOException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    // 테스트/진단용: 지금 비어있는 자리 수
+    int availablePermits(String host) {
+        Semaphore semaphore = permits.get(host);
+        return semaphore == null ? maxPerHost : semaphore.availablePermits();
+    }
+
+    private void acquire(Semaphore semaphore, String host) throws IOException {
+        try {
+            if (!semaphore.tryAcquire(permitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                // RestClient 가 ResourceAccessException 으로 감싸서 기존 재시도 정책을 그대로 탐
+                throw new IOException("host concurrency permit timeout. host=" + host
+                        + ", max=" + maxPerHost + ", waitedMs=" + permitTimeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for host permit. host=" + host);
+        }
+    }
+
+    // close 가 여러번 불려도 자리는 한번만 반납
+    private static final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate, Semaphore semaphore) {
+            this.delegate = delegate;
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.seoulhousing.ingest_core.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.net.http.HttpClient;
+
+// RestClient 들이 공유하는 JDK HttpClient 설정 (ingest.http)
+// 타임아웃은 대상별 properties(external.*, main-server) 에 그대로 둠
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "ingest.http")
+public class HttpClientProperties {
+
+    // 외부(MyHome/SH) 요청 HTTP 버전
+    // HTTP_2 여도 서버가 지원하지 않으면 (ALPN/업그레이드 실패) HTTP/1.1 로 내려감
+    private final HttpClient.Version version;
+
+    // 메인서버 요청 HTTP 버전
+    // 평문 http 에서 HTTP_2 는 POST 마다 h2c 업그레이드를 시도하므로 기본은 HTTP_1_1
+    private final HttpClient.Version mainServerVersion;
+
+    // MyHome 호스트로 동시에 나가는 요청 수 상한 (파이프라인/페이지 병렬을 다 합친 값)
+    // MyHome 동시성 상한은 이것 하나 : 속도 조절기는 초당 호출 수만, 브레이커는 열림/닫힘만 보고 벌크헤드는 두지 않음
+    // ingest.myhome.page-concurrency 는 파이프라인 하나가 미리 요청해두는 페이지 수(버퍼 크기)라서 이 값을 넘으면 여기서 기다림
+    @Min(1)
+    private final int myhomeMaxConcurrentPerHost;
+
+    // 상한에 걸렸을때 자리를 기다리는 최대 시간(ms), 넘으면 I/O 오류로 처리되어 재시도 대상이 됨
+    @Min(1)
+    private final long permitTimeoutMs;
+
+    public HttpClientProperties(
+            @DefaultValue("HTTP_2") HttpClient.Version version,
+            @DefaultValue("HTTP_1_1") HttpClient.Version mainServerVersion,
+            @DefaultValue("4") int myhomeMaxConcurrentPerHost,
+            @DefaultValue("30000") long permitTimeoutMs
+    ) {
+        this.version = version;
+        this.mainServerVersion = mainServerVersion;
+        this.myhomeMaxConcurrentPerHost = myhomeMaxConcurrentPerHost;
+        this.permitTimeoutMs = permitTimeoutMs;
+    }
+}
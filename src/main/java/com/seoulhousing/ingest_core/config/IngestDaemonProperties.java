@@ -0,0 +1,48 @@
+package com.seoulhousing.ingest_core.config;
+
+import com.seoulhousing.ingest_core.mainserver.dto.IngestPipeline;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+
+// 상주 모드(ingest.oneshot.enabled=false) 파이프라인별 실행 주기
+// 예) ingest.daemon.schedules.sh-rss.fixed-delay=5m
+//     ingest.daemon.schedules.myhome-rsdt.cron=0 0 */6 * * *
+// 주기가 없는 파이프라인은 상주 모드에서 실행하지 않음
+@Getter
+@ConfigurationProperties(prefix = "ingest.daemon")
+public class IngestDaemonProperties {
+
+    private final Map<IngestPipeline, Schedule> schedules;
+
+    // cron 을 해석할 시간대
+    private final ZoneId zone;
+
+    public IngestDaemonProperties(
+            Map<IngestPipeline, Schedule> schedules,
+            @DefaultValue("Asia/Seoul") ZoneId zone
+    ) {
+        this.schedules = (schedules == null) ? Map.of() : Map.copyOf(schedules);
+        this.zone = zone;
+    }
+
+    // cron 과 fixed-delay 중 하나만 지정 (fixed-delay 는 이전 실행이 끝난 뒤부터 잼)
+    public record Schedule(
+            String cron,
+            Duration fixedDelay,
+            @DefaultValue("0s") Duration initialDelay
+    ) {
+
+        public boolean hasCron() {
+            return cron != null && !cron.isBlank();
+        }
+
+        public boolean hasFixedDelay() {
+            return fixedDelay != null && !fixedDelay.isZero() && !fixedDelay.isNegative();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.seoulhousing.ingest_core.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 원샷/상주 모드 스위치 (ingest.oneshot.enabled)
+// AOT 는 빌드때 @ConditionalOnProperty 결과를 고정하므로 빈 조건으로 쓰지 않고 러너가 실행 시점에 이 값을 봄
+@Component
+public class IngestRunMode {
+
+    private final boolean oneShot;
+
+    public IngestRunMode(@Value("${ingest.oneshot.enabled:true}") boolean oneShot) {
+        this.oneShot = oneShot;
+    }
+
+    public boolean isOneShot() {
+        return oneShot;
+    }
+}
@@ -0,0 +1,25 @@
+package com.seoulhousing.ingest_core.config;
+
+import com.seoulhousing.ingest_core.mainserver.dto.IngestPipeline;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// 상주 모드 전용 스케줄러
+// 파이프라인마다 스레드 하나씩 두어서 긴 마이홈 크롤링이 SH 폴링을 막지 않게 함
+// AOT 가 빈 조건을 고정하므로 모드와 상관없이 만들어 둠 (원샷에선 작업을 안 걸어서 스레드도 안 뜸)
+@Configuration
+public class IngestSchedulerConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler ingestTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(IngestPipeline.values().length);
+        scheduler.setThreadNamePrefix("ingest-sched-");
+
+        // 종료시 실행중인 회차는 끝까지 (seen/체크섬 기록이 중간에 끊기지 않도록)
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(60);
+        return scheduler;
+    }
+}
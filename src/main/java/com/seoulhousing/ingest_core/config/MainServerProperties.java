@@ -1,8 +1,10 @@
 package com.seoulhousing.ingest_core.config;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 @Getter
@@ -18,8 +20,52 @@ public class MainServerProperties {
     @NotBlank
     private final String ingestPath;
 
-    public MainServerProperties(String baseUrl, String ingestPath) {
+    // 요청 한번에 담을 최대 아이템 수
+    @Min(1)
+    private final int chunkMaxItems;
+
+    // 요청 한번의 예상 JSON 크기 상한(byte)
+    @Min(1024)
+    private final long chunkMaxBytes;
+
+    // 동시에 보내는 청크 수
+    @Min(1)
+    private final int maxInFlightChunks;
+
+    // 요청 바디 gzip 압축 여부 (Content-Encoding: gzip)
+    private final boolean gzipEnabled;
+
+    // 이 크기(byte)보다 작은 바디는 압축하지 않음
+    @Min(0)
+    private final int gzipMinBytes;
+
+    // 연결 타임아웃(ms)
+    @Min(100)
+    private final long connectTimeoutMs;
+
+    // 응답 타임아웃(ms), 청크 하나를 보내고 응답받기까지
+    @Min(100)
+    private final long readTimeoutMs;
+
+    public MainServerProperties(
+            String baseUrl,
+            String ingestPath,
+            @DefaultValue("500") int chunkMaxItems,
+            @DefaultValue("1048576") long chunkMaxBytes,
+            @DefaultValue("2") int maxInFlightChunks,
+            @DefaultValue("false") boolean gzipEnabled,
+            @DefaultValue("1024") int gzipMinBytes,
+            @DefaultValue("2000") long connectTimeoutMs,
+            @DefaultValue("10000") long readTimeoutMs
+    ) {
         this.baseUrl = baseUrl;
         this.ingestPath = ingestPath;
+        this.chunkMaxItems = chunkMaxItems;
+        this.chunkMaxBytes = chunkMaxBytes;
+        this.maxInFlightChunks = maxInFlightChunks;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
     }
 }
@@ -0,0 +1,32 @@
+package com.seoulhousing.ingest_core.config;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 수집 계측용 레지스트리
+// IngestMetrics 가 전역 레지스트리에 기록하므로 여기서 만든 레지스트리를 전역에 붙여줌
+// ingest.metrics.enabled 는 AOT 에서 고정되지 않도록 빈 조건 대신 실행 시점에 읽음 (끄면 전역에 안 붙여서 기록이 버려짐)
+@Configuration
+public class MetricsConfig {
+
+    // 컨텍스트가 닫히면 close 에서 전역에서도 떼어냄 (테스트 컨텍스트 재시작 등으로 닫힌 레지스트리가 쌓이지 않게)
+    @Bean(destroyMethod = "close")
+    public SimpleMeterRegistry ingestMeterRegistry(@Value("${ingest.metrics.enabled:true}") boolean enabled) {
+        SimpleMeterRegistry registry = new GlobalSimpleMeterRegistry();
+        if (enabled) Metrics.addRegistry(registry);
+        return registry;
+    }
+
+    // 닫힐때 전역 레지스트리에서 스스로 빠지는 레지스트리
+    static final class GlobalSimpleMeterRegistry extends SimpleMeterRegistry {
+
+        @Override
+        public void close() {
+            Metrics.removeRegistry(this);
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.seoulhousing.ingest_core.config;
+
+import com.seoulhousing.ingest_core.resilience.Dependency;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 의존별 서킷브레이커/벌크헤드 설정 (ingest.resilience)
+// 예) ingest.resilience.dependencies.sh-rss.failure-threshold=3
+// 지정하지 않은 의존은 Policy 기본값을 씀
+@Getter
+@ConfigurationProperties(prefix = "ingest.resilience")
+public class ResilienceProperties {
+
+    private final boolean enabled;
+
+    private final Map<Dependency, Policy> dependencies;
+
+    public ResilienceProperties(
+            @DefaultValue("false") boolean enabled,
+            Map<Dependency, Policy> dependencies
+    ) {
+        this.enabled = enabled;
+        this.dependencies = (dependencies == null) ? Map.of() : Map.copyOf(dependencies);
+    }
+
+    public Policy policy(Dependency dependency) {
+        return dependencies.getOrDefault(dependency, Policy.DEFAULT);
+    }
+
+    // failureThreshold : 재시도까지 다 실패한 호출이 연속 몇번이면 여는지
+    // openDuration : 열린 뒤 시험 호출까지 기다리는 시간 (레디스에 남아서 다음 원샷 실행도 이어받음)
+    // halfOpenProbes : 반열림 상태에서 동시에 허용하는 시험 호출 수
+    // maxConcurrent / maxQueue / maxWait : 벌크헤드 동시 호출 수, 대기 수, 대기 시간
+    public record Policy(
+            @DefaultValue("5") int failureThreshold,
+            @DefaultValue("60s") Duration openDuration,
+            @DefaultValue("1") int halfOpenProbes,
+            @DefaultValue("8") int maxConcurrent,
+            @DefaultValue("16") int maxQueue,
+            @DefaultValue("30s") Duration maxWait
+    ) {
+        static final Policy DEFAULT = new Policy(5, Duration.ofSeconds(60), 1, 8, 16, Duration.ofSeconds(30));
+    }
+}
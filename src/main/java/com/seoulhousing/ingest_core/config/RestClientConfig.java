@@ -1,5 +1,6 @@
 package com.seoulhousing.ingest_core.config;
 
+import jakarta.annotation.PreDestroy;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +8,8 @@ import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 
@@ -14,36 +17,50 @@ import java.time.Duration;
 @EnableConfigurationProperties({
         ExternalMyHomeProperties.class,
         ExternalShRssProperties.class,
-        MainServerProperties.class
+        MainServerProperties.class,
+        HttpClientProperties.class
 })
 public class RestClientConfig {
 
-    @Bean("myHomeRestClient")
-    public RestClient myHomeRestClient(ExternalMyHomeProperties properties) {
-        // JDK 기본 HttpClient를 생성하고 타임 아웃을 설정한다
-        HttpClient httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
-                .build();
+    // 세 HttpClient 가 같이 쓰는 가상스레드 executor
+    // (HttpClient 기본값은 클라이언트마다 캐시 스레드풀을 따로 만듦)
+    // 동기 send 는 호출한 스레드에서 돌고, 이 executor 는 HttpClient 내부 비동기 처리에만 쓰임
+    // Executor 타입 빈으로 올리면 부트 기본 applicationTaskExecutor 가 빠지므로 빈으로 노출하지 않음
+    private final ExecutorService httpClientExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-client-", 0).factory());
 
-        // 스프링 RestClient가 사용할 요청 팩토리를 만든다
-        // 응답 타임아웃 설정가능하다
-        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
-        requestFactory.setReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()));
+    @PreDestroy
+    void closeHttpClientExecutor() {
+        httpClientExecutor.close();
+    }
 
+    @Bean("myHomeRestClient")
+    public RestClient myHomeRestClient(
+            ExternalMyHomeProperties properties,
+            HttpClientProperties http
+    ) {
+        // 스프링 RestClient가 사용할 요청 팩토리를 만든다 (연결/응답 타임아웃 포함)
+        JdkClientHttpRequestFactory requestFactory = requestFactory(
+                httpClientExecutor, http.getVersion(),
+                properties.getConnectTimeoutMs(), properties.getReadTimeoutMs());
+
+        // 공공데이터 API 는 호출량 제한이 있어서 호스트당 동시 요청 수를 묶어둠
         return RestClient.builder()
                 .baseUrl(properties.getBaseUrl())
                 .requestFactory(requestFactory)
+                .requestInterceptor(new HostConcurrencyLimitInterceptor(
+                        http.getMyhomeMaxConcurrentPerHost(), http.getPermitTimeoutMs()))
                 .build();
     }
 
     @Bean("shRssRestClient")
-    public RestClient shRssRestClient(ExternalShRssProperties properties) {
-        HttpClient httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
-                .build();
-
-        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
-        requestFactory.setReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()));
+    public RestClient shRssRestClient(
+            ExternalShRssProperties properties,
+            HttpClientProperties http
+    ) {
+        JdkClientHttpRequestFactory requestFactory = requestFactory(
+                httpClientExecutor, http.getVersion(),
+                properties.getConnectTimeoutMs(), properties.getReadTimeoutMs());
 
         return RestClient.builder()
                 .requestFactory(requestFactory)
@@ -52,17 +69,36 @@ public class RestClientConfig {
 
     //메인 서버 ingest 호출용 RestClient
     @Bean("mainServerRestClient")
-    public RestClient mainServerRestClient(MainServerProperties properties) {
-        HttpClient httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(2))
-                .build();
-
-        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
-        requestFactory.setReadTimeout(Duration.ofSeconds(10));
+    public RestClient mainServerRestClient(
+            MainServerProperties properties,
+            HttpClientProperties http
+    ) {
+        JdkClientHttpRequestFactory requestFactory = requestFactory(
+                httpClientExecutor, http.getMainServerVersion(),
+                properties.getConnectTimeoutMs(), properties.getReadTimeoutMs());
 
         return RestClient.builder()
                 .baseUrl(properties.getBaseUrl())
                 .requestFactory(requestFactory)
                 .build();
     }
+
+    // JDK HttpClient 는 클라이언트 안에서 호스트별로 커넥션을 풀링/재사용함 (keep-alive, HTTP/2 는 다중화)
+    // 대상 호스트가 서로 달라서 클라이언트는 대상별로 두고 executor 만 공유
+    private static JdkClientHttpRequestFactory requestFactory(
+            ExecutorService executor,
+            HttpClient.Version version,
+            long connectTimeoutMs,
+            long readTimeoutMs
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(version)
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return requestFactory;
+    }
 }
@@ -4,16 +4,22 @@ import com.seoulhousing.ingest_core.config.ExternalMyHomeProperties;
 import com.seoulhousing.ingest_core.external.myhome.dto.LtRsdtListRequest;
 import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeListResponse;
 import com.seoulhousing.ingest_core.external.myhome.dto.RsdtListRequest;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import com.seoulhousing.ingest_core.resilience.Dependency;
+import com.seoulhousing.ingest_core.resilience.DependencyGuard;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 @Component
@@ -27,58 +33,104 @@ public class MyHomeApiClient {
     private final RestClient myHomeRestClient;
     private final ExternalMyHomeProperties properties;
     private final MyHomeRetryExecutor retry;
+    private final MyHomeRateLimiter rateLimiter;
+    private final DependencyGuard guard;
 
     private static final String PATH_RSDT_LIST = "/rsdtRcritNtcList";     // 공공임대
     private static final String PATH_LTRSDT_LIST = "/ltRsdtRcritNtcList"; // 공공분양
 
+    // 공공데이터포털 결과코드 중 속도를 줄여야 하는 것
+    // 22 : LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR (호출 한도 초과)
+    // 05 : SERVICETIME_OUT (제공기관 서비스 지연)
+    private static final Set<String> THROTTLE_RESULT_CODES = Set.of("22", "05");
+
     public MyHomeApiClient(
             @Qualifier("myHomeRestClient") RestClient myHomeRestClient,
             ExternalMyHomeProperties properties,
-            MyHomeRetryExecutor retry
+            MyHomeRetryExecutor retry,
+            MyHomeRateLimiter rateLimiter,
+            DependencyGuard guard
     ) {
         this.myHomeRestClient = myHomeRestClient;
         this.properties = properties;
         this.retry = retry;
+        this.rateLimiter = rateLimiter;
+        this.guard = guard;
     }
 
     // 공공임대
     public MyHomeListResponse fetchRsdt(RsdtListRequest request) {
         if (request == null) throw new IllegalArgumentException("request must not be null");
-        return retry.run("RSDT", () -> callRsdt(request.toQueryParams()));
+        return guard.call(Dependency.MYHOME, "RSDT",
+                () -> retry.run("RSDT", () -> callRsdt(request.toQueryParams())));
     }
 
     //공공분양
     public MyHomeListResponse fetchLtRsdt(LtRsdtListRequest request) {
         if (request == null) throw new IllegalArgumentException("request must not be null");
-        return retry.run("LTRSDT", () -> callLtRsdt(request.toQueryParams()));
+        return guard.call(Dependency.MYHOME, "LTRSDT",
+                () -> retry.run("LTRSDT", () -> callLtRsdt(request.toQueryParams())));
     }
 
     // 공공임대 전용 콜
     private MyHomeListResponse callRsdt(MultiValueMap<String, String> queryParams) {
-        URI uri = buildUri(PATH_RSDT_LIST, queryParams);
-        String safeUri = toSafeLogUri(uri); //안전하게 마스킹 해두기
-
-        RestClient.RequestHeadersSpec<?> spec = myHomeRestClient.get().uri(uri);
-        spec = spec.accept(MediaType.APPLICATION_JSON);
-
-        MyHomeListResponse res = spec.retrieve().body(MyHomeListResponse.class);
-
-        validateResponse("RSDT", safeUri, res);
-        return res;
+        return callList("RSDT", PATH_RSDT_LIST, queryParams);
     }
 
     // 공공분양 전용 콜
     private MyHomeListResponse callLtRsdt(MultiValueMap<String, String> queryParams) {
-        URI uri = buildUri(PATH_LTRSDT_LIST, queryParams);
+        return callList("LTRSDT", PATH_LTRSDT_LIST, queryParams);
+    }
+
+    // 목록 한 페이지 호출 (재시도 한번마다 속도 조절기 자리를 받고 결과 신호를 돌려줌)
+    private MyHomeListResponse callList(String category, String path, MultiValueMap<String, String> queryParams) {
+        URI uri = buildUri(path, queryParams);
         String safeUri = toSafeLogUri(uri); //안전하게 마스킹 해두기
 
-        RestClient.RequestHeadersSpec<?> spec = myHomeRestClient.get().uri(uri);
-        spec = spec.accept(MediaType.APPLICATION_JSON);
+        IngestMetrics.time(IngestMetrics.MYHOME_LIMITER_WAIT, rateLimiter::acquire, "category", category);
+        MyHomeRateLimiter.Signal signal = MyHomeRateLimiter.Signal.IGNORED;
+        try {
+            RestClient.RequestHeadersSpec<?> spec = myHomeRestClient.get().uri(uri);
+            spec = spec.accept(MediaType.APPLICATION_JSON);
+
+            // 실제 호출은 body() 에서 일어나므로 그 구간만 잼
+            RestClient.ResponseSpec response = spec.retrieve();
+            MyHomeListResponse res = IngestMetrics.time(IngestMetrics.MYHOME_PAGE_FETCH,
+                    () -> response.body(MyHomeListResponse.class), "category", category);
+
+            signal = isQuotaThrottled(category, res)
+                    ? MyHomeRateLimiter.Signal.THROTTLED
+                    : MyHomeRateLimiter.Signal.SUCCESS;
+
+            validateResponse(category, safeUri, res);
+            recordPageItems(category, res);
+            return res;
+        } catch (RestClientResponseException e) {
+            if (isThrottleStatus(e.getStatusCode())) {
+                signal = MyHomeRateLimiter.Signal.THROTTLED;
+                log.warn("[MyHome][{}] throttled by status. uri={}, status={}",
+                        category, safeUri, e.getStatusCode().value());
+                IngestMetrics.count(IngestMetrics.MYHOME_THROTTLED, 1,
+                        "category", category, "reason", "http" + e.getStatusCode().value());
+            }
+            throw e;
+        } finally {
+            rateLimiter.release(signal);
+        }
+    }
 
-        MyHomeListResponse res = spec.retrieve().body(MyHomeListResponse.class);
+    // 429 와 5xx 는 서버가 버거워하는 신호로 보고 속도를 줄임
+    private static boolean isThrottleStatus(HttpStatusCode status) {
+        return status.value() == 429 || status.is5xxServerError();
+    }
 
-        validateResponse("LTRSDT", safeUri, res);
-        return res;
+    // 200 으로 오지만 결과코드로 쿼터 초과/서비스 지연을 알려주는 경우
+    private static boolean isQuotaThrottled(String category, MyHomeListResponse res) {
+        String code = (res == null) ? null : res.getResultCode();
+        if (code == null || !THROTTLE_RESULT_CODES.contains(code)) return false;
+
+        IngestMetrics.count(IngestMetrics.MYHOME_THROTTLED, 1, "category", category, "reason", "code" + code);
+        return true;
     }
 
     // 응답구조 및 성공 코드 검증
@@ -129,6 +181,11 @@ public class MyHomeApiClient {
         }
     }
 
+    // 페이지당 아이템 수 (NODATA 는 0)
+    private static void recordPageItems(String category, MyHomeListResponse res) {
+        IngestMetrics.record(IngestMetrics.MYHOME_PAGE_ITEMS, res.itemsOrEmpty().size(), "category", category);
+    }
+
     private static String toSafeLogUri(URI uri) {
         if (uri == null) return "null";
 
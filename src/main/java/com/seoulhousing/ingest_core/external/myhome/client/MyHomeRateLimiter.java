@@ -0,0 +1,170 @@
+package com.seoulhousing.ingest_core.external.myhome.client;
+
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// MyHome 공공데이터 API 호출 속도 조절기
+// - 토큰 버킷 : 초당 rate 개, 최대 burst 개까지 몰아서 허용
+// - 속도는 AIMD 로 움직임 (성공하면 조금씩 올리고, 스로틀 신호면 backoffRatio 배로 깎음)
+// 동시성은 여기서 제한하지 않음 : MyHome 동시 요청 상한은 ingest.http.myhome-max-concurrent-per-host 하나가 담당
+// 재시도 한번 한번이 다 acquire 를 거치므로 재시도도 지금 속도에 맞춰 나감
+@Component
+public class MyHomeRateLimiter {
+
+    // 호출 결과가 속도 조절에 주는 신호
+    public enum Signal {
+        SUCCESS,    // 정상 응답 -> 속도 증가
+        THROTTLED,  // 429/5xx/쿼터 결과코드 -> 속도 감소
+        IGNORED     // 그 외 실패(파싱 오류 등) -> 그대로
+    }
+
+    // 성공 한번에 올리는 속도 (maxRate 의 5%, 바닥에서 최대까지 약 20번)
+    private static final double RATE_INCREASE_FRACTION = 0.05;
+
+    // 한번 깎은 뒤 이 시간 안에 들어온 스로틀 신호는 같은 혼잡으로 보고 다시 깎지 않음
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final double maxRate;
+    private final double minRate;
+    private final int burst;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // 아래는 lock 으로 보호
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private long decreasedAt;
+
+    public MyHomeRateLimiter(
+            @Value("${ingest.myhome.rate-limit.enabled:false}") boolean enabled,
+            @Value("${ingest.myhome.rate-limit.max-per-second:10}") double maxRate,
+            @Value("${ingest.myhome.rate-limit.min-per-second:1}") double minRate,
+            @Value("${ingest.myhome.rate-limit.burst:5}") int burst,
+            @Value("${ingest.myhome.rate-limit.backoff-ratio:0.5}") double backoffRatio
+    ) {
+        this(enabled, maxRate, minRate, burst, backoffRatio, System::nanoTime);
+    }
+
+    MyHomeRateLimiter(
+            boolean enabled,
+            double maxRate,
+            double minRate,
+            int burst,
+            double backoffRatio,
+            LongSupplier nanoClock
+    ) {
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException("rate must satisfy 0 < min <= max. min=" + minRate + ", max=" + maxRate);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be >= 1");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1)");
+        }
+
+        this.enabled = enabled;
+        this.maxRate = maxRate;
+        this.minRate = minRate;
+        this.burst = burst;
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+
+        // 처음엔 최대치로 시작하고 스로틀을 받으면 내려감
+        this.rate = maxRate;
+        this.tokens = burst;
+        this.refilledAt = nanoClock.getAsLong();
+        this.decreasedAt = refilledAt - DECREASE_COOLDOWN_NANOS;
+
+        IngestMetrics.gauge(IngestMetrics.MYHOME_LIMITER_RATE, this, MyHomeRateLimiter::currentRate);
+    }
+
+    // 토큰 하나를 얻을때까지 기다림
+    // 호출이 끝난 뒤 release 로 결과 신호를 돌려줘야 속도가 조절됨
+    public void acquire() {
+        if (!enabled) return;
+
+        lock.lock();
+        try {
+            while (true) {
+                refill();
+                if (tokens >= 1.0) {
+                    tokens -= 1.0;
+                    return;
+                }
+                changed.awaitNanos(Math.max(1, nanosUntilNextToken()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("myhome rate limiter interrupted", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(Signal signal) {
+        if (!enabled) return;
+
+        lock.lock();
+        try {
+            if (signal == Signal.SUCCESS) {
+                increase();
+            } else if (signal == Signal.THROTTLED) {
+                decrease();
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 가산 증가 : maxRate 의 일정 비율만큼
+    private void increase() {
+        rate = Math.min(maxRate, rate + maxRate * RATE_INCREASE_FRACTION);
+    }
+
+    // 승산 감소 : 모아둔 토큰도 버려서 바로 다음 호출부터 느려지게 함
+    private void decrease() {
+        long now = nanoClock.getAsLong();
+        if (now - decreasedAt < DECREASE_COOLDOWN_NANOS) return;
+        decreasedAt = now;
+
+        refill();
+        rate = Math.max(minRate, rate * backoffRatio);
+        tokens = Math.min(tokens, 0.0);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - refilledAt;
+        if (elapsed <= 0) return;
+
+        tokens = Math.min(burst, tokens + rate * elapsed / 1_000_000_000.0);
+        refilledAt = now;
+    }
+
+    private long nanosUntilNextToken() {
+        double missing = 1.0 - tokens;
+        return (long) Math.ceil(missing / rate * 1_000_000_000.0);
+    }
+
+    double currentRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
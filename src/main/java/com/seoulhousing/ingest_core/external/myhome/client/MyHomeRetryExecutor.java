@@ -1,11 +1,13 @@
 package com.seoulhousing.ingest_core.external.myhome.client;
 
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
 import java.util.function.Supplier;
@@ -16,11 +18,13 @@ public class MyHomeRetryExecutor {
 
 
     @Retryable(
-            retryFor = ResourceAccessException.class,
+            // 429 는 속도 조절기가 이미 속도를 줄였으므로 다음 시도는 줄어든 속도로 나감
+            retryFor = {ResourceAccessException.class, HttpClientErrorException.TooManyRequests.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 300, multiplier = 2.0, maxDelay = 2000)
     )
     public <T> T run(String label, Supplier<T> supplier) {
+        IngestMetrics.retryAttempt("myhome", label); // 재시도면 카운트
         return supplier.get();
     }
 
@@ -29,7 +33,18 @@ public class MyHomeRetryExecutor {
 
         // 최종 실패 로그
         log.error("[MyHome][{}] retry exhausted. ex={}", label, e.getClass().getSimpleName());
+        IngestMetrics.retryExhausted("myhome", label);
 
         throw new IllegalStateException("MyHome API 재시도 실패: " , e);
     }
+
+    @Recover
+    public <T> T recover(HttpClientErrorException.TooManyRequests e, String label, Supplier<T> supplier) {
+
+        // 줄인 속도로도 계속 429 면 호출 한도를 다 쓴 것
+        log.error("[MyHome][{}] retry exhausted by throttling. status={}", label, e.getStatusCode().value());
+        IngestMetrics.retryExhausted("myhome", label);
+
+        throw new IllegalStateException("MyHome API 호출 한도 초과로 재시도 실패: ", e);
+    }
 }
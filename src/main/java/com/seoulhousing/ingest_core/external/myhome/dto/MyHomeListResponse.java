@@ -36,6 +36,12 @@ public class MyHomeListResponse {
         return response.body.totalCount;
     }
 
+    // 서버가 실제로 적용한 페이지 크기 (요청값보다 작게 잘라서 줄 수 있음)
+    public String numOfRowsOrNull() {
+        if (response == null || response.body == null) return null;
+        return response.body.numOfRows;
+    }
+
     @Getter
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Response {
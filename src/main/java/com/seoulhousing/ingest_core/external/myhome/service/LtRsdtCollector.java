@@ -5,8 +5,12 @@ import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
 
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface LtRsdtCollector {
 
     List<MyHomeItemDto> collect(LtRsdtListRequest request);
+
+    // 페이지를 받는 즉시 넘겨준다 (전체를 리스트에 모으지 않음)
+    void forEachPage(LtRsdtListRequest request, Consumer<List<MyHomeItemDto>> pageConsumer);
 }
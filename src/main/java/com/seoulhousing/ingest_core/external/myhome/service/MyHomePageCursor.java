@@ -9,13 +9,20 @@ import java.util.function.IntFunction;
 
 // 페이지 전용 객체
 public final class MyHomePageCursor {
-    private int pageNo = 1;
+    private int pageNo;
     private boolean finished = false;
 
     private final IntFunction<MyHomeListResponse> fetchByPageNo;
 
     public MyHomePageCursor(IntFunction<MyHomeListResponse> fetchByPageNo) {
+        this(fetchByPageNo, 1);
+    }
+
+    // 중간 페이지부터 이어서 읽을때 사용
+    MyHomePageCursor(IntFunction<MyHomeListResponse> fetchByPageNo, int startPageNo) {
+        if (startPageNo < 1) throw new IllegalArgumentException("startPageNo must be >= 1");
         this.fetchByPageNo = Objects.requireNonNull(fetchByPageNo);
+        this.pageNo = startPageNo;
     }
 
     public List<MyHomeItemDto> next() {
@@ -0,0 +1,150 @@
+package com.seoulhousing.ingest_core.external.myhome.service;
+
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeListResponse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+// 1페이지의 totalCount로 전체 페이지수를 구하고 나머지 페이지를 병렬로 미리 가져오는 페이지 객체
+// 결과는 항상 페이지 순서대로 넘겨준다
+public final class MyHomeParallelPageCursor {
+
+    private final IntFunction<MyHomeListResponse> fetchByPageNo;
+    private final int numOfRows;
+    private final int maxConcurrency;
+
+    public MyHomeParallelPageCursor(IntFunction<MyHomeListResponse> fetchByPageNo, int numOfRows, int maxConcurrency) {
+        if (numOfRows < 1) throw new IllegalArgumentException("numOfRows must be >= 1");
+        if (maxConcurrency < 1) throw new IllegalArgumentException("maxConcurrency must be >= 1");
+        this.fetchByPageNo = Objects.requireNonNull(fetchByPageNo);
+        this.numOfRows = numOfRows;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public void forEachPage(Consumer<List<MyHomeItemDto>> pageConsumer) {
+        Objects.requireNonNull(pageConsumer, "pageConsumer must not be null");
+
+        // 1페이지는 페이지수를 알아내야 하니 먼저 호출
+        MyHomeListResponse first = fetchByPageNo.apply(1);
+        List<MyHomeItemDto> firstItems = first.itemsOrEmpty();
+        if (firstItems.isEmpty()) return;
+        pageConsumer.accept(firstItems);
+
+        Long totalCount = parseNonNegativeOrNull(first.totalCountOrNull());
+
+        // totalCount를 모르면 기존처럼 빈페이지가 나올때까지 순차 호출
+        if (totalCount == null) {
+            drainSequentially(2, pageConsumer);
+            return;
+        }
+
+        // 페이지수/마지막 페이지 확인은 요청한 numOfRows 가 아니라 서버가 실제로 준 페이지 크기로 계산
+        // (요청보다 작게 잘라주면 요청값으로 계산한 페이지수로는 뒤 페이지들을 놓침)
+        int pageSize = effectivePageSize(first, firstItems.size(), totalCount);
+        int totalPages = (int) Math.max(1L, (totalCount + pageSize - 1) / pageSize);
+
+        int lastPageSize = firstItems.size();
+
+        if (totalPages > 1) {
+            lastPageSize = fetchRemainingInParallel(totalPages, pageConsumer);
+        }
+
+        // 마지막 페이지가 꽉 차있으면 수집 도중 공고가 늘었을수도 있으니 그때만 이어서 확인
+        if (lastPageSize >= pageSize) {
+            drainSequentially(totalPages + 1, pageConsumer);
+        }
+    }
+
+    // 응답의 numOfRows (요청값 이하만 인정) 를 우선 쓰고,
+    // 1페이지가 그보다 적게 왔는데 뒤에 더 있다면 1페이지 아이템 수가 실제 페이지 크기
+    private int effectivePageSize(MyHomeListResponse first, int firstPageItems, long totalCount) {
+        Long reported = parseNonNegativeOrNull(first.numOfRowsOrNull());
+        int pageSize = (reported == null || reported < 1) ? numOfRows : (int) Math.min(numOfRows, reported);
+
+        if (firstPageItems < pageSize && totalCount > firstPageItems) {
+            pageSize = firstPageItems;
+        }
+        return Math.max(1, pageSize);
+    }
+
+    // 2..totalPages 페이지를 최대 maxConcurrency개씩 미리 받아두고 순서대로 넘겨준다
+    // 반환값은 마지막 페이지의 아이템 수
+    private int fetchRemainingInParallel(int totalPages, Consumer<List<MyHomeItemDto>> pageConsumer) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Deque<Future<MyHomeListResponse>> window = new ArrayDeque<>();
+        int nextPageNo = 2;
+        int lastPageSize = 0;
+
+        try {
+            // 윈도우 크기만큼 먼저 요청해두기 (동시 요청수 == 메모리에 들고있는 페이지수 상한)
+            while (nextPageNo <= totalPages && window.size() < maxConcurrency) {
+                window.addLast(submit(executor, nextPageNo++));
+            }
+
+            while (!window.isEmpty()) {
+                List<MyHomeItemDto> items = await(window.pollFirst()).itemsOrEmpty();
+
+                // 하나 소비했으면 다음 페이지 하나 요청
+                if (nextPageNo <= totalPages) {
+                    window.addLast(submit(executor, nextPageNo++));
+                }
+
+                lastPageSize = items.size();
+                if (!items.isEmpty()) pageConsumer.accept(items);
+            }
+            return lastPageSize;
+
+        } finally {
+            // 실패로 빠져나오면 남은 요청은 취소
+            if (!window.isEmpty()) executor.shutdownNow();
+            executor.close();
+        }
+    }
+
+    private Future<MyHomeListResponse> submit(ExecutorService executor, int pageNo) {
+        return executor.submit(() -> fetchByPageNo.apply(pageNo));
+    }
+
+    private void drainSequentially(int startPageNo, Consumer<List<MyHomeItemDto>> pageConsumer) {
+        MyHomePageCursor cursor = new MyHomePageCursor(fetchByPageNo, startPageNo);
+
+        List<MyHomeItemDto> items;
+        while ((items = cursor.next()) != null) {
+            pageConsumer.accept(items);
+        }
+    }
+
+    private static Long parseNonNegativeOrNull(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        try {
+            long value = Long.parseLong(raw.trim());
+            return (value < 0) ? null : value;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static MyHomeListResponse await(Future<MyHomeListResponse> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("MyHome 페이지 병렬 수집이 중단됨", e);
+        } catch (ExecutionException e) {
+            // 원래 예외(재시도 실패 등)를 그대로 던져서 순차 모드와 같은 예외가 나가도록
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException("MyHome 페이지 병렬 수집 실패", cause);
+        }
+    }
+}
@@ -3,13 +3,17 @@ package com.seoulhousing.ingest_core.external.myhome.service;
 import com.seoulhousing.ingest_core.external.myhome.client.MyHomeApiClient;
 import com.seoulhousing.ingest_core.external.myhome.dto.LtRsdtListRequest;
 import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeListResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 @Service
 public class SeoulLtRsdtCollector implements LtRsdtCollector {
@@ -19,29 +23,48 @@ public class SeoulLtRsdtCollector implements LtRsdtCollector {
 
     private final MyHomeApiClient client;
 
-    public SeoulLtRsdtCollector(MyHomeApiClient client) {
+    // 1이면 기존 순차 호출, 2 이상이면 totalCount 기반 병렬 페이지 호출
+    private final int pageConcurrency;
+
+    public SeoulLtRsdtCollector(
+            MyHomeApiClient client,
+            @Value("${ingest.myhome.page-concurrency:1}") int pageConcurrency
+    ) {
         this.client = client;
+        this.pageConcurrency = pageConcurrency;
     }
 
     @Override
     public List<MyHomeItemDto> collect(LtRsdtListRequest request) {
         Objects.requireNonNull(request, "request must not be null");
 
+        List<MyHomeItemDto> acc = new ArrayList<>();
+        forEachPage(request, acc::addAll);
+
+        log.info("[MyHome][LTRSDT][seoul] collected={}", acc.size());
+        return acc;
+    }
+
+    @Override
+    public void forEachPage(LtRsdtListRequest request, Consumer<List<MyHomeItemDto>> pageConsumer) {
+        Objects.requireNonNull(request, "request must not be null");
+        Objects.requireNonNull(pageConsumer, "pageConsumer must not be null");
+
         LtRsdtListRequest base = request.withBrtcCode(SEOUL_BRTC_CODE);
+        IntFunction<MyHomeListResponse> fetch = pageNo -> client.fetchLtRsdt(base.withPageNo(pageNo));
 
-        MyHomePageCursor cursor = new MyHomePageCursor(
-                pageNo -> client.fetchLtRsdt(base.withPageNo(pageNo))
-        );
+        // 1페이지의 totalCount로 페이지수를 구해 나머지를 병렬로 호출
+        if (pageConcurrency > 1) {
+            new MyHomeParallelPageCursor(fetch, base.getNumOfRows(), pageConcurrency).forEachPage(pageConsumer);
+            return;
+        }
 
-        List<MyHomeItemDto> acc = new ArrayList<>();
+        MyHomePageCursor cursor = new MyHomePageCursor(fetch);
 
         List<MyHomeItemDto> items;
         while ((items = cursor.next()) != null) {
-            acc.addAll(items);
+            pageConsumer.accept(items);
         }
-
-        log.info("[MyHome][LTRSDT][seoul] collected={}", acc.size());
-        return acc;
     }
 
 }
@@ -2,14 +2,18 @@ package com.seoulhousing.ingest_core.external.myhome.service;
 
 import com.seoulhousing.ingest_core.external.myhome.client.MyHomeApiClient;
 import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeListResponse;
 import com.seoulhousing.ingest_core.external.myhome.dto.RsdtListRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 @Service
 public class SeoulRsdtCollector implements RsdtCollector {
@@ -19,30 +23,49 @@ public class SeoulRsdtCollector implements RsdtCollector {
 
     private final MyHomeApiClient client;
 
-    public SeoulRsdtCollector(MyHomeApiClient client) {
+    // 1이면 기존 순차 호출, 2 이상이면 totalCount 기반 병렬 페이지 호출
+    private final int pageConcurrency;
+
+    public SeoulRsdtCollector(
+            MyHomeApiClient client,
+            @Value("${ingest.myhome.page-concurrency:1}") int pageConcurrency
+    ) {
         this.client = client;
+        this.pageConcurrency = pageConcurrency;
     }
 
     @Override
     public List<MyHomeItemDto> collect(RsdtListRequest request) {
         Objects.requireNonNull(request, "request must not be null");
 
+        List<MyHomeItemDto> acc = new ArrayList<>();
+        forEachPage(request, acc::addAll);
+
+        log.info("[MyHome][RSDT][seoul] collected={}", acc.size());
+        return acc;
+    }
+
+    @Override
+    public void forEachPage(RsdtListRequest request, Consumer<List<MyHomeItemDto>> pageConsumer) {
+        Objects.requireNonNull(request, "request must not be null");
+        Objects.requireNonNull(pageConsumer, "pageConsumer must not be null");
+
         RsdtListRequest base = request.withBrtcCode(SEOUL_BRTC_CODE);
+        IntFunction<MyHomeListResponse> fetch = pageNo -> client.fetchRsdt(base.withPageNo(pageNo));
 
-        // 페이지 넘버 모르고 호출
-        MyHomePageCursor cursor = new MyHomePageCursor(
-                pageNo -> client.fetchRsdt(base.withPageNo(pageNo))
-        );
+        // 1페이지의 totalCount로 페이지수를 구해 나머지를 병렬로 호출
+        if (pageConcurrency > 1) {
+            new MyHomeParallelPageCursor(fetch, base.getNumOfRows(), pageConcurrency).forEachPage(pageConsumer);
+            return;
+        }
 
-        List<MyHomeItemDto> acc = new ArrayList<>();
+        // 페이지 넘버 모르고 호출
+        MyHomePageCursor cursor = new MyHomePageCursor(fetch);
 
         // 한번 더 호출해서 만약 빈값이다?? 그럼 종료
         List<MyHomeItemDto> items;
         while ((items = cursor.next()) != null) {
-            acc.addAll(items);
+            pageConsumer.accept(items);
         }
-
-        log.info("[MyHome][RSDT][seoul] collected={}", acc.size());
-        return acc;
     }
 }
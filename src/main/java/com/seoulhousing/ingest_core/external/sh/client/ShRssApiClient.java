@@ -1,13 +1,27 @@
 package com.seoulhousing.ingest_core.external.sh.client;
 
 import com.seoulhousing.ingest_core.config.ExternalShRssProperties;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFetchResult;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import com.seoulhousing.ingest_core.resilience.CallerFailureException;
+import com.seoulhousing.ingest_core.resilience.Dependency;
+import com.seoulhousing.ingest_core.resilience.DependencyGuard;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
 @Component
 public class ShRssApiClient {
 
@@ -16,31 +30,48 @@ public class ShRssApiClient {
     private final RestClient shRssRestClient;
     private final ExternalShRssProperties properties;
     private final ShRssRetryExecutor retry;
+    private final DependencyGuard guard;
 
     public ShRssApiClient(
             @Qualifier("shRssRestClient") RestClient shRssRestClient,
             ExternalShRssProperties properties,
-            ShRssRetryExecutor retry
+            ShRssRetryExecutor retry,
+            DependencyGuard guard
     ) {
         this.shRssRestClient = shRssRestClient;
         this.properties = properties;
         this.retry = retry;
+        this.guard = guard;
     }
 
     // SH 공고/공지 RSS 원문 조회 이게 EUC-KR 인코딩 이슈가 있기에 byte[]로 받음
     public byte[] fetchNoticeRssBytes() {
-        return retry.run("NOTICE",this::callNoticeRss);
+        return guard.call(Dependency.SH_RSS, "NOTICE", () -> retry.run("NOTICE", this::callNoticeRss));
+    }
+
+    // 조건부 요청 : 지난번 ETag/Last-Modified 를 보내서 안바뀌었으면 304 로 바디 없이 끝냄
+    public ShRssFetchResult fetchNoticeRssIfModified(String etag, String lastModified) {
+        return guard.call(Dependency.SH_RSS, "NOTICE",
+                () -> retry.run("NOTICE", () -> callNoticeRssIfModified(etag, lastModified)));
+    }
+
+    // 응답 바디를 byte[] 로 모으지 않고 스트림 그대로 넘김 (응답은 bodyReader 가 끝나면 닫힘)
+    // 재시도는 연결/응답 헤더 단계 실패만 해당 (바디를 읽다가 실패하면 파서 예외로 끝남)
+    // bodyReader 안의 레디스 조회/매핑 실패는 SH 장애가 아니므로 CallerFailureException 으로 감싸서 브레이커에 안 세고 여기서 풀어 던짐
+    // 벌크헤드 자리는 연결이 열려있는 동안(= bodyReader 가 끝날때까지) 잡혀있음
+    public <T> T streamNoticeRss(Function<InputStream, T> bodyReader) {
+        try {
+            return guard.call(Dependency.SH_RSS, "NOTICE",
+                    () -> retry.run("NOTICE", () -> callNoticeRssStream(bodyReader)));
+        } catch (CallerFailureException e) {
+            throw e.getCause();
+        }
     }
 
     //HTTP 호출을 담당하는 메서드
     private byte[] callNoticeRss(){
 
-        String url = properties.getNoticeUrl();
-
-        // 혹시 모르는 설정에러가 있을수도 있기에
-        if (url == null || url.isBlank()) {
-            throw new IllegalStateException("external.sh.rss.notice-url is blank");
-        }
+        String url = noticeUrl();
 
         RestClient.RequestHeadersSpec<?> spec = shRssRestClient.get().uri(url);
 
@@ -55,8 +86,115 @@ public class ShRssApiClient {
         }
 
         log.debug("[SH][RSS] fetched bytes={}", bytes.length);
+        IngestMetrics.record(IngestMetrics.SH_RSS_BYTES, bytes.length);
 
         return bytes;
     }
 
+    private ShRssFetchResult callNoticeRssIfModified(String etag, String lastModified) {
+
+        String url = noticeUrl();
+
+        RestClient.RequestHeadersSpec<?> spec = shRssRestClient.get().uri(url)
+                .accept(MediaType.APPLICATION_XML, MediaType.TEXT_XML);
+
+        if (etag != null && !etag.isBlank()) {
+            spec = spec.header(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        if (lastModified != null && !lastModified.isBlank()) {
+            spec = spec.header(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+
+        ResponseEntity<byte[]> res = spec.retrieve().toEntity(byte[].class);
+
+        // 안바뀜
+        if (res.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            log.debug("[SH][RSS] not modified. url={}", url);
+            return ShRssFetchResult.notModified();
+        }
+
+        byte[] bytes = res.getBody();
+        if (bytes == null || bytes.length == 0) {
+            log.error("[SH][RSS] empty response. url={}", url);
+            throw new IllegalStateException("SH RSS 응답이 비어있음");
+        }
+
+        log.debug("[SH][RSS] fetched bytes={}", bytes.length);
+        IngestMetrics.record(IngestMetrics.SH_RSS_BYTES, bytes.length);
+
+        HttpHeaders headers = res.getHeaders();
+        return new ShRssFetchResult(false, bytes, headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED));
+    }
+
+    private <T> T callNoticeRssStream(Function<InputStream, T> bodyReader) {
+
+        String url = noticeUrl();
+
+        return shRssRestClient.get().uri(url)
+                .accept(MediaType.APPLICATION_XML, MediaType.TEXT_XML)
+                .exchange((req, res) -> {
+                    if (!res.getStatusCode().is2xxSuccessful()) {
+                        log.error("[SH][RSS] bad status. url={}, status={}", url, res.getStatusCode().value());
+                        throw new IllegalStateException("SH RSS 응답 상태 이상: " + res.getStatusCode().value());
+                    }
+                    CountingInputStream body = new CountingInputStream(res.getBody());
+                    try {
+                        return bodyReader.apply(body);
+                    } catch (RuntimeException e) {
+                        // 바디를 읽다 끊긴건 SH 쪽 문제, 그 외는 콜백 문제
+                        if (hasIoCause(e)) throw e;
+                        throw new CallerFailureException(e);
+                    } finally {
+                        // 중간에 멈춘 경우엔 읽은 만큼만 기록됨
+                        IngestMetrics.record(IngestMetrics.SH_RSS_BYTES, body.count);
+                    }
+                });
+    }
+
+    private static boolean hasIoCause(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof IOException || t instanceof UncheckedIOException) return true;
+        }
+        return false;
+    }
+
+    private String noticeUrl() {
+        String url = properties.getNoticeUrl();
+
+        // 혹시 모르는 설정에러가 있을수도 있기에
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("external.sh.rss.notice-url is blank");
+        }
+        return url;
+    }
+
+    // 스트리밍 경로에서 실제로 읽은 바이트 수
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
 }
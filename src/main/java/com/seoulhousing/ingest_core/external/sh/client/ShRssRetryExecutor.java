@@ -1,5 +1,6 @@
 package com.seoulhousing.ingest_core.external.sh.client;
 
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.retry.annotation.Backoff;
@@ -21,6 +22,7 @@ public class ShRssRetryExecutor {
             backoff = @Backoff(delay = 300, multiplier = 2.0, maxDelay = 2000)
     )
     public <T> T run(String label, Supplier<T> supplier) {
+        IngestMetrics.retryAttempt("sh", label); // 재시도면 카운트
         return supplier.get();
     }
 
@@ -29,6 +31,7 @@ public class ShRssRetryExecutor {
 
         // 최종 실패 로그
         log.error("[SH][RSS][{}] retry exhausted. ex={}", label, e.getClass().getSimpleName());
+        IngestMetrics.retryExhausted("sh", label);
 
         throw new IllegalStateException("SH RSS 재시도 실패: ", e);
     }
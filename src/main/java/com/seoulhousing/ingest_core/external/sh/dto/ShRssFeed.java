@@ -0,0 +1,20 @@
+package com.seoulhousing.ingest_core.external.sh.dto;
+
+import java.util.List;
+
+// 바뀐 피드면 파싱한 아이템, 안바뀌었으면 빈 목록 + unchanged
+// state : 다음 조건부 요청에 쓸 피드 상태 (성공적으로 처리한 뒤에 저장)
+public record ShRssFeed(
+        boolean unchanged,
+        List<ShRssItem> items,
+        ShRssFeedState state
+) {
+
+    public static ShRssFeed unchanged(ShRssFeedState state) {
+        return new ShRssFeed(true, List.of(), state);
+    }
+
+    public static ShRssFeed changed(List<ShRssItem> items, ShRssFeedState state) {
+        return new ShRssFeed(false, items, state);
+    }
+}
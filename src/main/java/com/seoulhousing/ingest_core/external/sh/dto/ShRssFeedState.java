@@ -0,0 +1,14 @@
+package com.seoulhousing.ingest_core.external.sh.dto;
+
+// 지난번에 받은 SH RSS 피드 상태 (조건부 요청 헤더 + 바디 해시)
+// 값이 없으면 null
+public record ShRssFeedState(
+        String etag,
+        String lastModified,
+        String bodyHash
+) {
+
+    public static ShRssFeedState empty() {
+        return new ShRssFeedState(null, null, null);
+    }
+}
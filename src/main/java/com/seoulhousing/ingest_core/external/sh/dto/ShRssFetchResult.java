@@ -0,0 +1,15 @@
+package com.seoulhousing.ingest_core.external.sh.dto;
+
+// SH RSS 조건부 요청 결과
+// notModified 이면 body 는 null (304)
+public record ShRssFetchResult(
+        boolean notModified,
+        byte[] body,
+        String etag,
+        String lastModified
+) {
+
+    public static ShRssFetchResult notModified() {
+        return new ShRssFetchResult(true, null, null, null);
+    }
+}
@@ -1,11 +1,21 @@
 package com.seoulhousing.ingest_core.external.sh.service;
 
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeed;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeedState;
 import com.seoulhousing.ingest_core.external.sh.dto.ShRssItem;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 public interface ShRentalNoticeChecker {
 
     // Sh rss 전체아이템을 파싱하고 반환
     List<ShRssItem> fetchAllItems();
+
+    // 지난번 피드 상태와 비교해서 바뀌었을때만 파싱 (304 이거나 바디 해시가 같으면 unchanged)
+    ShRssFeed fetchIfChanged(ShRssFeedState previous);
+
+    // 응답을 읽으면서 아이템마다 콜백, onItem 이 false 면 거기서 중단 (피드 크기만큼 메모리를 쓰지 않음)
+    // 반환값 : 콜백에 넘긴 아이템 수
+    int streamItems(Predicate<ShRssItem> onItem);
 }
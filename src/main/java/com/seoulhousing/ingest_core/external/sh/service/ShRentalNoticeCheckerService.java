@@ -1,12 +1,20 @@
 package com.seoulhousing.ingest_core.external.sh.service;
 
 import com.seoulhousing.ingest_core.external.sh.client.ShRssApiClient;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeed;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeedState;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFetchResult;
 import com.seoulhousing.ingest_core.external.sh.dto.ShRssItem;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.function.Predicate;
 
 @Service
 public class ShRentalNoticeCheckerService implements ShRentalNoticeChecker{
@@ -29,11 +37,66 @@ public class ShRentalNoticeCheckerService implements ShRentalNoticeChecker{
         byte[] rssBytes = client.fetchNoticeRssBytes();
 
         //xml 파싱 하고 아이템리스트
-        List<ShRssItem> items = parser.parse(rssBytes);
+        List<ShRssItem> items = IngestMetrics.time(IngestMetrics.SH_RSS_PARSE, () -> parser.parse(rssBytes), "mode", "full");
 
         if (items == null) items = List.of();
 
         log.info("[SH][RSS] fetched items={}", items.size());
+        IngestMetrics.record(IngestMetrics.SH_RSS_ITEMS, items.size());
         return items;
     }
+
+    @Override
+    public int streamItems(Predicate<ShRssItem> onItem) {
+        int[] emitted = {0};
+
+        client.streamNoticeRss(body -> {
+            // 스트리밍은 다운로드와 파싱이 겹치므로 이 시간엔 수신 시간도 포함됨
+            IngestMetrics.time(IngestMetrics.SH_RSS_PARSE, () -> parser.parse(body, item -> {
+                emitted[0]++;
+                return onItem.test(item);
+            }), "mode", "stream");
+            return null;
+        });
+
+        log.info("[SH][RSS] streamed items={}", emitted[0]);
+        IngestMetrics.record(IngestMetrics.SH_RSS_ITEMS, emitted[0]);
+        return emitted[0];
+    }
+
+    @Override
+    public ShRssFeed fetchIfChanged(ShRssFeedState previous) {
+        ShRssFeedState prev = (previous == null) ? ShRssFeedState.empty() : previous;
+
+        // 조건부 요청
+        ShRssFetchResult fetched = client.fetchNoticeRssIfModified(prev.etag(), prev.lastModified());
+        if (fetched.notModified()) {
+            log.info("[SH][RSS] not modified (304) -> skip parse");
+            return ShRssFeed.unchanged(prev);
+        }
+
+        // 서버가 ETag/Last-Modified 를 안주거나 매번 바꾸는 경우를 위한 바디 해시
+        String bodyHash = sha256Hex(fetched.body());
+        ShRssFeedState state = new ShRssFeedState(fetched.etag(), fetched.lastModified(), bodyHash);
+
+        if (bodyHash.equals(prev.bodyHash())) {
+            log.info("[SH][RSS] same body hash -> skip parse");
+            return ShRssFeed.unchanged(state);
+        }
+
+        List<ShRssItem> items = IngestMetrics.time(IngestMetrics.SH_RSS_PARSE, () -> parser.parse(fetched.body()), "mode", "full");
+        if (items == null) items = List.of();
+
+        log.info("[SH][RSS] fetched items={}", items.size());
+        IngestMetrics.record(IngestMetrics.SH_RSS_ITEMS, items.size());
+        return ShRssFeed.changed(items, state);
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
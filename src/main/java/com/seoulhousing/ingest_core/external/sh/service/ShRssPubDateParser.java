@@ -0,0 +1,165 @@
+package com.seoulhousing.ingest_core.external.sh.service;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+// SH RSS pubDate(RFC-1123) 파싱
+// 1) 최근 파싱한 문자열 캐시 (피드 안에서 같은 날짜가 반복됨)
+// 2) "EEE, dd MMM yyyy HH:mm:ss GMT|+HHMM" 고정폭이면 직접 파싱 (객체 생성 없음)
+// 3) 나머지 모양은 기존 DateTimeFormatter 로 (결과는 항상 포매터와 같음)
+final class ShRssPubDateParser {
+
+    private static final DateTimeFormatter PUBDATE_FMT =
+            DateTimeFormatter.RFC_1123_DATE_TIME.withLocale(Locale.ENGLISH);
+
+    // "Mon, 05 Jan 2026 06:48:24 GMT" / "Mon, 05 Jan 2026 06:48:24 +0900"
+    private static final int LEN_GMT = 29;
+    private static final int LEN_OFFSET = 31;
+
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    // 직접 매핑 캐시 (슬롯 충돌이면 덮어씀), 엔트리는 불변이라 락 없이 공유
+    private static final int CACHE_SIZE = 64;
+    private static final Entry[] CACHE = new Entry[CACHE_SIZE];
+
+    // value == null 이면 파싱 실패한 문자열
+    private record Entry(String raw, Instant value) {}
+
+    private ShRssPubDateParser() {}
+
+    // 앞뒤 공백은 무시, 실패하면 null
+    static Instant parseOrNull(CharSequence raw) {
+        if (raw == null) return null;
+
+        int from = 0;
+        int to = raw.length();
+        while (from < to && raw.charAt(from) <= ' ') from++;
+        while (to > from && raw.charAt(to - 1) <= ' ') to--;
+        if (from == to) return null;
+
+        // 캐시 확인 (문자열을 만들지 않고 비교)
+        int hash = hash(raw, from, to);
+        int slot = hash & (CACHE_SIZE - 1);
+        Entry cached = CACHE[slot];
+        if (cached != null && contentEquals(cached.raw(), raw, from, to)) {
+            return cached.value();
+        }
+
+        String key = raw.subSequence(from, to).toString();
+        Instant parsed = parseFixedOrFallback(key);
+        CACHE[slot] = new Entry(key, parsed);
+        return parsed;
+    }
+
+    private static Instant parseFixedOrFallback(String v) {
+        long epochSecond = parseFixed(v);
+        if (epochSecond != Long.MIN_VALUE) return Instant.ofEpochSecond(epochSecond);
+
+        try {
+            return ZonedDateTime.parse(v, PUBDATE_FMT).toInstant();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // 고정폭 RFC-1123 직접 파싱, 이 모양이 아니거나 값이 애매하면 Long.MIN_VALUE (포매터로 넘김)
+    static long parseFixed(String s) {
+        int len = s.length();
+        if (len != LEN_GMT && len != LEN_OFFSET) return Long.MIN_VALUE;
+
+        if (s.charAt(3) != ',' || s.charAt(4) != ' ' || s.charAt(7) != ' ' || s.charAt(11) != ' '
+                || s.charAt(16) != ' ' || s.charAt(19) != ':' || s.charAt(22) != ':' || s.charAt(25) != ' ') {
+            return Long.MIN_VALUE;
+        }
+
+        int dow = indexOf(DAYS, s, 0);
+        int month = indexOf(MONTHS, s, 8) + 1;
+        int day = digits2(s, 5);
+        int year = digits4(s, 12);
+        int hour = digits2(s, 17);
+        int minute = digits2(s, 20);
+        int second = digits2(s, 23);
+        if (dow < 0 || month == 0 || day < 0 || year < 0 || hour < 0 || minute < 0 || second < 0) return Long.MIN_VALUE;
+
+        // 범위 (24:00, 존재하지 않는 날짜 같은건 포매터 규칙에 맡김)
+        if (day < 1 || day > monthLength(year, month) || hour > 23 || minute > 59 || second > 59) return Long.MIN_VALUE;
+
+        int offsetSeconds;
+        if (len == LEN_GMT) {
+            if (!s.startsWith("GMT", 26)) return Long.MIN_VALUE;
+            offsetSeconds = 0;
+        } else {
+            char sign = s.charAt(26);
+            int oh = digits2(s, 27);
+            int om = digits2(s, 29);
+            if ((sign != '+' && sign != '-') || oh < 0 || om < 0 || oh > 18 || om > 59 || (oh == 18 && om > 0)) {
+                return Long.MIN_VALUE;
+            }
+            offsetSeconds = (oh * 3600 + om * 60) * (sign == '-' ? -1 : 1);
+        }
+
+        long epochDay = epochDay(year, month, day);
+
+        // 요일이 날짜와 안맞으면 포매터가 판단 (실패 처리)
+        if (Math.floorMod(epochDay + 3, 7) != dow) return Long.MIN_VALUE;
+
+        return epochDay * 86_400L + hour * 3_600L + minute * 60L + second - offsetSeconds;
+    }
+
+    // 1970-01-01 기준 일수 (그레고리력)
+    private static long epochDay(int year, int month, int day) {
+        long y = (month <= 2) ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long mp = (month + 9) % 12;
+        long doy = (153 * mp + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146_097 + doe - 719_468;
+    }
+
+    private static int monthLength(int year, int month) {
+        return switch (month) {
+            case 2 -> ((year % 4 == 0 && year % 100 != 0) || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static int indexOf(String[] names, String s, int at) {
+        for (int i = 0; i < names.length; i++) {
+            if (s.startsWith(names[i], at)) return i;
+        }
+        return -1;
+    }
+
+    private static int digits2(String s, int at) {
+        int a = s.charAt(at) - '0';
+        int b = s.charAt(at + 1) - '0';
+        if (a < 0 || a > 9 || b < 0 || b > 9) return -1;
+        return a * 10 + b;
+    }
+
+    private static int digits4(String s, int at) {
+        int hi = digits2(s, at);
+        int lo = digits2(s, at + 2);
+        if (hi < 0 || lo < 0) return -1;
+        return hi * 100 + lo;
+    }
+
+    private static int hash(CharSequence cs, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) h = 31 * h + cs.charAt(i);
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean contentEquals(String a, CharSequence b, int from, int to) {
+        if (a.length() != to - from) return false;
+        for (int i = 0; i < a.length(); i++) {
+            if (a.charAt(i) != b.charAt(from + i)) return false;
+        }
+        return true;
+    }
+}
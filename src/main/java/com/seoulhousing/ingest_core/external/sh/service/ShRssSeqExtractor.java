@@ -9,9 +9,102 @@ import java.net.URI;
 @Component
 public class ShRssSeqExtractor {
 
+    private static final int NO_QUERY = -1;
+    private static final int FALLBACK = -2;
+
+    // 문자 종류 테이블 (ASCII 만, 나머지는 전부 URI 파싱으로 넘김)
+    private static final boolean[] SCHEME = new boolean[128];
+    private static final boolean[] AUTHORITY = new boolean[128];
+    private static final boolean[] PATH = new boolean[128];
+    private static final boolean[] QUERY = new boolean[128];
+
+    static {
+        // java.net.URI 가 항상 받아주는 문자만 (퍼센트 인코딩은 getQuery 가 디코딩하므로 제외)
+        String alnum = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+        mark(SCHEME, alnum + "+-.");
+        mark(AUTHORITY, alnum + "-.:");
+        mark(PATH, alnum + "-_.!~*'()" + ":@&=+$," + ";/");
+        mark(QUERY, alnum + "-_.!~*'()" + ":@&=+$," + ";/?");
+    }
+
+    // 링크 한번 훑어서 쿼리의 seq 값을 찾음 (URI 객체 / split 배열 / 예외 없음)
+    // 흔한 모양(scheme://host/path?query#fragment, ASCII, % 없음)이 아니면 기존 URI 파싱으로 처리해서 결과는 항상 같음
     public String extractSeq(String link){
         if(link == null) return null;
 
+        // trim 범위
+        int from = 0;
+        int to = link.length();
+        while (from < to && link.charAt(from) <= ' ') from++;
+        while (to > from && link.charAt(to - 1) <= ' ') to--;
+
+        int queryStart = queryStartOf(link, from, to);
+        if (queryStart == FALLBACK) return extractSeqWithUri(link);
+        if (queryStart == NO_QUERY) return null;
+
+        int queryEnd = link.indexOf('#', queryStart);
+        if (queryEnd < 0 || queryEnd > to) queryEnd = to;
+
+        // & 로 나눈 조각마다 첫 = 앞이 seq 인지 확인
+        int seg = queryStart;
+        while (seg <= queryEnd) {
+            int amp = link.indexOf('&', seg);
+            if (amp < 0 || amp > queryEnd) amp = queryEnd;
+
+            int eq = link.indexOf('=', seg);
+            if (eq >= 0 && eq < amp && eq - seg == 3 && link.regionMatches(true, seg, "seq", 0, 3)) {
+                return link.substring(eq + 1, amp);
+            }
+            seg = amp + 1;
+        }
+        return null;
+    }
+
+    // 쿼리 시작 위치 ('?' 다음), 쿼리가 없으면 NO_QUERY, 빠른 경로로 판단 못하면 FALLBACK
+    private static int queryStartOf(String s, int from, int to) {
+        int i = from;
+
+        // scheme
+        if (i >= to || !isAsciiLetter(s.charAt(i))) return FALLBACK;
+        i++;
+        while (i < to && is(SCHEME, s.charAt(i))) i++;
+        if (!s.startsWith("://", i)) return FALLBACK;
+        i += 3;
+
+        // authority (비어있으면 넘김)
+        int authorityStart = i;
+        while (i < to && is(AUTHORITY, s.charAt(i))) i++;
+        if (i == authorityStart) return FALLBACK;
+
+        // path
+        if (i < to && s.charAt(i) == '/') {
+            while (i < to && is(PATH, s.charAt(i))) i++;
+        }
+        if (i == to) return NO_QUERY;
+
+        char c = s.charAt(i);
+        if (c == '#') return validFragment(s, i + 1, to) ? NO_QUERY : FALLBACK;
+        if (c != '?') return FALLBACK;
+
+        // query
+        int queryStart = i + 1;
+        i = queryStart;
+        while (i < to && is(QUERY, s.charAt(i))) i++;
+        if (i == to) return queryStart;
+        if (s.charAt(i) != '#') return FALLBACK;
+
+        return validFragment(s, i + 1, to) ? queryStart : FALLBACK;
+    }
+
+    private static boolean validFragment(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!is(QUERY, s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    // 기존 방식 (특이한 링크에서만 사용)
+    private static String extractSeqWithUri(String link) {
         try{
             URI uri = URI.create(link.trim());
             String query = uri.getQuery();
@@ -34,4 +127,16 @@ public class ShRssSeqExtractor {
             return null;
         }
     }
+
+    private static boolean is(boolean[] table, char c) {
+        return c < 128 && table[c];
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static void mark(boolean[] table, String chars) {
+        for (int i = 0; i < chars.length(); i++) table[chars.charAt(i)] = true;
+    }
 }
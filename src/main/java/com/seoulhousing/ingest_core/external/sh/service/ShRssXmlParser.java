@@ -7,24 +7,43 @@ import org.springframework.stereotype.Component;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-
-import static java.nio.charset.StandardCharsets.*;
+import java.util.function.Predicate;
 
 // 원문을 스트리밍 방식으로 파싱해서 리스트로 변환하기
 @Component
 public class ShRssXmlParser {
 
 
-    private static final DateTimeFormatter PUBDATE_FMT =
-            DateTimeFormatter.RFC_1123_DATE_TIME.withLocale(Locale.ENGLISH);
+    // StAX 팩토리는 한번만 만들어서 재사용 (newInstance 는 매번 서비스 로더 조회를 함)
+    // 설정을 끝낸 뒤에는 읽기만 하므로 여러 스레드에서 createXMLStreamReader 해도 됨
+    private static final XMLInputFactory FACTORY = newFactory();
+
+    // 인코딩 선언을 찾는 범위 (XML 선언은 문서 맨 앞에 있음)
+    private static final int ENCODING_SNIFF_LIMIT = 300;
+    private static final byte[] ENCODING_ATTR = "encoding=".getBytes(StandardCharsets.US_ASCII);
 
+    // 관심있는 태그만 구분하는 상태
+    private enum Tag {
+        NONE, ITEM, TITLE, LINK, PUB_DATE, OTHER;
+
+        static Tag of(String localName) {
+            return switch (localName) {
+                case "item" -> ITEM;
+                case "title" -> TITLE;
+                case "link" -> LINK;
+                case "pubDate" -> PUB_DATE;
+                default -> OTHER;
+            };
+        }
+    }
 
     private final ShRssSeqExtractor seqExtractor;
 
@@ -39,88 +58,118 @@ public class ShRssXmlParser {
 
         String encoding = detectXmlEncodingOrNull(rssBytes);
 
-        //StAx파서를 만들기 위한 팩토리
-        XMLInputFactory factory = XMLInputFactory.newInstance();
+        List<ShRssItem> items = new ArrayList<>();
 
-        // XXE 및 DTD 차단
-        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        factory.setProperty("javax.xml.stream.isSupportingExternalEntities", false);
+        //바이트배열을 InputStram처럼 파서에 공급
+        parse(new ByteArrayInputStream(rssBytes), encoding, item -> {
+            items.add(item);
+            return true;
+        });
+        return items;
+    }
 
-        List<ShRssItem> items = new ArrayList<>();
+    // 응답 바디를 그대로 읽으면서 아이템마다 콜백 (전체를 byte[] 로 들고있지 않음)
+    // onItem 이 false 를 반환하면 그 자리에서 파싱 중단 (나머지 바디는 읽지 않음)
+    // 스트림은 호출한쪽에서 닫음
+    public void parse(InputStream rssStream, Predicate<ShRssItem> onItem) {
+        if (rssStream == null) {
+            throw new IllegalArgumentException("rssStream is null");
+        }
+
+        // 인코딩 선언을 찾을 만큼만 앞을 읽고 되돌림
+        BufferedInputStream in = new BufferedInputStream(rssStream);
+        String encoding;
+        try {
+            in.mark(ENCODING_SNIFF_LIMIT);
+            byte[] head = in.readNBytes(ENCODING_SNIFF_LIMIT);
+            in.reset();
+
+            if (head.length == 0) {
+                throw new IllegalArgumentException("rssStream is empty");
+            }
+            encoding = detectXmlEncodingOrNull(head);
+        } catch (IOException e) {
+            throw new IllegalStateException("SH RSS read failed", e);
+        }
+
+        parse(in, encoding, onItem);
+    }
+
+    private void parse(InputStream in, String encoding, Predicate<ShRssItem> onItem) {
         XMLStreamReader reader = null;
 
-        //바이트배열을 InputStram처럼 파서에 공급
-        try (ByteArrayInputStream in = new ByteArrayInputStream(rssBytes)) {
-            reader = (encoding == null) ? factory.createXMLStreamReader(in) : factory.createXMLStreamReader(in, encoding);
+        try {
+            reader = (encoding == null) ? FACTORY.createXMLStreamReader(in) : FACTORY.createXMLStreamReader(in, encoding);
 
-            String curTitle = null;
-            String curLink = null;
-            String curPubDateText = null;
+            // 필드별 버퍼는 파싱 한번 동안 재사용 (아이템마다 setLength(0))
+            StringBuilder curTitle = new StringBuilder(128);
+            StringBuilder curLink = new StringBuilder(128);
+            StringBuilder curPubDateText = new StringBuilder(40);
             Instant curPubDate = null;
             boolean inItem = false;
-            String currentTag = null;
+            Tag currentTag = Tag.NONE;
 
             while (reader.hasNext()) {
                 int event = reader.next();
 
                 //태그시작
                 if (event == XMLStreamConstants.START_ELEMENT) {
-                    currentTag = reader.getLocalName();
+                    currentTag = Tag.of(reader.getLocalName());
 
-                    if ("item".equals(currentTag)) {
+                    if (currentTag == Tag.ITEM) {
                         inItem = true;
-                        curTitle = null;
-                        curLink = null;
-                        curPubDateText = null;
+                        curTitle.setLength(0);
+                        curLink.setLength(0);
+                        curPubDateText.setLength(0);
                         curPubDate = null;
                     }
                     continue;
                 }
 
-                if ((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)
-                        && inItem && currentTag != null) {
-
-                    String text = reader.getText();
-                    if (text != null) text = text.trim();
-                    if (text == null || text.isBlank()) continue;
-
+                if ((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) && inItem) {
                     switch (currentTag) {
-                        case "title" -> curTitle = append(curTitle, text);
-                        case "link" -> curLink = append(curLink, text);
-                        case "pubDate" -> curPubDateText = append(curPubDateText, text);
+                        case TITLE -> appendTrimmed(reader, curTitle);
+                        case LINK -> appendTrimmed(reader, curLink);
+                        case PUB_DATE -> appendTrimmed(reader, curPubDateText);
+                        default -> { }
                     }
+                    continue;
                 }
 
                 // 태그 종료
                 if (event == XMLStreamConstants.END_ELEMENT) {
-                    String endTag = reader.getLocalName();
+                    Tag endTag = Tag.of(reader.getLocalName());
 
                     // pubDate 닫힐 때 문자열 → Instant 변환
-                    if ("pubDate".equals(endTag)) {
+                    if (endTag == Tag.PUB_DATE) {
                         curPubDate = parsePubDateOrNull(curPubDateText);
                     }
 
                     // item 끝났을 때 아이템 생성
-                    if ("item".equals(endTag)) {
+                    if (endTag == Tag.ITEM) {
                         inItem = false;
 
-                        if (curPubDate == null && curPubDateText != null) {
+                        if (curPubDate == null && !curPubDateText.isEmpty()) {
                             curPubDate = parsePubDateOrNull(curPubDateText);
                         }
 
-                        if (curTitle != null && curLink != null) {
-                            String seq = seqExtractor.extractSeq(curLink);
-                            if (seq != null) {
-                                items.add(new ShRssItem(seq, curTitle, curLink, curPubDate));
+                        if (!curTitle.isEmpty() && !curLink.isEmpty()) {
+                            String link = curLink.toString();
+                            String seq = seqExtractor.extractSeq(link);
+                            if (seq != null && !onItem.test(new ShRssItem(seq, curTitle.toString(), link, curPubDate))) {
+                                // 호출한쪽에서 그만 받겠다고 함
+                                return;
                             }
                         }
                     }
 
-                    currentTag = null;
+                    currentTag = Tag.NONE;
 
                 }
             }
-            return  items;
+        } catch (RuntimeException e) {
+            // 콜백에서 난 예외는 그대로
+            throw e;
         } catch (Exception e) {
             throw new IllegalStateException("SH RSS XML parse failed", e);
         } finally {
@@ -130,62 +179,95 @@ public class ShRssXmlParser {
         }
     }
 
-    // 문자열을 Instant로 파싱
-    private static Instant parsePubDateOrNull(String raw) {
-        if (raw == null) return null;
-        String v = raw.trim();
-        if (v.isEmpty()) return null;
+    private static XMLInputFactory newFactory() {
+        //StAx파서를 만들기 위한 팩토리
+        XMLInputFactory factory = XMLInputFactory.newInstance();
 
-        try {
-            return ZonedDateTime.parse(v, PUBDATE_FMT).toInstant();
-        } catch (Exception e) {
-            return null;
-        }
+        // XXE 및 DTD 차단
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty("javax.xml.stream.isSupportingExternalEntities", false);
+        return factory;
+    }
+
+    // 문자열을 Instant로 파싱 (고정폭 직접 파싱 + 최근값 캐시, 나머지는 포매터)
+    private static Instant parsePubDateOrNull(CharSequence raw) {
+        return ShRssPubDateParser.parseOrNull(raw);
     }
 
     //stax에서 캐릭터이벤트가 여러번 나오는경우를 대비
-    private static String append(String oldV, String add) {
-        if (oldV == null) return add;
-        return oldV + add;
+    // 리더의 문자 버퍼에서 바로 trim 범위를 잡아서 붙임 (조각마다 String 을 만들지 않음)
+    // 조각 단위 trim + 공백뿐인 조각 무시는 예전 append 동작과 같음
+    private static void appendTrimmed(XMLStreamReader reader, StringBuilder target) {
+        char[] chars = reader.getTextCharacters();
+        int start = reader.getTextStart();
+        int end = start + reader.getTextLength();
+
+        // String.trim 과 같은 기준
+        while (start < end && chars[start] <= ' ') start++;
+        while (end > start && chars[end - 1] <= ' ') end--;
+
+        // String.isBlank 와 같은 기준
+        boolean blank = true;
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(chars[i])) {
+                blank = false;
+                break;
+            }
+        }
+        if (blank) return;
+
+        target.append(chars, start, end - start);
     }
 
+    // 앞부분 바이트에서 encoding="..." 값을 바로 찾음 (헤더를 문자열로 디코딩하지 않음)
     private static String detectXmlEncodingOrNull(byte[] bytes) {
-        int len = Math.min(bytes.length, 300);
+        int len = Math.min(bytes.length, ENCODING_SNIFF_LIMIT);
 
         // 엔코딩 위치찾기
-        String head = new String(bytes, 0, len, ISO_8859_1);
-
-        int idx = head.indexOf("encoding=");
+        int idx = indexOf(bytes, len, ENCODING_ATTR, 0);
         if (idx < 0) return null;
 
-        // " 와 ' 둘 다 지원
-        int q1 = head.indexOf('"', idx);
-        int s1 = head.indexOf('\'', idx);
-
+        // " 와 ' 둘 다 지원, 더 먼저 등장한 따옴표를 선택
         int start = -1;
-        char quote;
-
-        // 더 먼저 등장한 따옴표를 선택
-        if (q1 >= 0 && (s1 < 0 || q1 < s1)) {
-            start = q1;
-            quote = '"';
-        } else if (s1 >= 0) {
-            start = s1;
-            quote = '\'';
-        } else {
-            return null;
+        byte quote = 0;
+        for (int i = idx; i < len; i++) {
+            if (bytes[i] == '"' || bytes[i] == '\'') {
+                start = i;
+                quote = bytes[i];
+                break;
+            }
         }
+        if (start < 0) return null;
 
         // 닫는 따옴표 위치
-        int end = head.indexOf(quote, start + 1);
+        int end = -1;
+        for (int i = start + 1; i < len; i++) {
+            if (bytes[i] == quote) {
+                end = i;
+                break;
+            }
+        }
         if (end < 0) return null;
 
-        // 따옴표 사이의 encoding 문자열을  추출 한다
-        String enc = head.substring(start + 1, end).trim();
+        // 따옴표 사이의 encoding 문자열을 추출 (앞뒤 공백 제외)
+        int from = start + 1;
+        int to = end;
+        while (from < to && (bytes[from] & 0xFF) <= ' ') from++;
+        while (to > from && (bytes[to - 1] & 0xFF) <= ' ') to--;
 
         // 비어있으면 null 처리
-        return enc.isBlank() ? null : enc;
+        if (from == to) return null;
+        return new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
     }
-}
-
 
+    private static int indexOf(byte[] bytes, int len, byte[] target, int from) {
+        outer:
+        for (int i = from; i <= len - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
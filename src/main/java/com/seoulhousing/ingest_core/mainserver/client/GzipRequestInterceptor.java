@@ -0,0 +1,49 @@
+package com.seoulhousing.ingest_core.mainserver.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+// 직렬화된 요청 바디를 gzip 으로 압축해서 보내는 인터셉터
+// 작은 바디는 압축 이득보다 비용이 커서 minBytes 미만이면 그대로 보냄
+class GzipRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int minBytes;
+
+    GzipRequestInterceptor(int minBytes) {
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+
+        HttpHeaders headers = request.getHeaders();
+
+        // 바디가 작거나 이미 인코딩 지정된 경우는 건드리지 않음
+        if (body.length < minBytes || headers.getFirst(HttpHeaders.CONTENT_ENCODING) != null) {
+            return execution.execute(request, body);
+        }
+
+        byte[] compressed = gzip(body);
+
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        headers.setContentLength(compressed.length);
+
+        return execution.execute(request, compressed);
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+            gos.write(raw);
+        }
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,102 @@
+package com.seoulhousing.ingest_core.mainserver.client;
+
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+import com.seoulhousing.ingest_core.mainserver.mapper.IngestItemFields;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// ingest 아이템을 개수/예상 JSON 크기 기준으로 청크로 나누는 유틸
+// 실제 직렬화 없이 필드값 길이로 크기를 추정한다 (UTF-8 기준, 한글은 3byte)
+final class IngestChunker {
+
+    // {"category":"...","items":[]} 감싸는 부분 여유분
+    private static final int REQUEST_OVERHEAD_BYTES = 64;
+
+    // 아이템 하나의 필드명/따옴표/콜론/콤마/중괄호 합 (필드값 제외, 필드 목록은 record 구성요소에서)
+    private static final int ITEM_FIELD_NAMES_BYTES = fieldNamesBytes(IngestItemFields.names());
+
+    private IngestChunker() {}
+
+    static List<List<AnnouncementIngestItem>> split(List<AnnouncementIngestItem> items, int maxItems, long maxBytes) {
+        if (items == null || items.isEmpty()) return List.of();
+
+        List<List<AnnouncementIngestItem>> chunks = new ArrayList<>();
+        List<AnnouncementIngestItem> current = new ArrayList<>();
+        long currentBytes = REQUEST_OVERHEAD_BYTES;
+
+        for (AnnouncementIngestItem item : items) {
+            long itemBytes = estimateBytes(item) + 1; // 배열 콤마
+
+            // 개수나 크기가 넘치면 새 청크 (아이템 하나가 상한보다 크면 혼자 한 청크)
+            boolean full = current.size() >= maxItems || currentBytes + itemBytes > maxBytes;
+            if (full && !current.isEmpty()) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentBytes = REQUEST_OVERHEAD_BYTES;
+            }
+
+            current.add(item);
+            currentBytes += itemBytes;
+        }
+
+        if (!current.isEmpty()) chunks.add(current);
+        return chunks;
+    }
+
+    // 아이템 하나의 예상 JSON 크기
+    static long estimateBytes(AnnouncementIngestItem item) {
+        if (item == null) return 4;
+
+        long sum = ITEM_FIELD_NAMES_BYTES;
+        for (Object value : IngestItemFields.values(item)) {
+            sum += valueBytes(value);
+        }
+        return sum;
+    }
+
+    private static int valueBytes(Object v) {
+        if (v == null) return 4; // null
+        if (v instanceof LocalDate) return 12; // "yyyy-MM-dd"
+        if (v instanceof Number || v instanceof Boolean) return v.toString().length();
+        if (v instanceof Enum<?> e) return jsonStringBytes(e.name());
+        return jsonStringBytes(v.toString());
+    }
+
+    // 따옴표 포함 JSON 문자열 크기 (따옴표/역슬래시/제어문자는 이스케이프돼서 길어짐)
+    private static int jsonStringBytes(String s) {
+        int escapes = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                escapes += 1; // 앞에 \ 가 붙음
+            } else if (c < 0x20) {
+                // 줄바꿈/탭 등은 두글자, 나머지 제어문자는 유니코드 이스케이프 여섯글자
+                escapes += (c == '\n' || c == '\r' || c == '\t' || c == '\b' || c == '\f') ? 1 : 5;
+            }
+        }
+        return utf8Length(s) + escapes + 2;
+    }
+
+    // 문자열을 만들지 않고 UTF-8 byte 길이 계산
+    private static int utf8Length(String s) {
+        int len = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) len += 1;
+            else if (c < 0x800) len += 2;
+            else if (Character.isSurrogate(c)) len += 2; // 서로게이트 쌍 = 4byte
+            else len += 3;
+        }
+        return len;
+    }
+
+    private static int fieldNamesBytes(List<String> names) {
+        int sum = 2; // { }
+        for (String n : names) {
+            sum += jsonStringBytes(n) + 1; // "name":
+        }
+        return sum + (names.size() - 1); // 콤마
+    }
+}
@@ -1,8 +1,12 @@
 package com.seoulhousing.ingest_core.mainserver.client;
 
 import com.seoulhousing.ingest_core.config.MainServerProperties;
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
 import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestRequest;
 import com.seoulhousing.ingest_core.mainserver.dto.IngestResponse;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import com.seoulhousing.ingest_core.resilience.Dependency;
+import com.seoulhousing.ingest_core.resilience.DependencyGuard;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -11,6 +15,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
 @Component
 public class MainServerIngestClient {
 
@@ -19,26 +32,142 @@ public class MainServerIngestClient {
     private final RestClient mainServerRestClient;
     private final MainServerProperties properties;
     private final MainServerRetryExecutor retry;
+    private final DependencyGuard guard;
 
 
     public MainServerIngestClient(
             @Qualifier("mainServerRestClient") RestClient mainServerRestClient,
             MainServerProperties properties,
-            MainServerRetryExecutor retry
+            MainServerRetryExecutor retry,
+            DependencyGuard guard
     ) {
-        this.mainServerRestClient = mainServerRestClient;
+        // gzip 옵션이 켜져있으면 바디 압축 인터셉터를 붙인 RestClient 사용
+        this.mainServerRestClient = properties.isGzipEnabled()
+                ? mainServerRestClient.mutate()
+                        .requestInterceptor(new GzipRequestInterceptor(properties.getGzipMinBytes()))
+                        .build()
+                : mainServerRestClient;
         this.properties = properties;
         this.retry = retry;
+        this.guard = guard;
     }
 
     // 외부가 호출하는 메서드
     public IngestResponse ingest(AnnouncementIngestRequest request) {
+        return ingest(request, accepted -> { });
+    }
+
+    // 청크가 성공할때마다 그 청크의 아이템을 onAccepted 로 넘겨줌 (seen 기록 등)
+    // onAccepted 에서 난 예외는 로그만 남기고 전송 결과에는 영향을 주지 않는다
+    public IngestResponse ingest(AnnouncementIngestRequest request, Consumer<List<AnnouncementIngestItem>> onAccepted) {
 
         if (request == null) {
             throw new IllegalArgumentException("request must not be null");
         }
 
-        return retry.run("INGEST", () -> doIngest(request));
+        // 개수/예상크기 기준으로 청크 나누기
+        List<List<AnnouncementIngestItem>> chunks = IngestChunker.split(
+                request.items(),
+                properties.getChunkMaxItems(),
+                properties.getChunkMaxBytes()
+        );
+
+        // 한번에 보내도 되는 크기면 기존처럼 한번에
+        if (chunks.size() <= 1) {
+            IngestResponse res = guard.call(Dependency.MAIN_SERVER, "INGEST",
+                    () -> retry.run("INGEST", () -> doIngest(request)));
+            notifyAccepted("INGEST", request.items(), onAccepted);
+            return res;
+        }
+
+        return ingestChunks(request.category(), chunks, onAccepted);
+    }
+
+    // 청크별로 재시도하면서 최대 maxInFlightChunks개씩 동시에 보내고 결과를 합산
+    private IngestResponse ingestChunks(
+            String category,
+            List<List<AnnouncementIngestItem>> chunks,
+            Consumer<List<AnnouncementIngestItem>> onAccepted
+    ) {
+        int total = chunks.size();
+        Semaphore inFlight = new Semaphore(properties.getMaxInFlightChunks());
+        List<Future<IngestResponse>> futures = new ArrayList<>(total);
+
+        log.info("[MainServer] ingest chunked. category={}, chunks={}, items={}",
+                category, total, chunks.stream().mapToInt(List::size).sum());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                List<AnnouncementIngestItem> chunk = chunks.get(i);
+                AnnouncementIngestRequest chunkReq = new AnnouncementIngestRequest(category, chunk);
+                String label = "INGEST#" + (i + 1) + "/" + total;
+
+                futures.add(executor.submit(() -> {
+                    inFlight.acquire();
+                    try {
+                        IngestResponse res = guard.call(Dependency.MAIN_SERVER, label,
+                                () -> retry.run(label, () -> doIngest(chunkReq)));
+                        notifyAccepted(label, chunk, onAccepted);
+                        return res;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        }
+
+        // 실패한 청크가 있어도 나머지 청크 결과는 합산하고 마지막에 실패를 알린다
+        int received = 0, created = 0, updated = 0, skipped = 0;
+        int failedChunks = 0, failedItems = 0;
+        IllegalStateException failure = null;
+
+        for (int i = 0; i < total; i++) {
+            try {
+                IngestResponse res = futures.get(i).get();
+                received += res.received();
+                created += res.created();
+                updated += res.updated();
+                skipped += res.skipped();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("MainServer chunked ingest interrupted", e);
+            } catch (ExecutionException e) {
+                failedChunks++;
+                failedItems += chunks.get(i).size();
+                if (failure == null) {
+                    failure = new IllegalStateException("MainServer chunked ingest failed", e.getCause());
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+
+        log.info("[MainServer] ingest chunked result. category={}, chunks={}, failedChunks={}, received={}, created={}, updated={}, skipped={}",
+                category, total, failedChunks, received, created, updated, skipped);
+
+        if (failure != null) {
+            log.error("[MainServer] ingest chunked partially failed. category={}, failedChunks={}/{}, failedItems={}",
+                    category, failedChunks, total, failedItems);
+            throw failure;
+        }
+
+        return new IngestResponse(received, created, updated, skipped);
+    }
+
+    // 메인서버가 받은 청크 알림 (콜백 실패가 청크 실패로 번지지 않도록 여기서 막음)
+    private static void notifyAccepted(
+            String label,
+            List<AnnouncementIngestItem> accepted,
+            Consumer<List<AnnouncementIngestItem>> onAccepted
+    ) {
+        if (accepted == null || accepted.isEmpty()) return;
+
+        try {
+            onAccepted.accept(accepted);
+        } catch (RuntimeException e) {
+            log.warn("[MainServer] {} accepted callback failed. items={}, ex={}",
+                    label, accepted.size(), e.getClass().getSimpleName(), e);
+        }
     }
 
     // 실제 http 호출 수행
@@ -49,14 +178,14 @@ public class MainServerIngestClient {
 
         try {
             // 요청수행 및  응답 받기
-            IngestResponse res = mainServerRestClient
+            IngestResponse res = IngestMetrics.time(IngestMetrics.MAIN_SERVER_INGEST, () -> mainServerRestClient
                     .post()
                     .uri(path)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON)
                     .body(request)
                     .retrieve()
-                    .body(IngestResponse.class);
+                    .body(IngestResponse.class), "category", categoryTag(request));
 
 
             if (res == null) {
@@ -66,6 +195,7 @@ public class MainServerIngestClient {
 
             log.info("[MainServer] ingest ok. received={}, created={}, updated={}, skipped={}",
                     res.received(), res.created(), res.updated(), res.skipped());
+            recordResult(categoryTag(request), res);
 
 
             return res;
@@ -87,6 +217,18 @@ public class MainServerIngestClient {
         }
     }
 
+    // 청크 단위로 기록되므로 합치면 전체 결과와 같음
+    private static void recordResult(String category, IngestResponse res) {
+        IngestMetrics.count(IngestMetrics.MAIN_SERVER_ITEMS, res.created(), "category", category, "result", "created");
+        IngestMetrics.count(IngestMetrics.MAIN_SERVER_ITEMS, res.updated(), "category", category, "result", "updated");
+        IngestMetrics.count(IngestMetrics.MAIN_SERVER_ITEMS, res.skipped(), "category", category, "result", "skipped");
+    }
+
+    private static String categoryTag(AnnouncementIngestRequest request) {
+        String category = request.category();
+        return (category == null || category.isBlank()) ? "none" : category.trim();
+    }
+
     // 경로 정규화
     private static String normalizePath(String raw) {
 
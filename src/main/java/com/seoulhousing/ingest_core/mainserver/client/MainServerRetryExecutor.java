@@ -1,5 +1,6 @@
 package com.seoulhousing.ingest_core.mainserver.client;
 
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.retry.annotation.Backoff;
@@ -22,12 +23,14 @@ public class MainServerRetryExecutor {
             backoff = @Backoff(delay = 300, multiplier = 2.0, maxDelay = 2000)
     )
     public <T> T run(String label, Supplier<T> supplier) {
+        IngestMetrics.retryAttempt("mainserver", label); // 재시도면 카운트
         return supplier.get();
     }
 
     @Recover
     public <T> T recover(ResourceAccessException e, String label, Supplier<T> supplier) {
         log.error("[MainServer][{}] retry exhausted. ex={}", label, e.getClass().getSimpleName());
+        IngestMetrics.retryExhausted("mainserver", label);
         throw new IllegalStateException("MainServer ingest 재시도 실패", e);
     }
 }
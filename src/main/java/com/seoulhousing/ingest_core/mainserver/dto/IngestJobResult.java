@@ -0,0 +1,29 @@
+package com.seoulhousing.ingest_core.mainserver.dto;
+
+import java.util.List;
+
+// 1회 작업 전체 결과 (러너가 종료코드를 정하는데 사용)
+// report 는 리포트를 만들지 않은 경우 null
+public record IngestJobResult(
+        List<PipelineOutcome> outcomes,
+        JobReport report
+) {
+
+    public IngestJobResult {
+        outcomes = (outcomes == null) ? List.of() : List.copyOf(outcomes);
+    }
+
+    public IngestJobResult(List<PipelineOutcome> outcomes) {
+        this(outcomes, null);
+    }
+
+    // 모든 파이프라인이 성공했는지
+    public boolean isSuccess() {
+        return outcomes.stream().allMatch(PipelineOutcome::isSuccess);
+    }
+
+    // 실패/타임아웃 된 파이프라인 목록
+    public List<PipelineOutcome> failedOutcomes() {
+        return outcomes.stream().filter(o -> !o.isSuccess()).toList();
+    }
+}
@@ -0,0 +1,8 @@
+package com.seoulhousing.ingest_core.mainserver.dto;
+
+// 1회 작업을 구성하는 파이프라인 단위
+public enum IngestPipeline {
+    MYHOME_RSDT,
+    MYHOME_LTRSDT,
+    SH_RSS
+}
@@ -0,0 +1,21 @@
+package com.seoulhousing.ingest_core.mainserver.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+// 1회 작업의 실행 기록 (종료 전에 JSON 한 덩어리로 파일/Redis 에 남김)
+// 순차 실행이 중간에 실패하면 실행되지 않은 파이프라인은 빠져있음
+// jvmUptimeMs : 작업 시작 시점의 JVM 가동 시간 (원샷이면 곧 기동 시간이라 CDS/AOT 효과를 여기서 봄)
+public record JobReport(
+        long jvmUptimeMs,
+        Instant startedAt,
+        Instant finishedAt,
+        long elapsedMs,
+        boolean success,
+        List<PipelineReport> pipelines
+) {
+
+    public JobReport {
+        pipelines = (pipelines == null) ? List.of() : List.copyOf(pipelines);
+    }
+}
@@ -0,0 +1,39 @@
+package com.seoulhousing.ingest_core.mainserver.dto;
+
+// 파이프라인 하나의 실행 결과
+public record PipelineOutcome(
+        IngestPipeline pipeline,
+        Status status,
+        long elapsedMs,
+        String error
+) {
+
+    public enum Status {
+        SUCCESS,
+        FAILED,
+        TIMED_OUT,
+        SKIPPED // 같은 파이프라인이 아직 실행중이라 이번 회차는 건너뜀 (상주 모드)
+    }
+
+    public static PipelineOutcome success(IngestPipeline pipeline, long elapsedMs) {
+        return new PipelineOutcome(pipeline, Status.SUCCESS, elapsedMs, null);
+    }
+
+    public static PipelineOutcome failed(IngestPipeline pipeline, long elapsedMs, Throwable cause) {
+        String error = (cause == null) ? null : cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return new PipelineOutcome(pipeline, Status.FAILED, elapsedMs, error);
+    }
+
+    public static PipelineOutcome timedOut(IngestPipeline pipeline, long elapsedMs) {
+        return new PipelineOutcome(pipeline, Status.TIMED_OUT, elapsedMs, "timeout after " + elapsedMs + "ms");
+    }
+
+    public static PipelineOutcome skipped(IngestPipeline pipeline) {
+        return new PipelineOutcome(pipeline, Status.SKIPPED, 0L, null);
+    }
+
+    // 건너뛴 회차는 실패로 보지 않음
+    public boolean isSuccess() {
+        return status == Status.SUCCESS || status == Status.SKIPPED;
+    }
+}
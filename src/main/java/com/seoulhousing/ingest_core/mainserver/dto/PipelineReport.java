@@ -0,0 +1,56 @@
+package com.seoulhousing.ingest_core.mainserver.dto;
+
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import com.seoulhousing.ingest_core.metrics.StageTally;
+
+import java.time.Instant;
+
+// 리포트에 남는 파이프라인 하나의 실행 기록
+//  - pagesFetched : 마이홈 페이지 + SH RSS 응답 수 (성공한 것만)
+//  - bytes        : 받은 응답 바이트 (지금은 SH RSS 만 잼)
+//  - ingestChunks : 메인서버가 받은 요청(청크) 수
+//  - errors       : 예외로 끝난 호출 수 (재시도로 복구된 시도도 포함)
+//  - missingCount : 멤버십 확인으로 감지해서 누락을 계산하지 않았으면 null
+public record PipelineReport(
+        IngestPipeline pipeline,
+        PipelineOutcome.Status status,
+        Instant startedAt,
+        Instant finishedAt,
+        long elapsedMs,
+        long pagesFetched,
+        long bytes,
+        long itemsCollected,
+        long newCount,
+        Long missingCount,
+        long changedCount,
+        long ingestChunks,
+        long retries,
+        long errors,
+        String error
+) {
+
+    public static PipelineReport of(
+            PipelineOutcome outcome,
+            Instant startedAt,
+            Instant finishedAt,
+            StageTally tally
+    ) {
+        return new PipelineReport(
+                outcome.pipeline(),
+                outcome.status(),
+                startedAt,
+                finishedAt,
+                outcome.elapsedMs(),
+                tally.count(IngestMetrics.MYHOME_PAGE_ITEMS) + tally.count(IngestMetrics.SH_RSS_BYTES),
+                tally.sum(IngestMetrics.SH_RSS_BYTES),
+                tally.sum(IngestMetrics.MYHOME_PAGE_ITEMS) + tally.sum(IngestMetrics.SH_RSS_ITEMS),
+                tally.sum(IngestMetrics.DIFF_NEW),
+                tally.count(IngestMetrics.DIFF_MISSING_SKIPPED) > 0 ? null : tally.sum(IngestMetrics.DIFF_MISSING),
+                tally.sum(IngestMetrics.DIFF_CHANGED),
+                tally.count(IngestMetrics.MAIN_SERVER_INGEST),
+                tally.sum(IngestMetrics.RETRY_ATTEMPTS),
+                tally.sum(StageTally.ERRORS),
+                outcome.error()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.seoulhousing.ingest_core.mainserver.dto;
+
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeedState;
+
+import java.util.List;
+
+// SH 수집 결과
+// unchanged     : 피드가 지난번과 같아서 파싱/감지/전송을 모두 건너뜀
+// feedState     : 파이프라인이 끝까지 성공하면 저장할 피드 상태
+// highWaterMark : 파이프라인이 끝까지 성공하면 저장할 증분 기준점
+public record ShRssCollectResult(
+        boolean unchanged,
+        List<AnnouncementIngestItem> items,
+        ShRssFeedState feedState,
+        ShRssHighWaterMark highWaterMark
+) {
+
+    public static ShRssCollectResult unchanged(ShRssFeedState feedState) {
+        return new ShRssCollectResult(true, List.of(), feedState, null);
+    }
+
+    public static ShRssCollectResult changed(List<AnnouncementIngestItem> items, ShRssFeedState feedState) {
+        return new ShRssCollectResult(false, (items == null) ? List.of() : items, feedState, null);
+    }
+
+    public static ShRssCollectResult incremental(List<AnnouncementIngestItem> items, ShRssHighWaterMark highWaterMark) {
+        return new ShRssCollectResult(false, (items == null) ? List.of() : items, null, highWaterMark);
+    }
+}
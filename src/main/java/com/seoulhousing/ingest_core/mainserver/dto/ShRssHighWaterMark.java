@@ -0,0 +1,61 @@
+package com.seoulhousing.ingest_core.mainserver.dto;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// SH 증분 모드 기준점 (SH 메타 해쉬에 저장)
+// seq / publishedAt : 지금까지 받은 아이템 중 가장 큰 seq, 가장 늦은 pubDate
+// lastReconcileAt   : 마지막 전체 diff 시각
+public record ShRssHighWaterMark(long seq, Instant publishedAt, Instant lastReconcileAt) {
+
+    public static final String META_SEQ = "hwmSeq";
+    public static final String META_PUBLISHED_AT = "hwmPublishedAt";
+    public static final String META_LAST_RECONCILE_AT = "lastReconcileAt";
+
+    // 저장된 기준점이 없거나 깨져있으면 null (전체 diff 로 다시 만듦)
+    public static ShRssHighWaterMark fromMetaOrNull(Map<String, String> meta) {
+        if (meta == null) return null;
+
+        String seq = meta.get(META_SEQ);
+        String reconciledAt = meta.get(META_LAST_RECONCILE_AT);
+        if (seq == null || reconciledAt == null) return null;
+
+        try {
+            String publishedAt = meta.get(META_PUBLISHED_AT);
+            return new ShRssHighWaterMark(
+                    Long.parseLong(seq.trim()),
+                    (publishedAt == null || publishedAt.isBlank()) ? null : Instant.parse(publishedAt.trim()),
+                    Instant.parse(reconciledAt.trim())
+            );
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    public Map<String, String> toMeta() {
+        Map<String, String> meta = new LinkedHashMap<>();
+        meta.put(META_SEQ, Long.toString(seq));
+        if (publishedAt != null) meta.put(META_PUBLISHED_AT, publishedAt.toString());
+        meta.put(META_LAST_RECONCILE_AT, lastReconcileAt.toString());
+        return meta;
+    }
+
+    // 이미 받은 구간인지 (seq 도 pubDate 도 기준 이하)
+    // pubDate 가 없으면 seq 로만 판단
+    public boolean isAtOrBelow(long itemSeq, Instant itemPublishedAt) {
+        if (itemSeq > seq) return false;
+        if (itemPublishedAt == null || publishedAt == null) return true;
+        return !itemPublishedAt.isAfter(publishedAt);
+    }
+
+    // 새로 받은 아이템으로 기준점 올림 (내려가지는 않음)
+    public ShRssHighWaterMark advance(long itemSeq, Instant itemPublishedAt) {
+        long nextSeq = Math.max(seq, itemSeq);
+        Instant nextPublishedAt = publishedAt;
+        if (itemPublishedAt != null && (nextPublishedAt == null || itemPublishedAt.isAfter(nextPublishedAt))) {
+            nextPublishedAt = itemPublishedAt;
+        }
+        return new ShRssHighWaterMark(nextSeq, nextPublishedAt, lastReconcileAt);
+    }
+}
@@ -0,0 +1,48 @@
+package com.seoulhousing.ingest_core.mainserver.mapper;
+
+import com.seoulhousing.ingest_core.common.Fingerprints;
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+
+// 메인서버로 보내는 필드 기준 내용 체크섬 (비암호화 64비트 해시, 16자리 hex)
+// 보내는 값이 하나라도 바뀌면(마감일/임대료 등) 체크섬이 바뀐다
+// extras : 메인서버로는 안보내지만 바뀌면 다시 보내야 하는 원본 값 (예: 마이홈 상태명)
+public final class IngestItemChecksums {
+
+    // 필드 구분자 / null 표시 (값 안에 잘 나오지 않는 제어문자)
+    private static final char SEP = '\u001f';
+    private static final char NULL = '\u0000';
+
+    private IngestItemChecksums() {
+    }
+
+    public static String of(AnnouncementIngestItem item, String... extras) {
+        if (item == null) {
+            throw new IllegalArgumentException("item must not be null");
+        }
+
+        StringBuilder sb = new StringBuilder(256);
+        for (Object value : IngestItemFields.values(item)) {
+            append(sb, value);
+        }
+
+        for (String extra : extras) {
+            append(sb, extra);
+        }
+
+        return toHex(Fingerprints.of(sb));
+    }
+
+    private static void append(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append(NULL);
+        } else {
+            sb.append(value);
+        }
+        sb.append(SEP);
+    }
+
+    private static String toHex(long v) {
+        String hex = Long.toHexString(v);
+        return (hex.length() == 16) ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+}
@@ -0,0 +1,53 @@
+package com.seoulhousing.ingest_core.mainserver.mapper;
+
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+
+// 메인서버로 보내는 AnnouncementIngestItem 의 필드 이름/값 (record 선언 순서 = JSON 필드 순서)
+// 청크 크기 추정과 내용 체크섬이 필드를 손으로 나열하지 않도록 record 구성요소에서 한번만 뽑아둠
+// (record 에 필드가 추가되면 둘 다 자동으로 따라감)
+public final class IngestItemFields {
+
+    private static final List<String> NAMES;
+    private static final Method[] ACCESSORS;
+
+    static {
+        RecordComponent[] components = AnnouncementIngestItem.class.getRecordComponents();
+        List<String> names = new ArrayList<>(components.length);
+        ACCESSORS = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names.add(components[i].getName());
+            ACCESSORS[i] = components[i].getAccessor();
+        }
+        NAMES = List.copyOf(names);
+    }
+
+    private IngestItemFields() {
+    }
+
+    public static List<String> names() {
+        return NAMES;
+    }
+
+    // 필드값 (names() 와 같은 순서, null 그대로)
+    public static Object[] values(AnnouncementIngestItem item) {
+        if (item == null) {
+            throw new IllegalArgumentException("item must not be null");
+        }
+
+        Object[] values = new Object[ACCESSORS.length];
+        try {
+            for (int i = 0; i < ACCESSORS.length; i++) {
+                values[i] = ACCESSORS[i].invoke(item);
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("AnnouncementIngestItem 필드를 읽을 수 없음", e);
+        }
+        return values;
+    }
+}
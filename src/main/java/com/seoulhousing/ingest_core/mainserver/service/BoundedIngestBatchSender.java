@@ -0,0 +1,150 @@
+package com.seoulhousing.ingest_core.mainserver.service;
+
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestRequest;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+// 아이템을 batchSize 단위로 묶어 별도 가상스레드에서 메인서버로 보내는 전송기
+// 대기 배치 수를 제한해서 수집이 전송보다 너무 앞서가지 않도록 한다 (꽉 차면 add 가 기다림)
+final class BoundedIngestBatchSender implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedIngestBatchSender.class);
+
+    // 종료 신호용 배치 (identity 로 비교)
+    private static final List<AnnouncementIngestItem> END = new ArrayList<>(0);
+
+    private final String category;
+    private final int batchSize;
+    private final Function<AnnouncementIngestRequest, IngestResponse> ingest;
+
+    private final BlockingQueue<List<AnnouncementIngestItem>> queue;
+    private final Thread worker;
+
+    private List<AnnouncementIngestItem> buffer;
+    private boolean finished = false;
+
+    // 아래 값들은 worker 만 쓰고, join 이후에 읽는다
+    private volatile RuntimeException failure;
+    private int batches;
+    private int received;
+    private int created;
+    private int updated;
+    private int skipped;
+
+    // ingest : 배치 하나를 메인서버로 보내는 함수 (보통 MainServerIngestClient::ingest)
+    BoundedIngestBatchSender(
+            String category,
+            int batchSize,
+            int maxPendingBatches,
+            Function<AnnouncementIngestRequest, IngestResponse> ingest
+    ) {
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize must be >= 1");
+        if (maxPendingBatches < 1) throw new IllegalArgumentException("maxPendingBatches must be >= 1");
+
+        this.category = category;
+        this.batchSize = batchSize;
+        this.ingest = ingest;
+        this.queue = new ArrayBlockingQueue<>(maxPendingBatches);
+        this.buffer = new ArrayList<>(batchSize);
+        this.worker = Thread.ofVirtual().name("ingest-sender-" + category).start(this::drain);
+    }
+
+    // 아이템 하나 추가 (batchSize 가 차면 전송 대기열로 넘김)
+    void add(AnnouncementIngestItem item) {
+        throwIfFailed();
+        buffer.add(item);
+        if (buffer.size() >= batchSize) flush();
+    }
+
+    // 남은 아이템을 보내고 전송이 모두 끝날때까지 기다린 뒤 합계를 반환
+    IngestResponse finish() {
+        if (!buffer.isEmpty()) flush();
+        stop();
+        throwIfFailed();
+
+        log.info("[MainServer][{}] streamed ingest done. batches={}", category, batches);
+        return new IngestResponse(received, created, updated, skipped);
+    }
+
+    int batches() {
+        return batches;
+    }
+
+    // finish 없이 빠져나오는 경우(수집 실패 등) worker 정리
+    @Override
+    public void close() {
+        if (!finished) {
+            buffer = new ArrayList<>(0);
+            stop();
+        }
+    }
+
+    private void flush() {
+        put(buffer);
+        buffer = new ArrayList<>(batchSize);
+    }
+
+    private void stop() {
+        finished = true;
+        put(END);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.interrupt();
+            throw new IllegalStateException("ingest sender interrupted", e);
+        }
+    }
+
+    private void put(List<AnnouncementIngestItem> batch) {
+        try {
+            queue.put(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.interrupt();
+            throw new IllegalStateException("ingest sender interrupted", e);
+        }
+    }
+
+    private void throwIfFailed() {
+        RuntimeException e = failure;
+        if (e != null) throw e;
+    }
+
+    // worker : 대기열에서 배치를 꺼내 순서대로 전송
+    private void drain() {
+        try {
+            while (true) {
+                List<AnnouncementIngestItem> batch = queue.take();
+                if (batch == END) return;
+
+                // 이미 실패했으면 남은 배치는 버리면서 생산자가 막히지 않도록 계속 비운다
+                if (failure != null) continue;
+
+                try {
+                    IngestResponse res = ingest.apply(new AnnouncementIngestRequest(category, batch));
+                    batches++;
+                    received += res.received();
+                    created += res.created();
+                    updated += res.updated();
+                    skipped += res.skipped();
+                } catch (RuntimeException e) {
+                    log.error("[MainServer][{}] streamed batch failed. size={}, ex={}",
+                            category, batch.size(), e.getClass().getSimpleName());
+                    failure = e;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (failure == null) failure = new IllegalStateException("ingest sender interrupted", e);
+        }
+    }
+}
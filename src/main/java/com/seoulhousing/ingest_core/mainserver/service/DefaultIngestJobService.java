@@ -1,7 +1,10 @@
 package com.seoulhousing.ingest_core.mainserver.service;
 
 import com.seoulhousing.ingest_core.announcement.dto.ChangeDetectionResult;
+import com.seoulhousing.ingest_core.announcement.port.SeenStdIdWriterPort;
 import com.seoulhousing.ingest_core.announcement.service.AnnouncementChangeDetectionService;
+import com.seoulhousing.ingest_core.announcement.service.ChangeDetectionSession;
+import com.seoulhousing.ingest_core.announcement.service.SeenStdIdPrefetcher;
 import com.seoulhousing.ingest_core.announcement.service.StdIdGenerator;
 import com.seoulhousing.ingest_core.external.myhome.dto.LtRsdtListRequest;
 import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
@@ -12,9 +15,17 @@ import com.seoulhousing.ingest_core.external.sh.dto.ShRssItem;
 import com.seoulhousing.ingest_core.mainserver.client.MainServerIngestClient;
 import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
 import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestRequest;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestJobResult;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestPipeline;
 import com.seoulhousing.ingest_core.mainserver.dto.IngestResponse;
+import com.seoulhousing.ingest_core.mainserver.dto.JobReport;
+import com.seoulhousing.ingest_core.mainserver.dto.PipelineOutcome;
+import com.seoulhousing.ingest_core.mainserver.dto.ShRssCollectResult;
+import com.seoulhousing.ingest_core.mainserver.mapper.IngestItemChecksums;
 import com.seoulhousing.ingest_core.mainserver.mapper.MyHomeToIngestItemMapper;
 import com.seoulhousing.ingest_core.mainserver.mapper.ShRssToIngestItemMapper;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import com.seoulhousing.ingest_core.redis.MyHomeChecksumStorePort;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,9 +33,23 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -40,7 +65,14 @@ public class DefaultIngestJobService implements IngestJobService {
 
     private final StdIdGenerator stdIdGenerator;
     private final AnnouncementChangeDetectionService changeDetectionService;
+    private final SeenStdIdPrefetcher seenStdIdPrefetcher;
+    private final SeenStdIdWriterPort seenStdIdWriterPort;
+    private final MyHomeChecksumStorePort myHomeChecksumStorePort;
     private final MainServerIngestClient mainServerIngestClient;
+    private final JobReportPublisher jobReportPublisher;
+
+    // 파이프라인별 실행 잠금 (상주 모드에서 같은 파이프라인이 겹쳐 돌지 않도록)
+    private final Map<IngestPipeline, ReentrantLock> pipelineLocks = newPipelineLocks();
 
     @Value("${ingest.scope}")
     private String scope;
@@ -58,36 +90,292 @@ public class DefaultIngestJobService implements IngestJobService {
     private String shCategory;
 
 
+    // 세 파이프라인을 가상스레드로 동시에 실행할지 여부
+    @Value("${ingest.job.concurrent:false}")
+    private boolean concurrent;
+
+    // 동시 실행/단독 실행(상주 모드)시 파이프라인별 제한시간
+    @Value("${ingest.job.pipeline-timeout-ms:600000}")
+    private long pipelineTimeoutMs;
+
+    // 제한시간이 지나 인터럽트한 뒤 작업이 실제로 멈추길 기다리는 시간 (넘기면 버리고 진행)
+    @Value("${ingest.job.pipeline-shutdown-grace-ms:5000}")
+    private long pipelineShutdownGraceMs;
+
+    // 작업 시작때 seen set 을 미리 읽어둘지 여부 (수집과 Redis 조회를 겹치게)
+    @Value("${ingest.seen.prefetch:true}")
+    private boolean seenPrefetch;
+
+    // 메인서버가 받은 청크의 stdId 를 바로 seen set 에 기록할지 여부
+    @Value("${ingest.seen.write-enabled:false}")
+    private boolean seenWriteEnabled;
+
+    // 마이홈 내용 체크섬을 비교해서 바뀐 공고도 다시 보낼지 여부
+    @Value("${ingest.myhome.checksum-enabled:false}")
+    private boolean myhomeChecksumEnabled;
+
+    // SH 피드가 지난번과 같으면 (304 / 같은 바디) 파이프라인 전체 스킵
+    @Value("${ingest.sh.conditional-fetch:false}")
+    private boolean shConditionalFetch;
+
+    // SH 응답을 byte[] 로 모으지 않고 읽으면서 신규만 추림 (이미 본 seq 를 만나면 중단)
+    // 바디 해시가 필요한 조건부 요청보다 우선
+    @Value("${ingest.sh.streaming:false}")
+    private boolean shStreaming;
+
+    // SH 증분 모드 (기준점 이하에서 중단, 전체 diff 는 reconcile 주기마다) - 다른 SH 옵션보다 우선
+    @Value("${ingest.sh.incremental:false}")
+    private boolean shIncremental;
+
+    // 마이홈을 페이지 단위로 흘려보낼지 여부 (수집/감지/전송이 겹쳐서 진행됨)
+    @Value("${ingest.myhome.streaming:false}")
+    private boolean myhomeStreaming;
+
+    @Value("${ingest.myhome.stream-batch-size:200}")
+    private int myhomeStreamBatchSize;
+
+    // 전송 대기 배치 상한 (힙에 들고있는 배치 수)
+    @Value("${ingest.myhome.stream-max-pending-batches:2}")
+    private int myhomeStreamMaxPendingBatches;
+
+
     @Override
-    public void runOnce() {
+    public IngestJobResult runOnce() {
         // 작업 시작 로그
-        log.info("[JOB] start. scope={}", scope);
+        log.info("[JOB] start. scope={}, concurrent={}", scope, concurrent);
+
+        // 외부 API 수집이 도는 동안 seen set 로딩이 끝나도록 먼저 걸어둔다
+        if (seenPrefetch) prefetchSeenSets();
+
+        // 순차 실행이 예외로 끝나도 그때까지의 기록은 리포트로 남김
+        JobReportRecorder recorder = new JobReportRecorder();
+        List<PipelineOutcome> outcomes = new ArrayList<>();
+        JobReport report;
+        try {
+            if (concurrent) {
+                runConcurrently(recorder, outcomes);
+            } else {
+                runSequentially(recorder, outcomes);
+            }
+        } finally {
+            seenStdIdPrefetcher.discardAll();
+            report = publishReport(recorder, outcomes);
+        }
 
-        // 1.마이홈 공공임대 실행
-        runMyHome(myhomeRsdtCategory, collectRsdt());
+        IngestJobResult result = new IngestJobResult(outcomes, report);
 
-        // 2.마이홈 공공분양 실행
-        runMyHome(myhomeLtRsdtCategory, collectLtRsdt());
+        // 작업 종료 로그
+        log.info("[JOB] done. outcomes={}", result.outcomes());
+        return result;
+    }
 
-        // 3.Sh RSS 실행
-        runShRss(shCategory);
+    @Override
+    public IngestJobResult runPipeline(IngestPipeline pipeline) {
+        if (pipeline == null) throw new IllegalArgumentException("pipeline must not be null");
 
-        // 작업 종료 로그
-        log.info("[JOB] done.");
+        ReentrantLock lock = pipelineLocks.get(pipeline);
+        if (!lock.tryLock()) {
+            log.warn("[JOB][{}] previous run still in progress -> skip", pipeline);
+            return new IngestJobResult(List.of(PipelineOutcome.skipped(pipeline)));
+        }
 
+        // 동시 실행과 같은 제한시간/인터럽트/버림 처리 (멈춘 실행이 잠금을 계속 쥐고 있으면 이후 회차가 전부 SKIPPED 가 됨)
+        // 제한시간이 지나 버린 작업은 계속 돌 수 있지만 잠금은 풀어서 다음 회차는 스케줄대로 진행
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        JobReportRecorder recorder = new JobReportRecorder();
+        List<PipelineOutcome> outcomes = new ArrayList<>(1);
+        JobReport report;
+        try {
+            long startNanos = System.nanoTime();
+            Future<Long> future = executor.submit(() -> {
+                recorder.run(pipeline, () -> execute(pipeline));
+                return elapsedMs(startNanos);
+            });
+
+            // 실패/타임아웃은 예외 대신 결과에 남김 (다음 회차는 스케줄대로)
+            outcomes.add(await(pipeline, future, startNanos,
+                    startNanos + TimeUnit.MILLISECONDS.toNanos(pipelineTimeoutMs)));
+        } finally {
+            shutdownPipelines(executor);
+            report = publishReport(recorder, outcomes);
+            lock.unlock();
+        }
+        return new IngestJobResult(outcomes, report);
     }
 
+    private static Map<IngestPipeline, ReentrantLock> newPipelineLocks() {
+        Map<IngestPipeline, ReentrantLock> locks = new EnumMap<>(IngestPipeline.class);
+        for (IngestPipeline pipeline : IngestPipeline.values()) {
+            locks.put(pipeline, new ReentrantLock());
+        }
+        return locks;
+    }
 
-    //마이홈 수집 공공임대
-    private List<MyHomeItemDto> collectRsdt() {
-        // 요청 생성
-        RsdtListRequest req = RsdtListRequest.builder()
+    // 모든 (source, category, scope) seen set 비동기 로딩 시작
+    // 멤버십 확인을 쓰면 detect 로 판정하는 키는 set 을 안 받을 수 있으니 미리읽기를 걸지 않음
+    // (걸어두면 버려도 전송은 이미 시작돼서 아끼려던 전송량을 그대로 씀)
+    private void prefetchSeenSets() {
+        boolean membership = changeDetectionService.usesMembershipCheck();
+
+        // 마이홈 스트리밍은 openSession 이라 항상 set 전체를 씀
+        if (myhomeStreaming || !membership) {
+            seenStdIdPrefetcher.prefetch("myhome", myhomeRsdtCategory, scope);
+            seenStdIdPrefetcher.prefetch("myhome", myhomeLtRsdtCategory, scope);
+        }
+
+        // SH 는 DefaultShRssIngestService 와 같은 source("sh")/trim 된 카테고리 키를 사용
+        // 스트리밍/증분 모드는 detect 대신 countSeen/filterUnseen 만 써서 set 전체가 필요없음
+        if (!membership && !shStreaming && !shIncremental && shCategory != null && !shCategory.isBlank()) {
+            seenStdIdPrefetcher.prefetch("sh", shCategory.trim(), scope);
+        }
+    }
+
+    // 리포트를 만들어 내보냄 (리포트 쪽 문제가 작업 결과나 원래 예외를 가리지 않도록)
+    private JobReport publishReport(JobReportRecorder recorder, List<PipelineOutcome> outcomes) {
+        try {
+            JobReport report = recorder.build(outcomes);
+            jobReportPublisher.publish(report);
+            return report;
+        } catch (RuntimeException e) {
+            log.warn("[JOB] report failed. ex={}", e.getClass().getSimpleName(), e);
+            return null;
+        }
+    }
+
+    // 순차 실행 : 1.공공임대 -> 2.공공분양 -> 3.Sh RSS (실패하면 예외 그대로 전파)
+    private void runSequentially(JobReportRecorder recorder, List<PipelineOutcome> outcomes) {
+        for (IngestPipeline pipeline : IngestPipeline.values()) {
+            runTracked(recorder, outcomes, pipeline);
+        }
+    }
+
+    // 파이프라인 하나를 실행하고 결과를 outcomes 에 남김 (실패면 FAILED 를 남기고 예외는 그대로 던짐)
+    private void runTracked(JobReportRecorder recorder, List<PipelineOutcome> outcomes, IngestPipeline pipeline) {
+        long startNanos = System.nanoTime();
+        try {
+            recorder.run(pipeline, () -> execute(pipeline));
+        } catch (RuntimeException e) {
+            outcomes.add(PipelineOutcome.failed(pipeline, elapsedMs(startNanos), e));
+            throw e;
+        }
+        outcomes.add(PipelineOutcome.success(pipeline, elapsedMs(startNanos)));
+    }
+
+    // 동시 실행 : 파이프라인마다 가상스레드 하나, 하나가 실패해도 나머지는 계속 진행
+    private void runConcurrently(JobReportRecorder recorder, List<PipelineOutcome> outcomes) {
+        Map<IngestPipeline, Future<Long>> futures = new EnumMap<>(IngestPipeline.class);
+
+        // close() 는 인터럽트를 무시하는 작업까지 끝날때까지 기다려서 제한시간이 안 지켜지므로 쓰지 않음
+        // 끝나면 shutdownNow + 정해진 시간만큼만 기다리고, 그래도 안 멈춘 작업은 버림 (가상스레드라 프로세스 종료는 안 막음)
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            long startNanos = System.nanoTime();
+            long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(pipelineTimeoutMs);
+
+            for (IngestPipeline pipeline : IngestPipeline.values()) {
+                futures.put(pipeline, executor.submit(() -> {
+                    long pipelineStart = System.nanoTime();
+                    recorder.run(pipeline, () -> execute(pipeline));
+                    return elapsedMs(pipelineStart);
+                }));
+            }
+
+            // 모두 같은 시점에 시작했으니 공통 deadline 까지 기다리면 파이프라인별 제한시간이 된다
+            futures.forEach((pipeline, future) ->
+                    outcomes.add(await(pipeline, future, startNanos, deadlineNanos)));
+        } finally {
+            shutdownPipelines(executor);
+        }
+    }
+
+    // 남은 작업을 인터럽트하고 유예시간만큼만 기다림
+    private void shutdownPipelines(ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(pipelineShutdownGraceMs, TimeUnit.MILLISECONDS)) {
+                log.warn("[JOB] pipelines still running after interrupt -> abandoned. graceMs={}", pipelineShutdownGraceMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 파이프라인 하나의 결과를 기다리고 성공/실패/타임아웃으로 정리
+    private PipelineOutcome await(IngestPipeline pipeline, Future<Long> future, long startNanos, long deadlineNanos) {
+        try {
+            long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+            return PipelineOutcome.success(pipeline, future.get(remaining, TimeUnit.NANOSECONDS));
+
+        } catch (TimeoutException e) {
+            // 제한시간 초과 -> 인터럽트로 취소
+            future.cancel(true);
+            log.error("[JOB][{}] timed out. timeoutMs={}", pipeline, pipelineTimeoutMs);
+            return PipelineOutcome.timedOut(pipeline, elapsedMs(startNanos));
+
+        } catch (ExecutionException e) {
+            Throwable cause = (e.getCause() == null) ? e : e.getCause();
+            log.error("[JOB][{}] failed. ex={}", pipeline, cause.getClass().getSimpleName(), cause);
+            return PipelineOutcome.failed(pipeline, elapsedMs(startNanos), cause);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            log.error("[JOB][{}] interrupted while waiting", pipeline);
+            return PipelineOutcome.failed(pipeline, elapsedMs(startNanos), e);
+        }
+    }
+
+    // 파이프라인 단위 실행
+    private void execute(IngestPipeline pipeline) {
+        switch (pipeline) {
+            // 1.마이홈 공공임대 실행
+            case MYHOME_RSDT -> {
+                if (myhomeStreaming) {
+                    runMyHomeStreaming(myhomeRsdtCategory,
+                            pageConsumer -> rsdtCollector.forEachPage(rsdtRequest(), pageConsumer));
+                } else {
+                    runMyHome(myhomeRsdtCategory, collectRsdt());
+                }
+            }
+            // 2.마이홈 공공분양 실행
+            case MYHOME_LTRSDT -> {
+                if (myhomeStreaming) {
+                    runMyHomeStreaming(myhomeLtRsdtCategory,
+                            pageConsumer -> ltRsdtCollector.forEachPage(ltRsdtRequest(), pageConsumer));
+                } else {
+                    runMyHome(myhomeLtRsdtCategory, collectLtRsdt());
+                }
+            }
+            // 3.Sh RSS 실행
+            case SH_RSS -> runShRss(shCategory);
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+
+    // 공공임대 요청 생성
+    private RsdtListRequest rsdtRequest() {
+        return RsdtListRequest.builder()
                 .pageNo(1)
                 .numOfRows(myhomeNumOfRows)
                 .build();
+    }
+
+    // 공공분양 요청 생성
+    private LtRsdtListRequest ltRsdtRequest() {
+        return LtRsdtListRequest.builder()
+                .pageNo(1)
+                .numOfRows(myhomeNumOfRows)
+                .build();
+    }
 
+    //마이홈 수집 공공임대
+    private List<MyHomeItemDto> collectRsdt() {
         //수집실행
-        List<MyHomeItemDto> items = rsdtCollector.collect(req);
+        List<MyHomeItemDto> items = rsdtCollector.collect(rsdtRequest());
         if (items == null) items = List.of();
         log.info("[MyHome][{}] collected={}", myhomeRsdtCategory, items.size());
         return items;
@@ -95,14 +383,8 @@ public class DefaultIngestJobService implements IngestJobService {
 
     //마이홈 수집 공공분양
     private List<MyHomeItemDto> collectLtRsdt() {
-        // 요청 생성
-        LtRsdtListRequest req = LtRsdtListRequest.builder()
-                .pageNo(1)
-                .numOfRows(myhomeNumOfRows)
-                .build();
-
         //수집실행
-        List<MyHomeItemDto> items = ltRsdtCollector.collect(req);
+        List<MyHomeItemDto> items = ltRsdtCollector.collect(ltRsdtRequest());
         if (items == null) items = List.of();
         log.info("[MyHome][{}] collected={}", myhomeLtRsdtCategory, items.size());
         return items;
@@ -121,59 +403,215 @@ public class DefaultIngestJobService implements IngestJobService {
             if (stdId != null && !stdId.isBlank()) currentStdIds.add(stdId.trim());
         }
 
-        // 신규 감지
-        ChangeDetectionResult diff = changeDetectionService.detect(
-                "myhome",
-                category,
-                scope,
-                currentStdIds // current list
-        );
+        // 신규 감지 (체크섬 옵션이 켜져있으면 내용 변경도 같이)
+        Map<String, String> currentChecksums = Map.of();
+        ChangeDetectionResult diff;
+
+        if (myhomeChecksumEnabled) {
+            currentChecksums = myhomeChecksums(category, items);
+            Map<String, String> stored = myHomeChecksumStorePort.getChecksums(category, scope, currentChecksums.keySet());
+
+            diff = changeDetectionService.detect("myhome", category, scope, currentStdIds, currentChecksums, stored);
+            adoptChecksums(category, currentChecksums, stored, new HashSet<>(diff.getNewStdIds()));
+            pruneChecksums(category, diff);
+        } else {
+            diff = changeDetectionService.detect(
+                    "myhome",
+                    category,
+                    scope,
+                    currentStdIds // current list
+            );
+        }
 
         // 결과 로그
-        log.info("[MyHome][{}] current={}, seen={}, new={}, missing={}",
+        log.info("[MyHome][{}] current={}, seen={}, new={}, changed={}, missing={}",
                 category, // 카테고리
                 diff.getCurrentCount(), // 현재 개수
                 diff.getSeenCount(), // seen 개수
                 diff.getNewStdIds().size(), // 신규
-                diff.getMissingStdIds().size() // 누락
+                diff.getChangedStdIds().size(), // 내용 변경
+                diff.missingCountText() // 누락 (멤버십 판정이면 skipped)
         );
 
-        //신규 stdId set 생성
-        Set<String> newStdIdSet = new HashSet<>(diff.getNewStdIds());
+        //신규 + 내용 변경 stdId set 생성
+        Set<String> sendStdIdSet = new HashSet<>(diff.getNewStdIds());
+        sendStdIdSet.addAll(diff.getChangedStdIds());
 
-        //신규 아이템만 추려서 메인서버dto로 변환
-        List<AnnouncementIngestItem> newIngestItems = new ArrayList<>(); // 신규 전송 리스트
+        //보낼 아이템만 추려서 메인서버dto로 변환
+        List<AnnouncementIngestItem> newIngestItems = new ArrayList<>(); // 전송 리스트
+        Map<String, String> stdIdByExternalKey = new HashMap<>(); // seen/체크섬 기록용
 
         for (MyHomeItemDto it : items) {
             if (it == null) continue;
 
             String stdId = stdIdGenerator.myhomeOrNull(category, it.getPblancId(), it.getHouseSn());
-            if (stdId == null || !newStdIdSet.contains(stdId)) continue;
+            if (stdId == null || !sendStdIdSet.contains(stdId)) continue;
 
             AnnouncementIngestItem mapped = MyHomeToIngestItemMapper.map(it);
-            if (mapped == null || mapped.externalKey() == null || mapped.externalKey().isBlank()) continue;
+            if (mapped == null || mapped.externalKey() == null || mapped.externalKey().isBlank()) {
+                IngestMetrics.count(IngestMetrics.MAPPER_REJECTED, 1, "source", "myhome");
+                continue;
+            }
 
             newIngestItems.add(mapped);
+            stdIdByExternalKey.put(mapped.externalKey(), stdId);
         }
 
-        //신규가없으면 메인서버 호출 스킵
+        //보낼게 없으면 메인서버 호출 스킵
         if (newIngestItems.isEmpty()) {
             log.info("[MyHome][{}] no new -> skip ingest", category);
             return;
         }
 
-        //신규가 있으면 메인서버 호출
+        //있으면 메인서버 호출
         AnnouncementIngestRequest req = new AnnouncementIngestRequest(
                 category,
                 newIngestItems
         );
-        IngestResponse res = mainServerIngestClient.ingest(req);
+        IngestResponse res = ingest("myhome", req,
+                it -> stdIdByExternalKey.get(it.externalKey()),
+                myhomeChecksumEnabled ? currentChecksums::get : null);
 
         //결과 로그
         log.info("[MyHome][{}] ingest result. received={}, created={}, updated={}, skipped={}",
                 category, res.received(), res.created(), res.updated(), res.skipped());
     }
 
+    //마이홈 카테고리 단위 스트리밍 실행
+    //페이지가 도착하는 대로 stdId 생성 -> 신규/변경 감지 -> 변환 -> 배치 전송 (힙에는 페이지 하나 + 대기 배치만)
+    private void runMyHomeStreaming(String category, Consumer<Consumer<List<MyHomeItemDto>>> pageSource) {
+
+        // seen 은 세션을 열때 한번만 읽는다 (기록된 체크섬은 페이지마다 그 페이지 stdId 만 읽음)
+        ChangeDetectionSession session = changeDetectionService.openSession("myhome", category, scope);
+
+        IngestResponse res;
+        int batches;
+
+        // seen/체크섬 기록용 (전송 대기중인 것만 들고있다가 받아지면 뺀다)
+        boolean recordAccepted = seenWriteEnabled || myhomeChecksumEnabled;
+        Map<String, String> pendingStdIds = new ConcurrentHashMap<>();
+        Map<String, String> pendingChecksums = new ConcurrentHashMap<>();
+
+        try (BoundedIngestBatchSender sender = new BoundedIngestBatchSender(
+                category, myhomeStreamBatchSize, myhomeStreamMaxPendingBatches,
+                req -> ingest("myhome", req,
+                        it -> pendingStdIds.remove(it.externalKey()),
+                        myhomeChecksumEnabled ? pendingChecksums::remove : null))) {
+
+            pageSource.accept(page -> {
+                // 페이지 안에서 stdId -> 아이템 (같은 stdId 는 처음것만)
+                Map<String, MyHomeItemDto> byStdId = new LinkedHashMap<>();
+                for (MyHomeItemDto it : page) {
+                    if (it == null) continue;
+                    String stdId = stdIdGenerator.myhomeOrNull(category, it.getPblancId(), it.getHouseSn());
+                    if (stdId != null && !stdId.isBlank()) byStdId.putIfAbsent(stdId.trim(), it);
+                }
+
+                // 페이지 단위 신규 감지
+                List<String> toSend = new ArrayList<>(session.detectNew(new ArrayList<>(byStdId.keySet())));
+
+                // 페이지 단위 내용 변경 감지
+                Map<String, String> pageChecksums = Map.of();
+                if (myhomeChecksumEnabled) {
+                    pageChecksums = myhomeChecksums(category, page);
+                    Map<String, String> stored = myHomeChecksumStorePort.getChecksums(category, scope, pageChecksums.keySet());
+                    toSend.addAll(session.detectChanged(pageChecksums, stored));
+                    adoptChecksums(category, pageChecksums, stored, new HashSet<>(toSend));
+                }
+
+                // 바로 변환해서 전송기로 넘김
+                for (String stdId : toSend) {
+                    AnnouncementIngestItem mapped = MyHomeToIngestItemMapper.map(byStdId.get(stdId));
+                    if (mapped == null || mapped.externalKey() == null || mapped.externalKey().isBlank()) {
+                        IngestMetrics.count(IngestMetrics.MAPPER_REJECTED, 1, "source", "myhome");
+                        continue;
+                    }
+
+                    if (recordAccepted) {
+                        pendingStdIds.put(mapped.externalKey(), stdId);
+                        String checksum = pageChecksums.get(stdId);
+                        if (checksum != null) pendingChecksums.put(stdId, checksum);
+                    }
+                    sender.add(mapped);
+                }
+            });
+
+            res = sender.finish();
+            batches = sender.batches();
+        }
+
+        ChangeDetectionResult diff = session.finish();
+        if (myhomeChecksumEnabled) pruneChecksums(category, diff);
+
+        // 결과 로그
+        log.info("[MyHome][{}] streamed. current={}, seen={}, new={}, changed={}, missing={}",
+                category,
+                diff.getCurrentCount(),
+                diff.getSeenCount(),
+                diff.getNewStdIds().size(),
+                diff.getChangedStdIds().size(),
+                diff.missingCountText()
+        );
+
+        if (batches == 0) {
+            log.info("[MyHome][{}] no new -> skip ingest", category);
+            return;
+        }
+
+        log.info("[MyHome][{}] ingest result. batches={}, received={}, created={}, updated={}, skipped={}",
+                category, batches, res.received(), res.created(), res.updated(), res.skipped());
+    }
+
+    // 마이홈 아이템의 stdId -> 내용 체크섬 (메인서버로 보내는 필드 + 상태명, 같은 stdId 는 처음것만)
+    private Map<String, String> myhomeChecksums(String category, List<MyHomeItemDto> items) {
+        Map<String, String> checksums = new LinkedHashMap<>();
+        for (MyHomeItemDto it : items) {
+            if (it == null) continue;
+
+            String stdId = stdIdGenerator.myhomeOrNull(category, it.getPblancId(), it.getHouseSn());
+            if (stdId == null || stdId.isBlank() || checksums.containsKey(stdId.trim())) continue;
+
+            AnnouncementIngestItem mapped = MyHomeToIngestItemMapper.map(it);
+            if (mapped == null || mapped.externalKey() == null || mapped.externalKey().isBlank()) continue;
+
+            checksums.put(stdId.trim(), IngestItemChecksums.of(mapped, it.getSttusNm()));
+        }
+        return checksums;
+    }
+
+    // 이미 보낸 공고인데 체크섬 기록이 없으면 다시 보내지 않고 현재 값을 기준으로 기록만 해둠
+    // (체크섬 기능을 처음 켰을때 전체 재전송이 일어나지 않도록)
+    private void adoptChecksums(
+            String category,
+            Map<String, String> currentChecksums,
+            Map<String, String> stored,
+            Set<String> sending
+    ) {
+        Map<String, String> baseline = new HashMap<>();
+        currentChecksums.forEach((stdId, checksum) -> {
+            if (!sending.contains(stdId) && !stored.containsKey(stdId)) baseline.put(stdId, checksum);
+        });
+        if (baseline.isEmpty()) return;
+
+        try {
+            myHomeChecksumStorePort.putChecksums(category, scope, baseline);
+            log.info("[MyHome][{}] checksum baseline recorded={}", category, baseline.size());
+        } catch (RuntimeException e) {
+            log.warn("[MyHome][{}] checksum baseline failed. ex={}", category, e.getClass().getSimpleName(), e);
+        }
+    }
+
+    // 목록에서 빠진 stdId 의 체크섬은 지움 (해쉬가 끝없이 커지지 않도록, 누락을 계산 못했으면 건너뜀)
+    private void pruneChecksums(String category, ChangeDetectionResult diff) {
+        if (!diff.isMissingComputed() || diff.getMissingStdIds().isEmpty()) return;
+
+        try {
+            myHomeChecksumStorePort.removeChecksums(category, scope, diff.getMissingStdIds());
+        } catch (RuntimeException e) {
+            log.warn("[MyHome][{}] checksum prune failed. ex={}", category, e.getClass().getSimpleName(), e);
+        }
+    }
+
     //Sh rss 실행
     private void runShRss(String category) {
 
@@ -184,11 +622,31 @@ public class DefaultIngestJobService implements IngestJobService {
         }
 
         // 신규만 추려서 ingest item 리스트를 만든다
-        List<AnnouncementIngestItem> ingestItems = shRssIngestService.collectNewItems(category);
+        // 조건부 요청이 켜져있으면 피드가 그대로일때 여기서 끝
+        // collected 가 있으면 성공한 뒤에 피드 상태 / 기준점 저장
+        ShRssCollectResult collected = null;
+        List<AnnouncementIngestItem> ingestItems;
+        if (shIncremental) {
+            collected = shRssIngestService.collectNewItemsIncremental(category);
+            ingestItems = collected.items();
+        } else if (shStreaming) {
+            ingestItems = shRssIngestService.collectNewItemsStreaming(category);
+        } else if (shConditionalFetch) {
+            collected = shRssIngestService.collectNewItemsIfChanged(category);
+            if (collected.unchanged()) {
+                log.info("[SH][RSS][{}] feed not modified -> skip pipeline", category);
+                shRssIngestService.commitFeedState(category, collected);
+                return;
+            }
+            ingestItems = collected.items();
+        } else {
+            ingestItems = shRssIngestService.collectNewItems(category);
+        }
 
         // 신규 없으면 호출 스킵
         if (ingestItems == null || ingestItems.isEmpty()) {
             log.info("[SH][RSS][{}] no new -> skip ingest", category);
+            if (collected != null) shRssIngestService.commitFeedState(category, collected);
             return;
         }
 
@@ -198,11 +656,51 @@ public class DefaultIngestJobService implements IngestJobService {
                 ingestItems
         );
 
-        //  메인서버 호출
-        IngestResponse res = mainServerIngestClient.ingest(req);
+        //  메인서버 호출 (SH 는 externalKey 가 seq 라서 stdId 를 바로 만들 수 있음)
+        IngestResponse res = ingest("sh", req, it -> stdIdGenerator.shRss(it.externalKey()), null);
 
         // 결과 로그
         log.info("[SH][RSS][{}] ingest result. received={}, created={}, updated={}, skipped={}",
                 category, res.received(), res.created(), res.updated(), res.skipped());
+
+        // 전송까지 성공했을때만 피드 상태 저장 (실패하면 다음 실행에서 다시 받음)
+        if (collected != null) shRssIngestService.commitFeedState(category, collected);
+    }
+
+    // 메인서버 전송, 받아진 청크마다 바로 기록
+    //  - seen 기록이 켜져있으면 그 stdId 를 seen set 에 추가 (중간에 죽어도 이미 받아진 청크는 다음 실행에서 다시 보내지 않음)
+    //  - checksumOf 가 있으면 (마이홈 체크섬 옵션) stdId -> 체크섬 기록
+    private IngestResponse ingest(
+            String source,
+            AnnouncementIngestRequest req,
+            Function<AnnouncementIngestItem, String> stdIdOf,
+            Function<String, String> checksumOf
+    ) {
+        if (!seenWriteEnabled && checksumOf == null) {
+            return mainServerIngestClient.ingest(req);
+        }
+
+        String category = req.category().trim();
+        return mainServerIngestClient.ingest(req, accepted -> {
+            List<String> stdIds = new ArrayList<>(accepted.size());
+            for (AnnouncementIngestItem it : accepted) {
+                String stdId = stdIdOf.apply(it);
+                if (stdId != null) stdIds.add(stdId);
+            }
+
+            if (seenWriteEnabled) {
+                seenStdIdWriterPort.addSeenStdIds(source, category, scope, stdIds);
+                log.info("[Seen][{}][{}] recorded={}", source, category, stdIds.size());
+            }
+
+            if (checksumOf != null) {
+                Map<String, String> checksums = new HashMap<>();
+                for (String stdId : stdIds) {
+                    String checksum = checksumOf.apply(stdId);
+                    if (checksum != null) checksums.put(stdId, checksum);
+                }
+                myHomeChecksumStorePort.putChecksums(category, scope, checksums);
+            }
+        });
     }
 }
@@ -1,18 +1,28 @@
 package com.seoulhousing.ingest_core.mainserver.service;
 
 import com.seoulhousing.ingest_core.announcement.dto.ChangeDetectionResult;
+import com.seoulhousing.ingest_core.announcement.port.SeenStdIdReaderPort;
 import com.seoulhousing.ingest_core.announcement.service.AnnouncementChangeDetectionService;
 import com.seoulhousing.ingest_core.announcement.service.StdIdGenerator;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeed;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeedState;
 import com.seoulhousing.ingest_core.external.sh.dto.ShRssItem;
 import com.seoulhousing.ingest_core.external.sh.service.ShRentalNoticeChecker;
 import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+import com.seoulhousing.ingest_core.mainserver.dto.ShRssCollectResult;
+import com.seoulhousing.ingest_core.mainserver.dto.ShRssHighWaterMark;
 import com.seoulhousing.ingest_core.mainserver.mapper.ShRssToIngestItemMapper;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import com.seoulhousing.ingest_core.redis.ShRssMetaWriterPort;
+import com.seoulhousing.ingest_core.redis.ShRssSnapshotReaderPort;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 
 @Service
@@ -23,6 +33,14 @@ public class DefaultShRssIngestService implements ShRssIngestService {
 
     private static final String SOURCE = "sh";
 
+    // SH 메타 해쉬에 저장하는 피드 상태 필드
+    static final String META_ETAG = "rssEtag";
+    static final String META_LAST_MODIFIED = "rssLastModified";
+    static final String META_BODY_HASH = "rssBodyHash";
+
+    // 스트리밍 모드에서 seen 확인을 몇개씩 묶어서 할지
+    private static final int STREAM_CHECK_BATCH = 20;
+
     //원문수집 및 파싱해서 리스트주는 컴포넌트
     private final ShRentalNoticeChecker shChecker;
 
@@ -31,12 +49,23 @@ public class DefaultShRssIngestService implements ShRssIngestService {
     //레디스 읽어서 신규 판단
     private final AnnouncementChangeDetectionService changeDetectionService;
 
+    // 피드 상태 읽기/쓰기 (SH 메타 해쉬)
+    private final ShRssSnapshotReaderPort shRssSnapshotReaderPort;
+    private final ShRssMetaWriterPort shRssMetaWriterPort;
+
+    // 스트리밍 모드에서 seen 멤버십 확인용
+    private final SeenStdIdReaderPort seenStdIdReaderPort;
+
     @Value("${ingest.scope}")
     private String scope;
 
     @Value("${ingest.sh.seed-limit}")
     private int seedLimit;
 
+    // 증분 모드에서 전체 diff 를 다시 돌리는 주기
+    @Value("${ingest.sh.reconcile-interval:24h}")
+    private Duration reconcileInterval;
+
     @Override
     public List<AnnouncementIngestItem> collectNewItems(String category) {
 
@@ -50,6 +79,209 @@ public class DefaultShRssIngestService implements ShRssIngestService {
         List<ShRssItem> items = shChecker.fetchAllItems();
         if (items == null) items = List.of();
 
+        return selectNewItems(cat, items);
+    }
+
+    @Override
+    public List<AnnouncementIngestItem> collectNewItemsStreaming(String category) {
+
+        // category 방어
+        if (category == null || category.isBlank()) {
+            throw new IllegalArgumentException("category must not be null/blank");
+        }
+        String cat = category.trim();
+
+        // 최초실행
+        boolean isFirstRun = seenStdIdReaderPort.countSeen(SOURCE, cat, scope) == 0;
+
+        List<AnnouncementIngestItem> out = new ArrayList<>();
+        List<ShRssItem> pending = new ArrayList<>(STREAM_CHECK_BATCH);
+        boolean[] reachedSeen = {false};
+
+        int streamed = shChecker.streamItems(it -> {
+            // 최초 실행이면 seedLimit개만 채우고 종료
+            if (isFirstRun) {
+                addMapped(out, it);
+                return out.size() < seedLimit;
+            }
+
+            pending.add(it);
+            if (pending.size() < STREAM_CHECK_BATCH) return true;
+
+            reachedSeen[0] = drainUntilSeen(cat, pending, out);
+            return !reachedSeen[0];
+        });
+
+        // 남은 묶음 처리
+        if (!isFirstRun && !reachedSeen[0]) {
+            reachedSeen[0] = drainUntilSeen(cat, pending, out);
+        }
+
+        log.info("[SH][RSS][{}] streamed={}, firstRun={}, reachedSeen={}, newItemsForIngest={}",
+                cat, streamed, isFirstRun, reachedSeen[0], out.size());
+        IngestMetrics.diffWithoutMissing(SOURCE, out.size(), 0); // 스트리밍/증분은 누락을 계산하지 않음
+
+        return out.isEmpty() ? List.of() : List.copyOf(out);
+    }
+
+    // 묶음을 피드 순서대로 보면서 seen 에 없는 것만 out 에 추가, seen 을 만나면 true (그 뒤는 이미 다 본 공고)
+    private boolean drainUntilSeen(String cat, List<ShRssItem> pending, List<AnnouncementIngestItem> out) {
+        if (pending.isEmpty()) return false;
+
+        // seq 가 비어있는 아이템은 비교 불가라서 제외
+        List<ShRssItem> items = new ArrayList<>(pending.size());
+        List<String> stdIds = new ArrayList<>(pending.size());
+        for (ShRssItem it : pending) {
+            String seq = trimToNull(it.getSeq());
+            if (seq == null) continue;
+
+            items.add(it);
+            stdIds.add(stdIdGenerator.shRss(seq));
+        }
+        pending.clear();
+        if (items.isEmpty()) return false;
+
+        Set<String> unseen = new HashSet<>(seenStdIdReaderPort.filterUnseen(SOURCE, cat, scope, stdIds));
+
+        for (int i = 0; i < items.size(); i++) {
+            if (!unseen.contains(stdIds.get(i))) return true;
+            addMapped(out, items.get(i));
+        }
+        return false;
+    }
+
+    private static void addMapped(List<AnnouncementIngestItem> out, ShRssItem it) {
+        AnnouncementIngestItem mapped = ShRssToIngestItemMapper.map(it);
+
+        // externalKey필수
+        if (mapped == null || mapped.externalKey() == null || mapped.externalKey().isBlank()) {
+            IngestMetrics.count(IngestMetrics.MAPPER_REJECTED, 1, "source", "sh");
+            return;
+        }
+        out.add(mapped);
+    }
+
+    @Override
+    public ShRssCollectResult collectNewItemsIncremental(String category) {
+
+        // category 방어
+        if (category == null || category.isBlank()) {
+            throw new IllegalArgumentException("category must not be null/blank");
+        }
+        String cat = category.trim();
+
+        ShRssHighWaterMark mark = ShRssHighWaterMark.fromMetaOrNull(shRssSnapshotReaderPort.getMeta(cat, scope));
+        Instant now = Instant.now();
+
+        // 기준점이 없거나 reconcile 주기가 지났으면 전체 diff 로 신규 판단 + 기준점 다시 잡기
+        if (mark == null || !mark.lastReconcileAt().plus(reconcileInterval).isAfter(now)) {
+            List<ShRssItem> items = shChecker.fetchAllItems();
+            if (items == null) items = List.of();
+
+            // 기준점은 이번에 보낸 것 + 이미 본 것으로만 계산 (최초 실행에 seedLimit 으로 잘린건 넘지 않게)
+            List<ShRssItem> covered = new ArrayList<>();
+            List<AnnouncementIngestItem> out = selectNewItems(cat, items, covered);
+            ShRssHighWaterMark next = reconciledMark(covered, mark, now);
+
+            log.info("[SH][RSS][{}] reconcile. hwmSeq={}, hwmPublishedAt={}, newItemsForIngest={}",
+                    cat, next.seq(), next.publishedAt(), out.size());
+            return ShRssCollectResult.incremental(out, next);
+        }
+
+        // 피드 앞쪽(최신)부터 읽다가 기준점 이하를 만나면 중단
+        List<AnnouncementIngestItem> out = new ArrayList<>();
+        ShRssHighWaterMark[] next = {mark};
+
+        int streamed = shChecker.streamItems(it -> {
+            Long seq = parseSeqAsLongOrNull(it.getSeq());
+
+            // 비교 불가한 seq 는 건너뜀 (다음 reconcile 에서 처리)
+            if (seq == null) return true;
+            if (mark.isAtOrBelow(seq, it.getPublishedAt())) return false;
+
+            addMapped(out, it);
+            next[0] = next[0].advance(seq, it.getPublishedAt());
+            return true;
+        });
+
+        log.info("[SH][RSS][{}] incremental. streamed={}, hwmSeq={}, newItemsForIngest={}",
+                cat, streamed, mark.seq(), out.size());
+        IngestMetrics.diffWithoutMissing(SOURCE, out.size(), 0); // 스트리밍/증분은 누락을 계산하지 않음
+        return ShRssCollectResult.incremental(out, next[0]);
+    }
+
+    // 받은 아이템(보낸 것 + 이미 본 것)으로 기준점 계산
+    private static ShRssHighWaterMark reconciledMark(List<ShRssItem> items, ShRssHighWaterMark prev, Instant now) {
+        ShRssHighWaterMark mark = (prev == null)
+                ? new ShRssHighWaterMark(0L, null, now)
+                : new ShRssHighWaterMark(prev.seq(), prev.publishedAt(), now);
+
+        for (ShRssItem it : items) {
+            if (it == null) continue;
+
+            Long seq = parseSeqAsLongOrNull(it.getSeq());
+            if (seq != null) mark = mark.advance(seq, it.getPublishedAt());
+        }
+        return mark;
+    }
+
+    @Override
+    public ShRssCollectResult collectNewItemsIfChanged(String category) {
+
+        // category 방어
+        if (category == null || category.isBlank()) {
+            throw new IllegalArgumentException("category must not be null/blank");
+        }
+        String cat = category.trim();
+
+        // 지난번 피드 상태로 조건부 요청
+        ShRssFeed feed = shChecker.fetchIfChanged(loadFeedState(cat));
+
+        if (feed.unchanged()) {
+            log.info("[SH][RSS][{}] feed unchanged -> skip diff/ingest", cat);
+            return ShRssCollectResult.unchanged(feed.state());
+        }
+
+        List<ShRssItem> items = (feed.items() == null) ? List.of() : feed.items();
+        return ShRssCollectResult.changed(selectNewItems(cat, items), feed.state());
+    }
+
+    @Override
+    public void commitFeedState(String category, ShRssCollectResult result) {
+        if (result == null) return;
+
+        Map<String, String> fields = new LinkedHashMap<>();
+
+        ShRssFeedState state = result.feedState();
+        if (state != null) {
+            if (state.etag() != null) fields.put(META_ETAG, state.etag());
+            if (state.lastModified() != null) fields.put(META_LAST_MODIFIED, state.lastModified());
+            if (state.bodyHash() != null) fields.put(META_BODY_HASH, state.bodyHash());
+        }
+
+        // 증분 기준점
+        if (result.highWaterMark() != null) {
+            fields.putAll(result.highWaterMark().toMeta());
+        }
+
+        shRssMetaWriterPort.putMeta(category.trim(), scope, fields);
+    }
+
+    private ShRssFeedState loadFeedState(String cat) {
+        Map<String, String> meta = shRssSnapshotReaderPort.getMeta(cat, scope);
+        if (meta == null || meta.isEmpty()) return ShRssFeedState.empty();
+
+        return new ShRssFeedState(meta.get(META_ETAG), meta.get(META_LAST_MODIFIED), meta.get(META_BODY_HASH));
+    }
+
+    // 파싱된 아이템 중 신규만 골라서 메인서버 DTO로 변환
+    private List<AnnouncementIngestItem> selectNewItems(String cat, List<ShRssItem> items) {
+        return selectNewItems(cat, items, null);
+    }
+
+    // covered 가 있으면 이미 본 아이템과 이번에 보내기로 고른 아이템을 담음 (매퍼가 버린 것도 포함, 최초 실행에 잘린건 제외)
+    private List<AnnouncementIngestItem> selectNewItems(String cat, List<ShRssItem> items, List<ShRssItem> covered) {
+
         // 최신 우선으로 정렬
         List<ShRssItem> sorted = new ArrayList<>(items);
         sorted.sort(
@@ -90,7 +322,7 @@ public class DefaultShRssIngestService implements ShRssIngestService {
                 diff.getCurrentCount(),
                 diff.getSeenCount(),
                 diff.getNewStdIds().size(),
-                diff.getMissingStdIds().size()
+                diff.missingCountText()
         );
 
         // 신규 stdId set 준비
@@ -114,6 +346,8 @@ public class DefaultShRssIngestService implements ShRssIngestService {
             // 이후 실행이면: diff.newStdIds에 포함된 것만
             boolean shouldInclude = isFirstRun || (stdId != null && newStdIdSet.contains(stdId));
 
+            // 신규가 아니면 이미 본 아이템
+            if (covered != null) covered.add(it);
             if (!shouldInclude) continue;
 
             // 변환
@@ -121,6 +355,7 @@ public class DefaultShRssIngestService implements ShRssIngestService {
 
             // externalKey필수
             if (mapped == null || mapped.externalKey() == null || mapped.externalKey().isBlank()) {
+                IngestMetrics.count(IngestMetrics.MAPPER_REJECTED, 1, "source", "sh");
                 continue;
             }
 
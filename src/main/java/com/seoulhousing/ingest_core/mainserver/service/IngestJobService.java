@@ -1,8 +1,15 @@
 package com.seoulhousing.ingest_core.mainserver.service;
 
+import com.seoulhousing.ingest_core.mainserver.dto.IngestJobResult;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestPipeline;
+
 //파싱서버가 켜지면 1번 실행할 작업의 인터페이스
 public interface IngestJobService {
 
     //수집 -> 변경감지 -> 신규발견 -> 메인서버 ingest 호출(한번 실행)
-    void runOnce();
+    IngestJobResult runOnce();
+
+    // 파이프라인 하나만 실행 (상주 모드 스케줄러용)
+    // 실패는 예외 대신 결과에 FAILED 로 남기고, 같은 파이프라인이 실행중이면 SKIPPED 로 바로 반환
+    IngestJobResult runPipeline(IngestPipeline pipeline);
 }
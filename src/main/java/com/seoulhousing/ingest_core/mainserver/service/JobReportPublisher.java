@@ -0,0 +1,82 @@
+package com.seoulhousing.ingest_core.mainserver.service;
+
+import com.seoulhousing.ingest_core.mainserver.dto.JobReport;
+import com.seoulhousing.ingest_core.redis.JobReportWriterPort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 작업 리포트를 JSON 한 줄로 남김 (파일 : 실행마다 한 줄씩 append, Redis : 최근 N개 목록)
+// 리포트를 못 남겨도 작업 결과는 바뀌지 않도록 예외는 로그로만 남김
+@Component
+@RequiredArgsConstructor
+public class JobReportPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(JobReportPublisher.class);
+
+    private final JsonMapper jsonMapper;
+    private final JobReportWriterPort jobReportWriterPort;
+
+    // 비어있으면 파일로 남기지 않음 (JSON Lines)
+    @Value("${ingest.report.file:}")
+    private String reportFile;
+
+    @Value("${ingest.report.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    // Redis 목록에 남길 최근 리포트 수
+    @Value("${ingest.report.redis-max-entries:200}")
+    private int redisMaxEntries;
+
+    public void publish(JobReport report) {
+        if (report == null) return;
+
+        boolean toFile = reportFile != null && !reportFile.isBlank();
+        if (!toFile && !redisEnabled) {
+            log.debug("[Report] no sink configured -> skip");
+            return;
+        }
+
+        String json;
+        try {
+            json = jsonMapper.writeValueAsString(report);
+        } catch (RuntimeException e) {
+            log.warn("[Report] serialize failed. ex={}", e.getClass().getSimpleName(), e);
+            return;
+        }
+
+        if (toFile) appendToFile(Path.of(reportFile.trim()), json);
+        if (redisEnabled) pushToRedis(json);
+    }
+
+    private void appendToFile(Path target, String json) {
+        try {
+            Path dir = target.toAbsolutePath().getParent();
+            if (dir != null) Files.createDirectories(dir);
+
+            Files.writeString(target, json + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.info("[Report] written. file={}", target);
+        } catch (IOException e) {
+            log.warn("[Report] file write failed. file={}, ex={}", target, e.getClass().getSimpleName(), e);
+        }
+    }
+
+    private void pushToRedis(String json) {
+        try {
+            jobReportWriterPort.push(json, redisMaxEntries);
+            log.info("[Report] pushed to redis. maxEntries={}", redisMaxEntries);
+        } catch (RuntimeException e) {
+            log.warn("[Report] redis push failed. ex={}", e.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.seoulhousing.ingest_core.mainserver.service;
+
+import com.seoulhousing.ingest_core.mainserver.dto.IngestPipeline;
+import com.seoulhousing.ingest_core.mainserver.dto.JobReport;
+import com.seoulhousing.ingest_core.mainserver.dto.PipelineOutcome;
+import com.seoulhousing.ingest_core.mainserver.dto.PipelineReport;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import com.seoulhousing.ingest_core.metrics.StageTally;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// runOnce 한번 동안 파이프라인별 시작/종료 시각과 계측 집계를 모았다가 JobReport 로 만듦
+// 동시 실행이면 파이프라인마다 다른 스레드에서 run 이 불림
+final class JobReportRecorder {
+
+    private final long jvmUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final Map<IngestPipeline, Run> runs = new ConcurrentHashMap<>();
+
+    // body 가 도는 동안 기록되는 계측값을 이 파이프라인 몫으로 모음
+    void run(IngestPipeline pipeline, Runnable body) {
+        Run run = new Run(Instant.now());
+        runs.put(pipeline, run);
+        try {
+            IngestMetrics.tallied(run.tally, body);
+        } finally {
+            run.finishedAt = Instant.now();
+        }
+    }
+
+    JobReport build(List<PipelineOutcome> outcomes) {
+        List<PipelineReport> pipelines = new ArrayList<>(outcomes.size());
+        boolean success = true;
+
+        for (PipelineOutcome outcome : outcomes) {
+            success &= outcome.isSuccess();
+
+            Run run = runs.get(outcome.pipeline());
+            if (run == null) continue;
+
+            // 타임아웃으로 취소된 파이프라인은 아직 정리중일 수 있음
+            Instant finishedAt = (run.finishedAt == null) ? Instant.now() : run.finishedAt;
+            pipelines.add(PipelineReport.of(outcome, run.startedAt, finishedAt, run.tally));
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new JobReport(jvmUptimeMs, startedAt, Instant.now(), elapsedMs, success, pipelines);
+    }
+
+    private static final class Run {
+        private final Instant startedAt;
+        private final StageTally tally = new StageTally();
+        private volatile Instant finishedAt;
+
+        private Run(Instant startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
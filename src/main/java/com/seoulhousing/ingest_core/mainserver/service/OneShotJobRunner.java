@@ -1,37 +1,48 @@
 package com.seoulhousing.ingest_core.mainserver.service;
 
+import com.seoulhousing.ingest_core.config.IngestRunMode;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestJobResult;
+import com.seoulhousing.ingest_core.metrics.MetricsFileExporter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
 // 앱 부팅시 1회 실행후 종료시키는 러너
+// 상주 모드에선 아무것도 안 함 (모드는 AOT 에 고정되지 않게 IngestRunMode 로 실행 시점에 판단)
 @Component
 @RequiredArgsConstructor
-@ConditionalOnProperty(name = "ingest.oneshot.enabled", havingValue = "true", matchIfMissing = true)
 public class OneShotJobRunner implements ApplicationRunner {
 
     private static final Logger log = LoggerFactory.getLogger(OneShotJobRunner.class);
 
+    private final IngestRunMode runMode;
     private final IngestJobService ingestJobService;
     private final ApplicationContext ctx; // 종료를 위한 컨텍스트
+    private final MetricsFileExporter metricsExporter; // 종료 전에 계측값 내보내기
 
     @Override
     public void run(ApplicationArguments args) {
+        if (!runMode.isOneShot()) return;
+
         int exitCode = 0; // 성공=0, 실패=1
 
         try {
             // 작업 한번 실행
-            ingestJobService.runOnce();
+            IngestJobResult result = ingestJobService.runOnce();
+
+            // 파이프라인 하나라도 실패/타임아웃이면 실패 종료 코드
+            exitCode = result.isSuccess() ? 0 : 1;
 
-            // 정상 종료 코드
-            exitCode = 0;
-            log.info("[RUNNER] job success. exitCode={}", exitCode);
+            if (exitCode == 0) {
+                log.info("[RUNNER] job success. exitCode={}", exitCode);
+            } else {
+                log.error("[RUNNER] job partially failed. exitCode={}, failed={}", exitCode, result.failedOutcomes());
+            }
 
         } catch (Exception e) {
             // 예외 발생 시 실패 종료 코드
@@ -41,9 +52,20 @@ public class OneShotJobRunner implements ApplicationRunner {
         } finally {
 
             //항상 실행되는 블록
+            // 컨텍스트를 닫으면 레지스트리도 닫히니 그 전에 내보냄
+            flushMetrics();
+
             final int finalExitCode = exitCode;
             int code = SpringApplication.exit(ctx, () -> finalExitCode);
             System.exit(code);
         }
     }
+
+    private void flushMetrics() {
+        try {
+            metricsExporter.flush();
+        } catch (RuntimeException e) {
+            log.warn("[RUNNER] metrics flush failed. ex={}", e.getClass().getSimpleName(), e);
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.seoulhousing.ingest_core.mainserver.service;
+
+import com.seoulhousing.ingest_core.config.IngestDaemonProperties;
+import com.seoulhousing.ingest_core.config.IngestRunMode;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestJobResult;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestPipeline;
+import com.seoulhousing.ingest_core.metrics.MetricsFileExporter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+// 상주 모드 러너 : OneShotJobRunner 대신 파이프라인별 주기로 계속 실행
+// 부팅/커넥션/JIT 워밍업 비용은 한번만 내고, SH 는 자주 / 마이홈은 드물게처럼 소스마다 주기를 따로 둠
+// 원샷 모드에선 아무것도 안 함 (모드는 AOT 에 고정되지 않게 IngestRunMode 로 실행 시점에 판단)
+@Component
+@RequiredArgsConstructor
+public class ScheduledIngestRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledIngestRunner.class);
+
+    private final IngestRunMode runMode;
+    private final IngestJobService ingestJobService;
+    private final IngestDaemonProperties daemonProperties;
+    private final TaskScheduler ingestTaskScheduler;
+    private final MetricsFileExporter metricsExporter;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (runMode.isOneShot()) return;
+
+        Map<IngestPipeline, IngestDaemonProperties.Schedule> schedules = daemonProperties.getSchedules();
+        if (schedules.isEmpty()) {
+            log.warn("[DAEMON] no schedule configured (ingest.daemon.schedules) -> nothing to run");
+            return;
+        }
+
+        // 설정이 잘못된 파이프라인이 있으면 아무것도 걸지 않고 부팅 실패
+        schedules.forEach(ScheduledIngestRunner::validate);
+        schedules.forEach(this::schedule);
+    }
+
+    private static void validate(IngestPipeline pipeline, IngestDaemonProperties.Schedule schedule) {
+        if (schedule == null || schedule.hasCron() == schedule.hasFixedDelay()) {
+            throw new IllegalStateException("ingest.daemon.schedules." + pipeline + " 는 cron 과 fixed-delay 중 하나만 지정해야 함");
+        }
+    }
+
+    private void schedule(IngestPipeline pipeline, IngestDaemonProperties.Schedule schedule) {
+        Runnable task = () -> runOnce(pipeline);
+
+        if (schedule.hasCron()) {
+            ingestTaskScheduler.schedule(task, new CronTrigger(schedule.cron().trim(), daemonProperties.getZone()));
+            log.info("[DAEMON][{}] scheduled. cron={}, zone={}", pipeline, schedule.cron().trim(), daemonProperties.getZone());
+        } else {
+            Instant firstRun = Instant.now().plus(schedule.initialDelay());
+            ingestTaskScheduler.scheduleWithFixedDelay(task, firstRun, schedule.fixedDelay());
+            log.info("[DAEMON][{}] scheduled. fixedDelay={}, initialDelay={}",
+                    pipeline, schedule.fixedDelay(), schedule.initialDelay());
+        }
+    }
+
+    // 한 회차 실행 (예외가 스케줄을 멈추지 않도록 여기서 막음)
+    void runOnce(IngestPipeline pipeline) {
+        try {
+            IngestJobResult result = ingestJobService.runPipeline(pipeline);
+            if (result.isSuccess()) {
+                log.info("[DAEMON][{}] run done. outcomes={}", pipeline, result.outcomes());
+            } else {
+                log.error("[DAEMON][{}] run failed. failed={}", pipeline, result.failedOutcomes());
+            }
+        } catch (RuntimeException e) {
+            log.error("[DAEMON][{}] run failed. ex={}", pipeline, e.getClass().getSimpleName(), e);
+        } finally {
+            // 스크랩/수집 에이전트가 보는 파일을 회차마다 갱신
+            metricsExporter.flush();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.seoulhousing.ingest_core.mainserver.service;
 
 import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+import com.seoulhousing.ingest_core.mainserver.dto.ShRssCollectResult;
 
 import java.util.List;
 
@@ -8,4 +9,17 @@ import java.util.List;
 public interface ShRssIngestService {
 
     List<AnnouncementIngestItem> collectNewItems(String category);
+
+    // 응답을 스트리밍으로 읽으면서 신규만 추림, 최초 실행은 seedLimit 채우면 / 이후는 이미 본 seq 를 만나면 읽기 중단
+    // 피드가 최신순이라는 전제 (정렬하지 않음)
+    List<AnnouncementIngestItem> collectNewItemsStreaming(String category);
+
+    // 증분 모드 : SH 메타의 기준점(최대 seq / pubDate) 이하를 만나면 읽기 중단, 전체 diff 는 reconcile 주기마다만
+    ShRssCollectResult collectNewItemsIncremental(String category);
+
+    // 피드가 지난번과 같으면 unchanged 로 바로 반환 (조건부 요청 + 바디 해시)
+    ShRssCollectResult collectNewItemsIfChanged(String category);
+
+    // 파이프라인이 성공한 뒤 피드 상태 / 증분 기준점 저장 (다음 실행에서 사용)
+    void commitFeedState(String category, ShRssCollectResult result);
 }
@@ -0,0 +1,158 @@
+package com.seoulhousing.ingest_core.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetrySynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+// 수집 단계별 계측 진입점
+// 전역 레지스트리(Metrics.globalRegistry)에 기록하므로 레지스트리가 붙어있지 않으면(테스트 등) 아무것도 안함
+// 태그는 key, value 순서로 넘김
+public final class IngestMetrics {
+
+    // 계측 이름 (ingest.<단계>.<대상>)
+    public static final String MYHOME_PAGE_FETCH = "ingest.myhome.page.fetch";
+    public static final String MYHOME_PAGE_ITEMS = "ingest.myhome.page.items";
+    public static final String RETRY_ATTEMPTS = "ingest.retry.attempts";
+    public static final String RETRY_EXHAUSTED = "ingest.retry.exhausted";
+    public static final String SH_RSS_BYTES = "ingest.sh.rss.bytes";
+    public static final String SH_RSS_PARSE = "ingest.sh.rss.parse";
+    public static final String SEEN_SIZE = "ingest.seen.size";
+    public static final String SEEN_REDIS = "ingest.seen.redis";
+    public static final String DIFF = "ingest.diff";
+    public static final String DIFF_NEW = "ingest.diff.new";
+    public static final String DIFF_MISSING = "ingest.diff.missing";
+    public static final String DIFF_MISSING_SKIPPED = "ingest.diff.missing.skipped";
+    public static final String DIFF_CHANGED = "ingest.diff.changed";
+    public static final String SH_RSS_ITEMS = "ingest.sh.rss.items";
+    public static final String MAPPER_REJECTED = "ingest.mapper.rejected";
+    public static final String MAIN_SERVER_INGEST = "ingest.mainserver.ingest";
+    public static final String MAIN_SERVER_ITEMS = "ingest.mainserver.items";
+    public static final String MYHOME_LIMITER_RATE = "ingest.myhome.limiter.rate";
+    public static final String MYHOME_LIMITER_WAIT = "ingest.myhome.limiter.wait";
+    public static final String MYHOME_THROTTLED = "ingest.myhome.throttled";
+    public static final String BREAKER_STATE = "ingest.breaker.state";
+    public static final String BREAKER_REJECTED = "ingest.breaker.rejected";
+    public static final String BULKHEAD_ACTIVE = "ingest.bulkhead.active";
+    public static final String BULKHEAD_WAITING = "ingest.bulkhead.waiting";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    // 지금 스레드가 기록중인 집계 (파이프라인 안에서 새로 만든 스레드에도 물려줌)
+    private static final InheritableThreadLocal<StageTally> TALLY = new InheritableThreadLocal<>();
+
+    private IngestMetrics() {
+    }
+
+    // 실행 시간 기록 (예외가 나도 기록하고 outcome 태그로 구분)
+    public static <T> T time(String name, Supplier<T> body, String... tags) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            timer(name, outcome, tags).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            tally("success".equals(outcome) ? name : StageTally.ERRORS, 1);
+        }
+    }
+
+    public static void time(String name, Runnable body, String... tags) {
+        time(name, () -> {
+            body.run();
+            return null;
+        }, tags);
+    }
+
+    public static void count(String name, double amount, String... tags) {
+        if (amount <= 0) return;
+        Counter.builder(name).tags(tags).register(registry()).increment(amount);
+        tally(name, amount);
+    }
+
+    public static void record(String name, double amount, String... tags) {
+        DistributionSummary.builder(name)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .register(registry())
+                .record(amount);
+        tally(name, amount);
+    }
+
+    // 현재 상태값 (obj 는 약한 참조라서 싱글톤 빈처럼 오래 사는 객체에만 씀)
+    public static <T> void gauge(String name, T obj, ToDoubleFunction<T> value, String... tags) {
+        Gauge.builder(name, obj, value).tags(tags).register(registry());
+    }
+
+    // 감지 결과 건수 (신규/누락/내용 변경)
+    public static void diff(String source, int newCount, int missingCount, int changedCount) {
+        count(DIFF_NEW, newCount, "source", source);
+        count(DIFF_MISSING, missingCount, "source", source);
+        count(DIFF_CHANGED, changedCount, "source", source);
+    }
+
+    // 누락을 계산하지 않은 감지 (멤버십 확인, SH 스트리밍/증분) : 누락 0 으로 남기지 않고 건너뛴 횟수만 셈
+    public static void diffWithoutMissing(String source, int newCount, int changedCount) {
+        count(DIFF_NEW, newCount, "source", source);
+        count(DIFF_MISSING_SKIPPED, 1, "source", source);
+        count(DIFF_CHANGED, changedCount, "source", source);
+    }
+
+    // @Retryable 메서드 안에서 호출 : 첫 시도는 세지 않고 재시도만 셈
+    public static void retryAttempt(String dependency, String label) {
+        RetryContext ctx = RetrySynchronizationManager.getContext();
+        if (ctx == null || ctx.getRetryCount() == 0) return;
+        count(RETRY_ATTEMPTS, 1, "dependency", dependency, "label", labelTag(label));
+    }
+
+    public static void retryExhausted(String dependency, String label) {
+        count(RETRY_EXHAUSTED, 1, "dependency", dependency, "label", labelTag(label));
+    }
+
+    // body 가 도는 동안 (그 안에서 만든 스레드 포함) 기록되는 값을 tally 에도 모음
+    // 공유 풀처럼 미리 만들어진 스레드에서 기록된 값은 들어가지 않음
+    public static void tallied(StageTally tally, Runnable body) {
+        StageTally prev = TALLY.get();
+        TALLY.set(tally);
+        try {
+            body.run();
+        } finally {
+            if (prev == null) TALLY.remove();
+            else TALLY.set(prev);
+        }
+    }
+
+    private static void tally(String name, double amount) {
+        StageTally tally = TALLY.get();
+        if (tally != null) tally.add(name, amount);
+    }
+
+    // 청크 라벨(INGEST#3/10)은 태그 종류가 늘어나지 않게 # 앞부분만 씀
+    static String labelTag(String label) {
+        if (label == null || label.isBlank()) return "none";
+        int hash = label.indexOf('#');
+        return (hash < 0) ? label : label.substring(0, hash);
+    }
+
+    private static Timer timer(String name, String outcome, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .tag("outcome", outcome)
+                .publishPercentiles(PERCENTILES)
+                .register(registry());
+    }
+
+    private static MeterRegistry registry() {
+        return Metrics.globalRegistry;
+    }
+}
@@ -0,0 +1,106 @@
+package com.seoulhousing.ingest_core.metrics;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 원샷 작업은 스크랩 전에 프로세스가 끝나므로 종료 직전에 계측값을 파일(또는 로그)로 밀어냄
+// 형식 : 한 줄에 계측 하나  name{k=v,...} STATISTIC=value ...
+@Component
+public class MetricsFileExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsFileExporter.class);
+
+    // 비어있으면 파일 대신 로그로만 남김
+    @Value("${ingest.metrics.export-file:}")
+    private String exportFile;
+
+    public void flush() {
+        flush(Metrics.globalRegistry);
+    }
+
+    void flush(MeterRegistry registry) {
+        List<String> lines = render(registry);
+        if (lines.isEmpty()) {
+            log.debug("[Metrics] nothing to flush");
+            return;
+        }
+
+        if (exportFile == null || exportFile.isBlank()) {
+            lines.forEach(line -> log.info("[Metrics] {}", line));
+            return;
+        }
+
+        Path target = Path.of(exportFile.trim());
+        try {
+            writeAtomically(target, lines);
+            log.info("[Metrics] flushed. meters={}, file={}", lines.size(), target);
+        } catch (IOException e) {
+            // 계측 실패가 작업 결과(종료 코드)를 바꾸지 않도록 로그만 남김
+            log.warn("[Metrics] flush failed. file={}, ex={}", target, e.getClass().getSimpleName(), e);
+        }
+    }
+
+    static List<String> render(MeterRegistry registry) {
+        List<Meter> meters = new ArrayList<>(registry.getMeters());
+        meters.sort(Comparator.comparing((Meter m) -> m.getId().getName())
+                .thenComparing(m -> m.getId().getTags().toString()));
+
+        List<String> lines = new ArrayList<>(meters.size() + 1);
+        for (Meter meter : meters) {
+            StringBuilder sb = new StringBuilder(64);
+            sb.append(meter.getId().getName());
+
+            List<Tag> tags = meter.getId().getTags();
+            if (!tags.isEmpty()) {
+                sb.append('{');
+                for (int i = 0; i < tags.size(); i++) {
+                    if (i > 0) sb.append(',');
+                    sb.append(tags.get(i).getKey()).append('=').append(tags.get(i).getValue());
+                }
+                sb.append('}');
+            }
+
+            boolean any = false;
+            for (Measurement m : meter.measure()) {
+                if (Double.isNaN(m.getValue())) continue;
+                sb.append(' ').append(m.getStatistic().name()).append('=').append(m.getValue());
+                any = true;
+            }
+            if (any) lines.add(sb.toString());
+        }
+
+        if (!lines.isEmpty()) lines.addFirst("# flushedAt=" + Instant.now());
+        return lines;
+    }
+
+    // 읽는 쪽(수집 에이전트)이 반쯤 쓴 파일을 보지 않도록 임시파일에 쓰고 교체
+    private static void writeAtomically(Path target, List<String> lines) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+
+        Path tmp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, lines, StandardCharsets.UTF_8);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.seoulhousing.ingest_core.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 실행 한번(파이프라인 하나) 동안 IngestMetrics 로 들어온 값을 계측 이름별로 따로 모아두는 집계
+// 레지스트리 값은 프로세스 누적이라 실행/파이프라인 단위 리포트는 여기서 만든다
+public final class StageTally {
+
+    // 시간 잰 작업이 예외로 끝난 횟수
+    public static final String ERRORS = "errors";
+
+    private final Map<String, LongAdder> sums = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    void add(String name, double amount) {
+        sums.computeIfAbsent(name, k -> new LongAdder()).add(Math.round(amount));
+        counts.computeIfAbsent(name, k -> new LongAdder()).increment();
+    }
+
+    // 기록된 값의 합
+    public long sum(String name) {
+        LongAdder adder = sums.get(name);
+        return (adder == null) ? 0L : adder.sum();
+    }
+
+    // 기록된 횟수 (timer 는 성공한 호출 수)
+    public long count(String name) {
+        LongAdder adder = counts.get(name);
+        return (adder == null) ? 0L : adder.sum();
+    }
+}
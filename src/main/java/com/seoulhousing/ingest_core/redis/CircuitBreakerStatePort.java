@@ -0,0 +1,13 @@
+package com.seoulhousing.ingest_core.redis;
+
+import java.time.Duration;
+import java.util.Map;
+
+public interface CircuitBreakerStatePort {
+
+    // 브레이커 상태 해쉬 읽기 (없으면 빈 맵)
+    Map<String, String> load(String name);
+
+    // 브레이커 상태 해쉬 덮어쓰기, ttl 뒤에는 사라져서 다음 실행은 CLOSED 로 시작
+    void save(String name, Map<String, String> fields, Duration ttl);
+}
@@ -0,0 +1,7 @@
+package com.seoulhousing.ingest_core.redis;
+
+public interface JobReportWriterPort {
+
+    // 작업 리포트(JSON)를 최신순 목록 앞에 추가하고 maxEntries 개만 남김
+    void push(String reportJson, int maxEntries);
+}
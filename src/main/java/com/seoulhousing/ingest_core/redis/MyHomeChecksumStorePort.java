@@ -0,0 +1,18 @@
+package com.seoulhousing.ingest_core.redis;
+
+import java.util.Collection;
+import java.util.Map;
+
+// 이 모듈이 직접 관리하는 마이홈 내용 체크섬 저장소
+// 외부 스냅샷 쪽 체크섬 해쉬(MyHomeSnapshotReaderPort.getAllChecksums)와는 계산 방식이 다를수 있어서 키를 따로 씀
+public interface MyHomeChecksumStorePort {
+
+    // 주어진 stdId 들의 기록된 체크섬만 (기록 없는 stdId 는 빠짐, 없으면 빈 맵)
+    Map<String, String> getChecksums(String category, String scope, Collection<String> stdIds);
+
+    // stdId -> 내용 체크섬 기록 (있으면 덮어씀)
+    void putChecksums(String category, String scope, Map<String, String> checksums);
+
+    // 더이상 목록에 없는 stdId 의 체크섬 삭제
+    void removeChecksums(String category, String scope, Collection<String> stdIds);
+}
@@ -0,0 +1,43 @@
+package com.seoulhousing.ingest_core.redis;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class RedisCircuitBreakerStateAdapter implements CircuitBreakerStatePort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyFactory keyFactory;
+
+    public RedisCircuitBreakerStateAdapter(
+            @Qualifier("redisStringTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisKeyFactory keyFactory
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.keyFactory = keyFactory;
+    }
+
+    @Override
+    public Map<String, String> load(String name) {
+        Map<Object, Object> raw = redisTemplate.opsForHash().entries(keyFactory.breakerKey(name));
+        if (raw == null || raw.isEmpty()) return Map.of();
+
+        Map<String, String> fields = new HashMap<>(raw.size());
+        raw.forEach((k, v) -> fields.put(String.valueOf(k), String.valueOf(v)));
+        return fields;
+    }
+
+    @Override
+    public void save(String name, Map<String, String> fields, Duration ttl) {
+        if (fields == null || fields.isEmpty()) return;
+
+        String key = keyFactory.breakerKey(name);
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+    }
+}
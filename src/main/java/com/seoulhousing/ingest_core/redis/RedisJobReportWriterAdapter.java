@@ -0,0 +1,30 @@
+package com.seoulhousing.ingest_core.redis;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisJobReportWriterAdapter implements JobReportWriterPort {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyFactory keyFactory;
+
+    public RedisJobReportWriterAdapter(
+            @Qualifier("redisStringTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisKeyFactory keyFactory
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.keyFactory = keyFactory;
+    }
+
+    @Override
+    public void push(String reportJson, int maxEntries) {
+        if (reportJson == null || reportJson.isBlank()) return;
+
+        // LPUSH 후 LTRIM 으로 최근 maxEntries 개만 유지 (0번이 가장 최근)
+        String key = keyFactory.jobReportKey();
+        redisTemplate.opsForList().leftPush(key, reportJson);
+        redisTemplate.opsForList().trim(key, 0, Math.max(1, maxEntries) - 1L);
+    }
+}
@@ -47,6 +47,15 @@ public class RedisKeyFactory {
                 + ":checksum:" + norm(version);
     }
 
+    // ingest 모듈이 직접 계산/기록하는 내용 체크섬 키 (스냅샷 생산자의 checksum 키와 분리)
+    public String ingestChecksumKey(String source, String category, String scope) {
+        return basePrefix()
+                + ":" + norm(source)
+                + ":" + norm(category)
+                + ":" + norm(scope)
+                + ":ingest-checksum:" + norm(VERSION);
+    }
+
     public String metaKey(String source, String category, String scope, String version) {
         return basePrefix()
                 + ":" + norm(source)
@@ -56,6 +65,16 @@ public class RedisKeyFactory {
     }
 
 
+    // 작업 리포트 목록 키 (소스/카테고리와 무관하게 실행 단위로 하나)
+    public String jobReportKey() {
+        return basePrefix() + ":reports:" + norm(VERSION);
+    }
+
+    // 의존별 서킷브레이커 상태 키 (원샷 실행끼리 상태를 이어받음)
+    public String breakerKey(String name) {
+        return basePrefix() + ":breaker:" + norm(name);
+    }
+
     // seoulhousing:{env}:ingest prefix 생성
     private String basePrefix() {
         return "seoulhousing:" + envProvider.envKey() + ":ingest";
@@ -0,0 +1,75 @@
+package com.seoulhousing.ingest_core.redis;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class RedisMyHomeChecksumStoreAdapter implements MyHomeChecksumStorePort {
+    // 소스를 마이홈으로 고정
+    private static final String SOURCE = "myhome";
+
+    // HMGET/HDEL 한번에 실어보낼 필드 수
+    private static final int BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyFactory keyFactory;
+
+    public RedisMyHomeChecksumStoreAdapter(
+            @Qualifier("redisStringTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisKeyFactory keyFactory
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.keyFactory = keyFactory;
+    }
+
+    @Override
+    public Map<String, String> getChecksums(String category, String scope, Collection<String> stdIds) {
+        if (stdIds == null || stdIds.isEmpty()) return Map.of();
+
+        // 해쉬 전체(HGETALL)가 아니라 현재 stdId 필드만 HMGET
+        String checksumKey = keyFactory.ingestChecksumKey(SOURCE, category, scope);
+        List<Object> fields = new ArrayList<>(new LinkedHashSet<>(stdIds));
+
+        Map<String, String> checksums = new HashMap<>();
+        for (int from = 0; from < fields.size(); from += BATCH_SIZE) {
+            List<Object> batch = fields.subList(from, Math.min(from + BATCH_SIZE, fields.size()));
+            List<Object> values = redisTemplate.opsForHash().multiGet(checksumKey, batch);
+            if (values == null) continue;
+
+            for (int i = 0; i < batch.size() && i < values.size(); i++) {
+                Object v = values.get(i);
+                if (v != null) checksums.put(String.valueOf(batch.get(i)), String.valueOf(v));
+            }
+        }
+        return checksums;
+    }
+
+    @Override
+    public void putChecksums(String category, String scope, Map<String, String> checksums) {
+        if (checksums == null || checksums.isEmpty()) return;
+
+        // 스냅샷 생산자의 checksum 해쉬가 아니라 ingest 전용 해쉬에 한번에 HSET
+        String checksumKey = keyFactory.ingestChecksumKey(SOURCE, category, scope);
+        redisTemplate.opsForHash().putAll(checksumKey, checksums);
+    }
+
+    @Override
+    public void removeChecksums(String category, String scope, Collection<String> stdIds) {
+        if (stdIds == null || stdIds.isEmpty()) return;
+
+        String checksumKey = keyFactory.ingestChecksumKey(SOURCE, category, scope);
+        List<Object> fields = new ArrayList<>(new LinkedHashSet<>(stdIds));
+        for (int from = 0; from < fields.size(); from += BATCH_SIZE) {
+            List<Object> batch = fields.subList(from, Math.min(from + BATCH_SIZE, fields.size()));
+            redisTemplate.opsForHash().delete(checksumKey, batch.toArray());
+        }
+    }
+}
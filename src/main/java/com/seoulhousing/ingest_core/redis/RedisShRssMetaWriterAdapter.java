@@ -0,0 +1,33 @@
+package com.seoulhousing.ingest_core.redis;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class RedisShRssMetaWriterAdapter implements ShRssMetaWriterPort {
+
+    private static final String SOURCE = "sh";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyFactory keyFactory;
+
+    public RedisShRssMetaWriterAdapter(
+            @Qualifier("redisStringTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisKeyFactory keyFactory
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.keyFactory = keyFactory;
+    }
+
+    @Override
+    public void putMeta(String category, String scope, Map<String, String> fields) {
+        if (fields == null || fields.isEmpty()) return;
+
+        // RedisShRssSnapshotReaderAdapter.getMeta 와 같은 메타 키
+        String metaKey = keyFactory.metaKey(SOURCE, category, scope);
+        redisTemplate.opsForHash().putAll(metaKey, fields);
+    }
+}
@@ -5,11 +5,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.zip.GZIPInputStream;
 
 @Component
 public class RedisShRssSnapshotReaderAdapter implements ShRssSnapshotReaderPort {
@@ -51,16 +48,6 @@ public class RedisShRssSnapshotReaderAdapter implements ShRssSnapshotReaderPort
         Map<String, String> meta = getMeta(category, scope);
         boolean compressed = "true".equalsIgnoreCase(meta.get("compressed"));
 
-        return compressed ? gunzip(payload) : payload;
-    }
-
-    private static byte[] gunzip(byte[] gz) {
-        try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(gz));
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            gis.transferTo(baos);
-            return baos.toByteArray();
-        } catch (Exception e) {
-            throw new IllegalStateException("gunzip failed", e);
-        }
+        return compressed ? SnapshotGzip.gunzip(payload) : payload;
     }
 }
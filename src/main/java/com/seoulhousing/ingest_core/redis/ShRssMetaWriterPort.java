@@ -0,0 +1,9 @@
+package com.seoulhousing.ingest_core.redis;
+
+import java.util.Map;
+
+public interface ShRssMetaWriterPort {
+
+    // SH 메타 해쉬에 필드 기록 (getMeta 로 다시 읽힘, 있으면 덮어씀)
+    void putMeta(String category, String scope, Map<String, String> fields);
+}
@@ -0,0 +1,21 @@
+package com.seoulhousing.ingest_core.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPInputStream;
+
+// 스냅샷 리더들이 같이 쓰는 gzip 해제
+final class SnapshotGzip {
+
+    private SnapshotGzip() {}
+
+    static byte[] gunzip(byte[] gz) {
+        try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(gz));
+             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            gis.transferTo(baos);
+            return baos.toByteArray();
+        } catch (Exception e) {
+            throw new IllegalStateException("gunzip failed", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.seoulhousing.ingest_core.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 의존 하나에 동시에 나가는 호출 수 + 기다리는 호출 수 상한
+// 한 의존이 느려져도 그쪽 호출만 쌓이고, 대기열이 차면 바로 거절해서 다른 의존 호출을 막지 않음
+final class Bulkhead {
+
+    private final Dependency dependency;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitMs;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    Bulkhead(Dependency dependency, int maxConcurrent, int maxQueue, long maxWaitMs) {
+        if (maxConcurrent < 1 || maxQueue < 0 || maxWaitMs < 0) {
+            throw new IllegalArgumentException("bulkhead requires maxConcurrent >= 1, maxQueue >= 0, maxWaitMs >= 0");
+        }
+        this.dependency = dependency;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitMs = maxWaitMs;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    void acquire() {
+        if (permits.tryAcquire()) return;
+
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            throw new DependencyUnavailableException(dependency, "bulkhead queue full (max=" + maxQueue + ")");
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new DependencyUnavailableException(dependency, "bulkhead wait timeout (" + maxWaitMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(dependency.key() + " bulkhead interrupted", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    int waiting() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,15 @@
+package com.seoulhousing.ingest_core.resilience;
+
+// 의존 호출 안에서 돌린 호출부 콜백(레디스 조회, 매핑 등)의 실패를 감싸서 의존 장애와 구분
+// DependencyGuard 는 이걸 4xx 처럼 정상 응답으로 기록하고, 호출부는 밖에서 풀어서 원래 예외를 던짐
+public class CallerFailureException extends RuntimeException {
+
+    public CallerFailureException(RuntimeException cause) {
+        super(cause);
+    }
+
+    @Override
+    public synchronized RuntimeException getCause() {
+        return (RuntimeException) super.getCause();
+    }
+}
@@ -0,0 +1,143 @@
+package com.seoulhousing.ingest_core.resilience;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// 의존 하나의 서킷브레이커 (연속 실패 횟수 기준)
+// CLOSED : 그대로 호출, 연속 failureThreshold 번 실패하면 OPEN
+// OPEN : openMillis 동안 호출하지 않고 바로 실패, 시간이 지나면 HALF_OPEN
+// HALF_OPEN : halfOpenProbes 개만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+// 상태(CLOSED/OPEN/HALF_OPEN)가 바뀐 메서드만 true 를 돌려주고, 저장은 호출한 쪽(DependencyGuard)이 snapshot 으로 함
+// CLOSED 안에서 연속 실패 횟수가 오르내리는 건 저장하지 않음 (실패 호출마다 레디스 쓰기가 붙지 않게)
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // 레디스에 남기는 상태 (openUntil 은 프로세스가 달라도 비교되도록 epoch ms)
+    record Snapshot(State state, int failures, long openUntilEpochMs) {
+
+        private static final String F_STATE = "state";
+        private static final String F_FAILURES = "failures";
+        private static final String F_OPEN_UNTIL = "openUntil";
+
+        Map<String, String> toFields() {
+            return Map.of(
+                    F_STATE, state.name(),
+                    F_FAILURES, Integer.toString(failures),
+                    F_OPEN_UNTIL, Long.toString(openUntilEpochMs)
+            );
+        }
+
+        // 필드가 없거나 깨져있으면 null (처음부터 CLOSED 로 시작)
+        static Snapshot fromFields(Map<String, String> fields) {
+            if (fields == null || fields.isEmpty()) return null;
+            try {
+                return new Snapshot(
+                        State.valueOf(fields.get(F_STATE)),
+                        Integer.parseInt(fields.getOrDefault(F_FAILURES, "0")),
+                        Long.parseLong(fields.getOrDefault(F_OPEN_UNTIL, "0"))
+                );
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private long openUntil;
+    private int probesInFlight;
+
+    CircuitBreaker(int failureThreshold, long openMillis, int halfOpenProbes, LongSupplier clock) {
+        if (failureThreshold < 1 || openMillis < 1 || halfOpenProbes < 1) {
+            throw new IllegalArgumentException("failureThreshold/openMillis/halfOpenProbes must be >= 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.halfOpenProbes = halfOpenProbes;
+        this.clock = clock;
+    }
+
+    // 이전 실행이 남긴 상태로 시작 (HALF_OPEN 으로 끝났으면 열린 상태로 보고 다시 시험 호출부터)
+    synchronized void restore(Snapshot snapshot) {
+        if (snapshot == null) return;
+        state = (snapshot.state() == State.HALF_OPEN) ? State.OPEN : snapshot.state();
+        failures = Math.max(0, snapshot.failures());
+        openUntil = snapshot.openUntilEpochMs();
+        probesInFlight = 0;
+    }
+
+    synchronized Snapshot snapshot() {
+        return new Snapshot(state, failures, openUntil);
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized long openUntil() {
+        return openUntil;
+    }
+
+    // 호출해도 되는지. OPEN 시간이 지났으면 여기서 HALF_OPEN 으로 바뀜
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() < openUntil) return false;
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) return false;
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    // 의존이 정상적으로 답함 -> 상태가 바뀌었으면 true
+    synchronized boolean onSuccess() {
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            failures = 0;
+            probesInFlight = 0;
+            return true;
+        }
+        if (state == State.CLOSED) failures = 0;
+        return false;
+    }
+
+    // 의존 장애로 실패 -> 상태가 바뀌었으면 true
+    synchronized boolean onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return true;
+        }
+        if (state == State.CLOSED) {
+            failures++;
+            if (failures < failureThreshold) return false;
+            open();
+            return true;
+        }
+        // 이미 OPEN (열리기 전에 나간 호출이 늦게 실패) 이면 그대로
+        return false;
+    }
+
+    // 호출을 못하고 끝남 (벌크헤드 거절 등) -> 시험 호출 자리만 돌려줌
+    synchronized void onAbandoned() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = clock.getAsLong() + openMillis;
+        probesInFlight = 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.seoulhousing.ingest_core.resilience;
+
+// 서킷브레이커/벌크헤드를 따로 두는 외부 의존 단위
+// key 는 재시도 계측 태그(dependency)와 레디스 브레이커 키에 같이 씀
+// MyHome 은 동시성을 HTTP 호스트별 상한(ingest.http.myhome-max-concurrent-per-host)이 맡으므로 벌크헤드 없이 브레이커만 씀
+public enum Dependency {
+
+    MYHOME("myhome", false),
+    SH_RSS("sh", true),
+    MAIN_SERVER("mainserver", true);
+
+    private final String key;
+    private final boolean bulkhead;
+
+    Dependency(String key, boolean bulkhead) {
+        this.key = key;
+        this.bulkhead = bulkhead;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    // 이 의존에 벌크헤드를 두는지
+    public boolean usesBulkhead() {
+        return bulkhead;
+    }
+}
@@ -0,0 +1,165 @@
+package com.seoulhousing.ingest_core.resilience;
+
+import com.seoulhousing.ingest_core.config.ResilienceProperties;
+import com.seoulhousing.ingest_core.metrics.IngestMetrics;
+import com.seoulhousing.ingest_core.redis.CircuitBreakerStatePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// 외부 의존 호출을 의존별 서킷브레이커 + 벌크헤드로 감싸는 진입점
+// 재시도 바깥에서 감싸므로 브레이커의 실패 한번 = 재시도까지 다 실패한 호출 한번
+// 순서 : 브레이커 확인(열려있으면 바로 실패) -> 벌크헤드 자리 -> 호출
+// 브레이커 상태는 바뀔때마다 레디스에 남기고, 의존을 처음 쓸때 한번 읽어와서 이전 실행 상태를 이어받음
+@Component
+public class DependencyGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(DependencyGuard.class);
+
+    // 레디스 상태 보관 기간 (이보다 오래 호출이 없으면 다음 실행은 CLOSED 로 시작)
+    private static final Duration STATE_TTL = Duration.ofDays(1);
+
+    private final ResilienceProperties properties;
+    private final CircuitBreakerStatePort statePort;
+    private final LongSupplier clock;
+
+    private final Map<Dependency, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<Dependency, Bulkhead> bulkheads = new EnumMap<>(Dependency.class);
+
+    public DependencyGuard(ResilienceProperties properties, CircuitBreakerStatePort statePort) {
+        this(properties, statePort, System::currentTimeMillis);
+    }
+
+    DependencyGuard(ResilienceProperties properties, CircuitBreakerStatePort statePort, LongSupplier clock) {
+        this.properties = properties;
+        this.statePort = statePort;
+        this.clock = clock;
+
+        for (Dependency dependency : Dependency.values()) {
+            String tag = dependency.key();
+            IngestMetrics.gauge(IngestMetrics.BREAKER_STATE, this, g -> g.stateValue(dependency), "dependency", tag);
+            if (!dependency.usesBulkhead()) continue;
+
+            ResilienceProperties.Policy policy = properties.policy(dependency);
+            Bulkhead bulkhead = new Bulkhead(dependency, policy.maxConcurrent(), policy.maxQueue(),
+                    policy.maxWait().toMillis());
+            bulkheads.put(dependency, bulkhead);
+
+            IngestMetrics.gauge(IngestMetrics.BULKHEAD_ACTIVE, bulkhead, Bulkhead::active, "dependency", tag);
+            IngestMetrics.gauge(IngestMetrics.BULKHEAD_WAITING, bulkhead, Bulkhead::waiting, "dependency", tag);
+        }
+    }
+
+    public <T> T call(Dependency dependency, String label, Supplier<T> body) {
+        if (!properties.isEnabled()) return body.get();
+
+        CircuitBreaker breaker = breaker(dependency);
+        CircuitBreaker.State before = breaker.state();
+        if (!breaker.tryAcquire()) {
+            IngestMetrics.count(IngestMetrics.BREAKER_REJECTED, 1, "dependency", dependency.key(), "reason", "open");
+            throw new DependencyUnavailableException(dependency,
+                    "circuit open until " + Instant.ofEpochMilli(breaker.openUntil()) + " (" + label + ")");
+        }
+        if (breaker.state() != before) persist(dependency, breaker, before); // OPEN -> HALF_OPEN
+
+        // 벌크헤드가 없는 의존은 아무것도 안하는 자리 (MyHome)
+        Bulkhead bulkhead = bulkheads.get(dependency);
+        try {
+            if (bulkhead != null) bulkhead.acquire();
+        } catch (RuntimeException e) {
+            breaker.onAbandoned();
+            IngestMetrics.count(IngestMetrics.BREAKER_REJECTED, 1, "dependency", dependency.key(), "reason", "bulkhead");
+            throw e;
+        }
+
+        try {
+            T result = body.get();
+            record(dependency, breaker, true);
+            return result;
+        } catch (RuntimeException e) {
+            // 4xx(429 제외)는 의존은 살아있고 요청이 잘못된 것이라 장애로 세지 않음
+            record(dependency, breaker, isCallerError(e));
+            throw e;
+        } finally {
+            if (bulkhead != null) bulkhead.release();
+        }
+    }
+
+    private void record(Dependency dependency, CircuitBreaker breaker, boolean healthy) {
+        CircuitBreaker.State before = breaker.state();
+        boolean changed = healthy ? breaker.onSuccess() : breaker.onFailure();
+        if (changed) persist(dependency, breaker, before);
+    }
+
+    private void persist(Dependency dependency, CircuitBreaker breaker, CircuitBreaker.State before) {
+        CircuitBreaker.Snapshot snapshot = breaker.snapshot();
+        if (snapshot.state() != before) {
+            log.warn("[Breaker][{}] {} -> {}. failures={}, openUntil={}", dependency.key(), before, snapshot.state(),
+                    snapshot.failures(), Instant.ofEpochMilli(snapshot.openUntilEpochMs()));
+        }
+
+        // 레디스 실패는 이번 실행 안에서의 보호에는 영향이 없으므로 로그만 남김
+        try {
+            statePort.save(dependency.key(), snapshot.toFields(), STATE_TTL);
+        } catch (RuntimeException e) {
+            log.warn("[Breaker][{}] state save failed. ex={}", dependency.key(), e.getClass().getSimpleName());
+        }
+    }
+
+    private CircuitBreaker breaker(Dependency dependency) {
+        CircuitBreaker breaker = breakers.get(dependency);
+        if (breaker != null) return breaker;
+        return breakers.computeIfAbsent(dependency, this::newBreaker);
+    }
+
+    private CircuitBreaker newBreaker(Dependency dependency) {
+        ResilienceProperties.Policy policy = properties.policy(dependency);
+        CircuitBreaker breaker = new CircuitBreaker(policy.failureThreshold(), policy.openDuration().toMillis(),
+                policy.halfOpenProbes(), clock);
+
+        try {
+            CircuitBreaker.Snapshot previous = CircuitBreaker.Snapshot.fromFields(statePort.load(dependency.key()));
+            breaker.restore(previous);
+            if (previous != null && previous.state() != CircuitBreaker.State.CLOSED) {
+                log.info("[Breaker][{}] restored {}. openUntil={}", dependency.key(), previous.state(),
+                        Instant.ofEpochMilli(previous.openUntilEpochMs()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[Breaker][{}] state load failed, start CLOSED. ex={}",
+                    dependency.key(), e.getClass().getSimpleName());
+        }
+        return breaker;
+    }
+
+    // 0=CLOSED, 1=HALF_OPEN, 2=OPEN (아직 안쓴 의존은 CLOSED)
+    private double stateValue(Dependency dependency) {
+        CircuitBreaker breaker = breakers.get(dependency);
+        if (breaker == null) return 0;
+        return switch (breaker.state()) {
+            case CLOSED -> 0;
+            case HALF_OPEN -> 1;
+            case OPEN -> 2;
+        };
+    }
+
+    // 호출부 콜백 실패로 표시됐거나, 원인 체인에 429 가 아닌 4xx 가 있으면 호출하는 쪽 문제
+    private static boolean isCallerError(Throwable e) {
+        if (e instanceof CallerFailureException) return true;
+
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof HttpClientErrorException http) {
+                return http.getStatusCode().value() != 429;
+            }
+        }
+        return false;
+    }
+}
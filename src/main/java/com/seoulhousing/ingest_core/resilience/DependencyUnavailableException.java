@@ -0,0 +1,17 @@
+package com.seoulhousing.ingest_core.resilience;
+
+// 브레이커가 열려있거나 벌크헤드가 가득 차서 호출하지 않고 바로 실패시킬때
+// 기존 호출부가 IllegalStateException 으로 실패를 다루므로 그 하위 타입으로 둠
+public class DependencyUnavailableException extends IllegalStateException {
+
+    private final Dependency dependency;
+
+    public DependencyUnavailableException(Dependency dependency, String reason) {
+        super(dependency.key() + " unavailable: " + reason);
+        this.dependency = dependency;
+    }
+
+    public Dependency getDependency() {
+        return dependency;
+    }
+}
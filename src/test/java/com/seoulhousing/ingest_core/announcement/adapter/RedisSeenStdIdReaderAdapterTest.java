@@ -1,5 +1,6 @@
 package com.seoulhousing.ingest_core.announcement.adapter;
 
+import com.seoulhousing.ingest_core.announcement.service.CompactStdIdSet;
 import com.seoulhousing.ingest_core.config.EnvProvider;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,9 +8,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -69,4 +75,89 @@ class RedisSeenStdIdReaderAdapterTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void 크기를_모르면_SCARD_없이_SSCAN_커서로_읽고_커서를_닫는다() {
+        // given
+        ReflectionTestUtils.setField(adapter, "scanThreshold", 2);
+        ReflectionTestUtils.setField(adapter, "scanCount", 500);
+        when(envProvider.envKey()).thenReturn("dev");
+        when(redisStringTemplate.opsForSet()).thenReturn(setOps);
+
+        @SuppressWarnings("unchecked")
+        Cursor<String> cursor = mock(Cursor.class);
+        // SSCAN 은 중복을 줄 수 있음
+        when(cursor.hasNext()).thenReturn(true, true, true, true, false);
+        when(cursor.next()).thenReturn("a", "b", "a", "c");
+        when(setOps.scan(eq("seoulhousing:dev:seen:myhome:rsdt:seoul"), any(ScanOptions.class))).thenReturn(cursor);
+
+        // when
+        Set<String> result = adapter.getSeenStdIds("myhome", "rsdt", "seoul");
+
+        // then : HashSet 대신 노드 없는 지문 set 에 채움
+        assertThat(result).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(result).isInstanceOf(CompactStdIdSet.class);
+
+        ArgumentCaptor<ScanOptions> optionsCaptor = ArgumentCaptor.forClass(ScanOptions.class);
+        verify(setOps).scan(anyString(), optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().getCount()).isEqualTo(500L);
+
+        verify(setOps, never()).members(anyString());
+        verify(setOps, never()).size(anyString());
+        verify(cursor).close();
+    }
+
+    @Test
+    void 알고있는_크기가_threshold보다_크면_SCARD_없이_SSCAN으로_읽는다() {
+        // given
+        ReflectionTestUtils.setField(adapter, "scanThreshold", 2);
+        when(envProvider.envKey()).thenReturn("dev");
+        when(redisStringTemplate.opsForSet()).thenReturn(setOps);
+
+        @SuppressWarnings("unchecked")
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, true, false);
+        when(cursor.next()).thenReturn("a", "b", "c");
+        when(setOps.scan(anyString(), any(ScanOptions.class))).thenReturn(cursor);
+
+        // when
+        Set<String> result = adapter.getSeenStdIds("myhome", "rsdt", "seoul", 3L);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("a", "b", "c");
+        verify(setOps, never()).size(anyString());
+        verify(setOps, never()).members(anyString());
+    }
+
+    @Test
+    void 알고있는_크기가_threshold_이하면_기존처럼_SMEMBERS_한번으로_읽는다() {
+        // given
+        ReflectionTestUtils.setField(adapter, "scanThreshold", 10);
+        when(envProvider.envKey()).thenReturn("dev");
+        when(redisStringTemplate.opsForSet()).thenReturn(setOps);
+        when(setOps.members(anyString())).thenReturn(Set.of("x", "y"));
+
+        // when
+        Set<String> result = adapter.getSeenStdIds("myhome", "rsdt", "seoul", 2L);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("x", "y");
+        verify(setOps, never()).scan(anyString(), any());
+        verify(setOps, never()).size(anyString());
+    }
+
+    @Test
+    void filterUnseen은_중복없이_배치로_물어보고_입력순서대로_unseen만_남긴다() {
+        // given: 배치 2개씩 -> distinct [A, B, C] 는 [A, B] + [C] 두 배치
+        ReflectionTestUtils.setField(adapter, "membershipBatchSize", 2);
+        when(envProvider.envKey()).thenReturn("dev");
+        when(redisStringTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(List.of(true, false), List.of(false)));
+
+        // when
+        List<String> unseen = adapter.filterUnseen("myhome", "rsdt", "seoul", List.of("A", "B", "A", "C", "B"));
+
+        // then
+        assertThat(unseen).containsExactly("B", "C", "B");
+    }
 }
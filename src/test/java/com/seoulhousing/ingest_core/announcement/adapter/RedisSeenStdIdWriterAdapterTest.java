@@ -0,0 +1,77 @@
+package com.seoulhousing.ingest_core.announcement.adapter;
+
+import com.seoulhousing.ingest_core.config.EnvProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSeenStdIdWriterAdapterTest {
+
+    @Mock
+    RedisTemplate<String, String> redisStringTemplate;
+
+    @Mock
+    EnvProvider envProvider;
+
+    @InjectMocks
+    RedisSeenStdIdWriterAdapter adapter;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addSeenStdIds는_리더와_같은_키에_중복없이_배치별_SADD를_파이프라인으로_보낸다() {
+        // given
+        ReflectionTestUtils.setField(adapter, "writeBatchSize", 2);
+        when(envProvider.envKey()).thenReturn("DEV");
+
+        // when
+        adapter.addSeenStdIds("MyHome", "RSDT", "Seoul", Arrays.asList("a", " b ", null, "", "a", "c"));
+
+        // then: 파이프라인 콜백을 가짜 커넥션으로 실행해서 실제 명령을 확인
+        ArgumentCaptor<RedisCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisStringTemplate).executePipelined(callbackCaptor.capture());
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisSetCommands setCommands = mock(RedisSetCommands.class);
+        when(connection.setCommands()).thenReturn(setCommands);
+
+        callbackCaptor.getValue().doInRedis(connection);
+
+        ArgumentCaptor<byte[]> keyCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[][]> membersCaptor = ArgumentCaptor.forClass(byte[][].class);
+        verify(setCommands, times(2)).sAdd(keyCaptor.capture(), membersCaptor.capture());
+
+        assertThat(new String(keyCaptor.getValue(), StandardCharsets.UTF_8))
+                .isEqualTo(RedisSeenStdIdReaderAdapter.seenKey("dev", "myhome", "rsdt", "seoul"))
+                .isEqualTo("seoulhousing:dev:seen:myhome:rsdt:seoul");
+
+        List<List<String>> batches = membersCaptor.getAllValues().stream()
+                .map(members -> Arrays.stream(members).map(m -> new String(m, StandardCharsets.UTF_8)).toList())
+                .toList();
+        assertThat(batches).containsExactly(List.of("a", "b"), List.of("c"));
+    }
+
+    @Test
+    void 기록할_stdId가_없으면_Redis를_호출하지_않는다() {
+        // when
+        adapter.addSeenStdIds("myhome", "rsdt", "seoul", List.of(" ", ""));
+
+        // then
+        verifyNoInteractions(redisStringTemplate);
+    }
+}
@@ -0,0 +1,118 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import com.seoulhousing.ingest_core.announcement.dto.ChangeDetectionResult;
+import com.seoulhousing.ingest_core.announcement.port.SeenStdIdReaderPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultAnnouncementChangeDetectionServiceTest {
+
+    @Mock
+    SeenStdIdPrefetcher seenStdIdPrefetcher;
+
+    @Mock
+    SeenStdIdReaderPort seenStdIdReaderPort;
+
+    DefaultAnnouncementChangeDetectionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DefaultAnnouncementChangeDetectionService(
+                new DefaultNewStdIdDetector(),
+                new DefaultMissingStdIdDetector(),
+                seenStdIdPrefetcher,
+                seenStdIdReaderPort
+        );
+        ReflectionTestUtils.setField(service, "membershipRatio", 10);
+    }
+
+    @Test
+    void seen이_현재목록보다_충분히_크면_set을_받지않고_멤버십으로_신규만_판정한다() {
+        // given: seen 1000개, 현재 3개 -> 1000 > 10 * 3
+        when(seenStdIdReaderPort.countSeen("myhome", "rsdt", "seoul")).thenReturn(1000L);
+        when(seenStdIdReaderPort.filterUnseen("myhome", "rsdt", "seoul", List.of("A", "C", "A")))
+                .thenReturn(List.of("C"));
+
+        // when
+        ChangeDetectionResult res = service.detect("myhome", "rsdt", "seoul", Arrays.asList(" A ", null, "C", "", "A"));
+
+        // then
+        assertThat(res.getNewStdIds()).containsExactly("C");
+        assertThat(res.getMissingStdIds()).isEmpty();
+        assertThat(res.isMissingComputed()).isFalse();
+        assertThat(res.missingCountText()).isEqualTo("skipped");
+        assertThat(res.getSeenCount()).isEqualTo(1000);
+        assertThat(res.getCurrentCount()).isEqualTo(5);
+
+        verify(seenStdIdPrefetcher).discard("myhome", "rsdt", "seoul");
+        verify(seenStdIdPrefetcher, never()).takeOrLoad(anyString(), anyString(), anyString(), anyLong());
+        verify(seenStdIdReaderPort, never()).getSeenStdIds(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void seen이_작으면_기존처럼_set을_받아서_신규와_누락을_모두_판정한다() {
+        // given: seen 3개, 현재 2개 -> 3 <= 10 * 2
+        when(seenStdIdReaderPort.countSeen("myhome", "rsdt", "seoul")).thenReturn(3L);
+        when(seenStdIdPrefetcher.takeOrLoad("myhome", "rsdt", "seoul", 3L)).thenReturn(Set.of("A", "B", "X"));
+
+        // when
+        ChangeDetectionResult res = service.detect("myhome", "rsdt", "seoul", List.of("A", "C"));
+
+        // then
+        assertThat(res.getNewStdIds()).containsExactly("C");
+        assertThat(res.getMissingStdIds()).containsExactlyInAnyOrder("B", "X");
+        assertThat(res.isMissingComputed()).isTrue();
+        verify(seenStdIdReaderPort, never()).filterUnseen(anyString(), anyString(), anyString(), anyList());
+    }
+
+    @Test
+    void 미리읽기가_이미_끝나있으면_비용계산없이_그_set을_쓴다() {
+        // given
+        when(seenStdIdPrefetcher.takeIfReady("sh", "rental", "seoul")).thenReturn(Set.of("A"));
+
+        // when
+        ChangeDetectionResult res = service.detect("sh", "rental", "seoul", List.of("A", "B"));
+
+        // then
+        assertThat(res.getNewStdIds()).containsExactly("B");
+        assertThat(res.getSeenCount()).isEqualTo(1);
+        verifyNoInteractions(seenStdIdReaderPort);
+    }
+
+    @Test
+    void 체크섬을_넘기면_신규가_아니고_기록된_체크섬과_다른_stdId만_변경으로_본다() {
+        // given
+        ReflectionTestUtils.setField(service, "membershipRatio", 0);
+        when(seenStdIdPrefetcher.takeOrLoad("myhome", "rsdt", "seoul")).thenReturn(Set.of("A", "B", "C"));
+
+        Map<String, String> current = new LinkedHashMap<>();
+        current.put("A", "h1"); // 같음
+        current.put("B", "h2-new"); // 바뀜
+        current.put("C", "h3"); // 기록 없음 -> 판단 안함
+        current.put("D", "h4"); // 신규 -> 변경 아님
+        Map<String, String> stored = Map.of("A", "h1", "B", "h2", "D", "old");
+
+        // when
+        ChangeDetectionResult res = service.detect("myhome", "rsdt", "seoul", List.of("A", "B", "C", "D"), current, stored);
+
+        // then
+        assertThat(res.getNewStdIds()).containsExactly("D");
+        assertThat(res.getChangedStdIds()).containsExactly("B");
+    }
+}
@@ -0,0 +1,84 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import com.seoulhousing.ingest_core.announcement.port.SeenStdIdReaderPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeenStdIdPrefetcherTest {
+
+    @Mock
+    SeenStdIdReaderPort seenStdIdReaderPort;
+
+    @InjectMocks
+    SeenStdIdPrefetcher prefetcher;
+
+    @Test
+    void prefetch한_결과는_takeOrLoad에서_한번만_재사용되고_동기조회는_하지않는다() {
+        // given
+        when(seenStdIdReaderPort.getSeenStdIdsAsync("myhome", "rsdt", "seoul"))
+                .thenReturn(CompletableFuture.completedFuture(Set.of("A")));
+
+        // when
+        prefetcher.prefetch("myhome", "rsdt", "seoul");
+        prefetcher.prefetch("MyHome", " RSDT ", "Seoul"); // 같은 키로 정규화 -> 중복 로딩 안함
+        Set<String> seen = prefetcher.takeOrLoad("myhome", "rsdt", "seoul");
+
+        // then
+        assertThat(seen).containsExactly("A");
+        verify(seenStdIdReaderPort, times(1)).getSeenStdIdsAsync("myhome", "rsdt", "seoul");
+        verify(seenStdIdReaderPort, never()).getSeenStdIds(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void prefetch가_없으면_바로_동기조회한다() {
+        // given
+        when(seenStdIdReaderPort.getSeenStdIds("sh", "rental", "seoul")).thenReturn(Set.of("B"));
+
+        // when
+        Set<String> seen = prefetcher.takeOrLoad("sh", "rental", "seoul");
+
+        // then
+        assertThat(seen).containsExactly("B");
+    }
+
+    @Test
+    void prefetch가_실패하면_동기조회로_다시_읽는다() {
+        // given
+        when(seenStdIdReaderPort.getSeenStdIdsAsync("sh", "rental", "seoul"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("redis down")));
+        when(seenStdIdReaderPort.getSeenStdIds("sh", "rental", "seoul")).thenReturn(Set.of("C"));
+
+        // when
+        prefetcher.prefetch("sh", "rental", "seoul");
+        Set<String> seen = prefetcher.takeOrLoad("sh", "rental", "seoul");
+
+        // then
+        assertThat(seen).containsExactly("C");
+    }
+
+    @Test
+    void discardAll_이후에는_미리읽은_값을_쓰지않는다() {
+        // given
+        when(seenStdIdReaderPort.getSeenStdIdsAsync("myhome", "rsdt", "seoul"))
+                .thenReturn(new CompletableFuture<>());
+        when(seenStdIdReaderPort.getSeenStdIds("myhome", "rsdt", "seoul")).thenReturn(Set.of("D"));
+
+        // when
+        prefetcher.prefetch("myhome", "rsdt", "seoul");
+        prefetcher.discardAll();
+        Set<String> seen = prefetcher.takeOrLoad("myhome", "rsdt", "seoul");
+
+        // then
+        assertThat(seen).containsExactly("D");
+    }
+}
@@ -0,0 +1,96 @@
+package com.seoulhousing.ingest_core.announcement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StdIdDiffEngineTest {
+
+    @Test
+    void diff_신규와_누락을_한번에_계산하고_기존_감지기와_같은_규칙을_따른다() {
+        // given
+        Set<String> seen = new LinkedHashSet<>(Arrays.asList("A", "B", " C ", "", "X"));
+        List<String> current = Arrays.asList("A", " D ", null, "", "D", "C");
+
+        // when
+        StdIdDiffEngine.Diff diff = StdIdDiffEngine.diff(seen, current);
+
+        // then
+        // 신규 : 현재 순서 + 중복 유지, seen 은 trim 전 값과 정확히 같아야 seen 으로 본다 (" C " != "C")
+        assertThat(diff.newStdIds()).containsExactly("D", "D", "C");
+        // 누락 : seen 순서, trim 한 값 (" C " 는 trim 하면 현재에 있으니 누락 아님)
+        assertThat(diff.missingStdIds()).containsExactly("B", "X");
+    }
+
+    @Test
+    void diff_입력이_비어있으면_빈결과() {
+        assertThat(StdIdDiffEngine.diff(null, null).newStdIds()).isEmpty();
+        assertThat(StdIdDiffEngine.diff(Set.of("A"), List.of()).missingStdIds()).containsExactly("A");
+        assertThat(StdIdDiffEngine.diff(Set.of(), List.of("A")).newStdIds()).containsExactly("A");
+    }
+
+    @Test
+    void diff_큰_입력에서도_HashSet_기반_결과와_같다() {
+        // given
+        Random random = new Random(7);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) seen.add("STD" + random.nextInt(80_000));
+        List<String> current = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) current.add("STD" + random.nextInt(80_000));
+
+        // when
+        StdIdDiffEngine.Diff diff = StdIdDiffEngine.diff(seen, current);
+
+        // then
+        Set<String> currentSet = new HashSet<>(current);
+        List<String> expectedNew = current.stream().filter(s -> !seen.contains(s)).toList();
+        List<String> expectedMissing = seen.stream().filter(s -> !currentSet.contains(s)).toList();
+
+        assertThat(diff.newStdIds()).isEqualTo(expectedNew);
+        assertThat(diff.missingStdIds()).isEqualTo(expectedMissing);
+    }
+
+    @Test
+    void fingerprintSet_슬롯이_겹쳐도_문자열_비교로_구분한다() {
+        // given: 최소 용량 테이블에 여러개를 넣어서 선형 탐사가 일어나게 함
+        StdIdFingerprintSet set = new StdIdFingerprintSet(4);
+        int a = set.add("A");
+        int b = set.add("B");
+        int c = set.add("C");
+
+        // then
+        assertThat(set.add("A")).isEqualTo(a);
+        assertThat(set.indexOf("  B ", 2, 3)).isEqualTo(b);
+        assertThat(set.indexOf("C", 0, 1)).isEqualTo(c);
+        assertThat(set.indexOf("Z", 0, 1)).isEqualTo(-1);
+        assertThat(List.of(a, b, c)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void compactSet_예상보다_많이_넣으면_늘어나고_HashSet과_같은_Set으로_동작한다() {
+        // given: 크기를 모르고 만든 set 에 중복 포함 여러개
+        CompactStdIdSet compact = new CompactStdIdSet(0);
+        Set<String> expected = new HashSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            String stdId = "myhome:rsdt:P" + random.nextInt(2_000);
+            assertThat(compact.add(stdId)).isEqualTo(expected.add(stdId));
+        }
+
+        // then
+        assertThat(compact).isEqualTo(expected);
+        assertThat(compact.size()).isEqualTo(expected.size());
+        assertThat(compact.contains("myhome:rsdt:P-1")).isFalse();
+        assertThat(compact.contains(1)).isFalse();
+        assertThat(StdIdDiffEngine.diff(compact, List.of("myhome:rsdt:P1", "new")).newStdIds())
+                .isEqualTo(StdIdDiffEngine.diff(expected, List.of("myhome:rsdt:P1", "new")).newStdIds());
+    }
+}
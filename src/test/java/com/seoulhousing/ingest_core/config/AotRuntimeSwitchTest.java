@@ -0,0 +1,52 @@
+package com.seoulhousing.ingest_core.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AOT 로 고정되는 빈 조건 가드
+ *
+ * 목표:
+ * - 컨테이너는 항상 AOT 로 뜨고, AOT 는 빌드때 @ConditionalOnProperty/@Profile 결과를 고정함
+ * - 실행중 환경변수로 바꾸는 스위치가 빈 조건으로 다시 들어오면 조용히 무시되므로 소스에 없는지 확인
+ */
+class AotRuntimeSwitchTest {
+
+    private static final Path MAIN_SOURCES = Path.of("src/main/java");
+
+    @Test
+    @DisplayName("우리 코드에는 실행 시점 스위치를 빈 조건(@ConditionalOnProperty/@Profile)으로 쓰지 않음")
+    void no_property_conditions_in_main_sources() throws IOException {
+        assertThat(MAIN_SOURCES).isDirectory();
+
+        List<Path> offenders;
+        try (Stream<Path> files = Files.walk(MAIN_SOURCES)) {
+            offenders = files
+                    .filter(p -> p.toString().endsWith(".java"))
+                    .filter(AotRuntimeSwitchTest::usesFrozenCondition)
+                    .toList();
+        }
+
+        assertThat(offenders).isEmpty();
+    }
+
+    private static boolean usesFrozenCondition(Path file) {
+        try {
+            // 주석에 이름이 나오는 건 괜찮으니 어노테이션으로 시작하는 줄만 봄
+            return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                    .map(String::strip)
+                    .anyMatch(line -> line.startsWith("@ConditionalOnProperty") || line.startsWith("@Profile"));
+        } catch (IOException e) {
+            throw new IllegalStateException("read failed: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.seoulhousing.ingest_core.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * HostConcurrencyLimitInterceptor 단위 테스트
+ *
+ * 목표:
+ * - 자리는 응답이 close 될때 반납되고, close 가 여러번 불려도 한번만 반납되는지
+ * - 상한에 걸리면 대기시간 뒤 IOException(→ ResourceAccessException) 으로 끝나는지
+ * - 요청 실패시에도 자리가 새지 않는지, 호스트끼리는 서로 막지 않는지
+ */
+class HostConcurrencyLimitInterceptorTest {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    @Test
+    @DisplayName("응답 close 시점에 자리가 한번만 반납됨")
+    void permit_released_on_close_once() throws IOException {
+        HostConcurrencyLimitInterceptor interceptor = new HostConcurrencyLimitInterceptor(2, 100);
+        ClientHttpRequestExecution execution = okExecution();
+
+        ClientHttpResponse response = interceptor.intercept(request("apis.example.com"), EMPTY, execution);
+        assertThat(interceptor.availablePermits("apis.example.com")).isEqualTo(1);
+
+        response.close();
+        response.close();
+        assertThat(interceptor.availablePermits("apis.example.com")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상한에 걸리면 대기시간 후 IOException, 다른 호스트는 영향 없음")
+    void saturated_host_times_out_other_host_passes() throws IOException {
+        HostConcurrencyLimitInterceptor interceptor = new HostConcurrencyLimitInterceptor(1, 50);
+        ClientHttpRequestExecution execution = okExecution();
+
+        ClientHttpResponse held = interceptor.intercept(request("a.example.com"), EMPTY, execution);
+
+        assertThatThrownBy(() -> interceptor.intercept(request("a.example.com"), EMPTY, execution))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("a.example.com");
+
+        try (ClientHttpResponse other = interceptor.intercept(request("b.example.com"), EMPTY, execution)) {
+            assertThat(interceptor.availablePermits("b.example.com")).isZero();
+        }
+
+        held.close();
+        assertThat(interceptor.availablePermits("a.example.com")).isEqualTo(1);
+        assertThat(interceptor.availablePermits("b.example.com")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 실행이 실패해도 자리를 반납함")
+    void permit_released_on_failure() throws IOException {
+        HostConcurrencyLimitInterceptor interceptor = new HostConcurrencyLimitInterceptor(1, 50);
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenThrow(new IOException("connect refused"));
+
+        assertThatThrownBy(() -> interceptor.intercept(request("a.example.com"), EMPTY, execution))
+                .isInstanceOf(IOException.class)
+                .hasMessage("connect refused");
+
+        assertThat(interceptor.availablePermits("a.example.com")).isEqualTo(1);
+    }
+
+    // ===== helpers =====
+
+    private static HttpRequest request(String host) {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getURI()).thenReturn(URI.create("https://" + host + "/list"));
+        return request;
+    }
+
+    private static ClientHttpRequestExecution okExecution() throws IOException {
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenAnswer(inv -> mock(ClientHttpResponse.class));
+        return execution;
+    }
+}
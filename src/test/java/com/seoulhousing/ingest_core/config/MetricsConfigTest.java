@@ -0,0 +1,45 @@
+package com.seoulhousing.ingest_core.config;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MetricsConfig 단위 테스트
+ *
+ * 목표:
+ * - 켜져있으면 전역 레지스트리에 붙고, 빈이 닫히면(close) 전역에서도 빠지는지
+ * - 꺼져있으면 전역에 붙지 않는지
+ */
+class MetricsConfigTest {
+
+    private final MetricsConfig config = new MetricsConfig();
+
+    @Test
+    @DisplayName("켜져있으면 전역에 붙고, close 하면 전역에서 빠짐")
+    void registry_removed_from_global_on_close() {
+        SimpleMeterRegistry registry = config.ingestMeterRegistry(true);
+        try {
+            assertThat(Metrics.globalRegistry.getRegistries()).contains(registry);
+        } finally {
+            registry.close();
+        }
+
+        assertThat(Metrics.globalRegistry.getRegistries()).doesNotContain(registry);
+        assertThat(registry.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("꺼져있으면 전역에 붙지 않음")
+    void disabled_registry_not_added() {
+        SimpleMeterRegistry registry = config.ingestMeterRegistry(false);
+        try {
+            assertThat(Metrics.globalRegistry.getRegistries()).doesNotContain(registry);
+        } finally {
+            registry.close();
+        }
+    }
+}
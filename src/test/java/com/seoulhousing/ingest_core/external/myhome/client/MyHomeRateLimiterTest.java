@@ -0,0 +1,92 @@
+package com.seoulhousing.ingest_core.external.myhome.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MyHomeRateLimiter 단위 테스트 (시계는 직접 움직임)
+ *
+ * 목표:
+ * - 스로틀 신호에 속도가 배수로 줄고, 같은 혼잡(쿨다운 안)에는 한번만 줄어드는지
+ * - 성공 신호에 속도가 조금씩 다시 올라가고 최대치를 넘지 않는지
+ * - burst 를 다 쓰면 시간이 흘러 토큰이 찰때까지 기다리고, 꺼져있으면 바로 통과하는지
+ */
+class MyHomeRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    @DisplayName("스로틀이면 배수 감소(쿨다운 안에서는 한번), 성공이면 가산 증가")
+    void aimd_adjusts_rate() {
+        MyHomeRateLimiter limiter = limiter(10);
+
+        limiter.acquire();
+        limiter.release(MyHomeRateLimiter.Signal.THROTTLED);
+        assertThat(limiter.currentRate()).isEqualTo(5.0);
+
+        // 같은 혼잡으로 보고 무시 (토큰은 스로틀때 비워져서 시간을 조금 흘려줌)
+        clock.addAndGet(SECOND / 2);
+        limiter.acquire();
+        limiter.release(MyHomeRateLimiter.Signal.THROTTLED);
+        assertThat(limiter.currentRate()).isEqualTo(5.0);
+
+        clock.addAndGet(2 * SECOND);
+        limiter.acquire();
+        limiter.release(MyHomeRateLimiter.Signal.THROTTLED);
+        clock.addAndGet(SECOND);
+        limiter.acquire();
+        limiter.release(MyHomeRateLimiter.Signal.IGNORED);
+        assertThat(limiter.currentRate()).isEqualTo(2.5);
+
+        for (int i = 0; i < 100; i++) {
+            clock.addAndGet(SECOND);
+            limiter.acquire();
+            limiter.release(MyHomeRateLimiter.Signal.SUCCESS);
+        }
+        assertThat(limiter.currentRate()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("burst 를 다 쓰면 토큰이 찰때까지 기다림")
+    void waits_for_token_after_burst() throws Exception {
+        MyHomeRateLimiter limiter = limiter(10); // burst 2
+
+        limiter.acquire();
+        limiter.acquire();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            limiter.acquire();
+            acquired.countDown();
+        });
+
+        assertThat(acquired.await(300, TimeUnit.MILLISECONDS)).isFalse();
+
+        clock.addAndGet(SECOND / 10); // 토큰 1개
+        assertThat(acquired.await(2, TimeUnit.SECONDS)).isTrue();
+        waiter.join();
+    }
+
+    @Test
+    @DisplayName("꺼져있으면 토큰 없이 바로 통과")
+    void disabled_passes() {
+        MyHomeRateLimiter disabled = new MyHomeRateLimiter(false, 1, 1, 1, 0.5, clock::get);
+        for (int i = 0; i < 10; i++) {
+            disabled.acquire();
+            disabled.release(MyHomeRateLimiter.Signal.THROTTLED);
+        }
+        assertThat(disabled.currentRate()).isEqualTo(1.0);
+    }
+
+    private MyHomeRateLimiter limiter(double maxRate) {
+        return new MyHomeRateLimiter(true, maxRate, 1, 2, 0.5, clock::get);
+    }
+}
@@ -0,0 +1,194 @@
+package com.seoulhousing.ingest_core.external.myhome.service;
+
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeListResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MyHomeParallelPageCursor 단위테스트
+ *
+ * 목표:
+ * - totalCount로 구한 페이지만 호출하고 마지막 빈 페이지 확인 호출은 하지 않는지
+ * - 응답 순서와 상관없이 페이지 순서대로 넘겨주는지
+ * - 동시 요청수가 상한을 넘지 않는지
+ * - 서버가 요청보다 작은 페이지 크기로 잘라줘도 뒤 페이지를 놓치지 않는지
+ */
+class MyHomeParallelPageCursorTest {
+
+    @Test
+    @DisplayName("totalCount=25, rows=10 이면 1~3페이지만 호출하고 페이지 순서대로 넘겨준다")
+    void forEachPage_fetchesKnownPagesOnly_inOrder() {
+        // given
+        FakeApi api = new FakeApi(25, 10);
+
+        // when
+        List<MyHomeItemDto> acc = new ArrayList<>();
+        new MyHomeParallelPageCursor(api, 10, 4).forEachPage(acc::addAll);
+
+        // then
+        assertThat(acc).containsExactlyElementsOf(api.allItems);
+        assertThat(api.calledPages).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("동시 요청수는 maxConcurrency를 넘지 않는다")
+    void forEachPage_respectsMaxConcurrency() {
+        // given
+        FakeApi api = new FakeApi(200, 10);
+
+        // when
+        List<MyHomeItemDto> acc = new ArrayList<>();
+        new MyHomeParallelPageCursor(api, 10, 3).forEachPage(acc::addAll);
+
+        // then
+        assertThat(acc).containsExactlyElementsOf(api.allItems);
+        assertThat(api.maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지가 꽉 차있으면 다음 페이지를 한번 더 확인한다")
+    void forEachPage_probesNextPage_whenLastPageIsFull() {
+        // given
+        FakeApi api = new FakeApi(20, 10);
+
+        // when
+        List<MyHomeItemDto> acc = new ArrayList<>();
+        new MyHomeParallelPageCursor(api, 10, 4).forEachPage(acc::addAll);
+
+        // then
+        assertThat(acc).hasSize(20);
+        assertThat(api.calledPages).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("요청 1000건인데 서버가 100건씩 잘라주면 (totalCount=550) 1~6페이지를 다 가져온다")
+    void forEachPage_usesServerPageSize_whenServerCapsRows() {
+        // given : 응답에 numOfRows 가 없는 경우
+        FakeApi api = new FakeApi(550, 100);
+
+        // when
+        List<MyHomeItemDto> acc = new ArrayList<>();
+        new MyHomeParallelPageCursor(api, 1000, 4).forEachPage(acc::addAll);
+
+        // then
+        assertThat(acc).containsExactlyElementsOf(api.allItems);
+        assertThat(api.calledPages).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    @DisplayName("응답 numOfRows 로 잘린 페이지 크기를 알려주면 그 값으로 계산하고, 마지막 페이지가 꽉 차면 한번 더 확인한다")
+    void forEachPage_usesReportedNumOfRows() {
+        // given
+        FakeApi api = new FakeApi(300, 100);
+        api.reportedNumOfRows = "100";
+
+        // when
+        List<MyHomeItemDto> acc = new ArrayList<>();
+        new MyHomeParallelPageCursor(api, 1000, 4).forEachPage(acc::addAll);
+
+        // then
+        assertThat(acc).containsExactlyElementsOf(api.allItems);
+        assertThat(api.calledPages).containsExactlyInAnyOrder(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("totalCount가 없으면 빈 페이지가 나올때까지 순차 호출한다")
+    void forEachPage_fallsBackToSequential_whenTotalCountMissing() {
+        // given
+        FakeApi api = new FakeApi(15, 10);
+        api.hideTotalCount = true;
+
+        // when
+        List<MyHomeItemDto> acc = new ArrayList<>();
+        new MyHomeParallelPageCursor(api, 10, 4).forEachPage(acc::addAll);
+
+        // then
+        assertThat(acc).containsExactlyElementsOf(api.allItems);
+        assertThat(api.calledPages).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("중간 페이지 호출이 실패하면 원래 예외가 그대로 전파된다")
+    void forEachPage_propagatesPageFailure() {
+        // given
+        FakeApi api = new FakeApi(50, 10);
+        api.failingPage = 3;
+
+        // when & then
+        assertThatThrownBy(() -> new MyHomeParallelPageCursor(api, 10, 2).forEachPage(items -> {}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("page 3");
+    }
+
+    // 페이지 번호로 응답을 만들어주는 가짜 API (응답 순서를 섞기 위해 뒤 페이지일수록 빨리 응답)
+    private static class FakeApi implements IntFunction<MyHomeListResponse> {
+
+        final List<MyHomeItemDto> allItems = new ArrayList<>();
+        final List<Integer> calledPages = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final Map<Integer, List<MyHomeItemDto>> pages = new ConcurrentHashMap<>();
+
+        final int totalCount;
+        final int numOfRows;
+        boolean hideTotalCount = false;
+        String reportedNumOfRows = null;
+        int failingPage = -1;
+
+        FakeApi(int totalCount, int numOfRows) {
+            this.totalCount = totalCount;
+            this.numOfRows = numOfRows;
+            for (int i = 0; i < totalCount; i++) {
+                MyHomeItemDto item = new MyHomeItemDto();
+                allItems.add(item);
+                pages.computeIfAbsent(i / numOfRows + 1, k -> new ArrayList<>()).add(item);
+            }
+        }
+
+        @Override
+        public MyHomeListResponse apply(int pageNo) {
+            calledPages.add(pageNo);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(Math.max(0, 30 - pageNo * 3L));
+                if (pageNo == failingPage) throw new IllegalStateException("page " + pageNo + " failed");
+
+                List<MyHomeItemDto> items = pages.getOrDefault(pageNo, List.of());
+                String total = hideTotalCount ? null : String.valueOf(totalCount);
+                String rows = reportedNumOfRows;
+                return new MyHomeListResponse() {
+                    @Override
+                    public List<MyHomeItemDto> itemsOrEmpty() {
+                        return items;
+                    }
+
+                    @Override
+                    public String totalCountOrNull() {
+                        return total;
+                    }
+
+                    @Override
+                    public String numOfRowsOrNull() {
+                        return rows;
+                    }
+                };
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.seoulhousing.ingest_core.external.sh.service;
 
 import com.seoulhousing.ingest_core.external.sh.client.ShRssApiClient;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeed;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFeedState;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssFetchResult;
 import com.seoulhousing.ingest_core.external.sh.dto.ShRssItem;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -78,4 +81,42 @@ class ShRentalNoticeCheckerServiceTest {
         verify(parser, times(1)).parse(rssBytes);
         verifyNoMoreInteractions(client, parser);
     }
+
+    @Test
+    @DisplayName("304 이면 파싱 없이 unchanged + 이전 상태 유지")
+    void fetchIfChanged_notModified_skipsParse() {
+        // given
+        ShRssFeedState prev = new ShRssFeedState("\"abc\"", "Tue, 06 Jan 2026 03:00:00 GMT", "hash");
+        when(client.fetchNoticeRssIfModified(prev.etag(), prev.lastModified()))
+                .thenReturn(ShRssFetchResult.notModified());
+
+        // when
+        ShRssFeed feed = service.fetchIfChanged(prev);
+
+        // then
+        assertThat(feed.unchanged()).isTrue();
+        assertThat(feed.state()).isEqualTo(prev);
+        verifyNoInteractions(parser);
+    }
+
+    @Test
+    @DisplayName("200 이어도 바디 해시가 같으면 파싱 없이 unchanged, 바뀌면 파싱")
+    void fetchIfChanged_bodyHashFallback() {
+        // given
+        byte[] rssBytes = "<rss/>".getBytes();
+        when(client.fetchNoticeRssIfModified(null, null))
+                .thenReturn(new ShRssFetchResult(false, rssBytes, null, null));
+        when(parser.parse(rssBytes)).thenReturn(List.of());
+
+        // when: 처음엔 상태가 없으니 파싱
+        ShRssFeed first = service.fetchIfChanged(ShRssFeedState.empty());
+        // when: 같은 바디를 다시 받으면 스킵
+        ShRssFeed second = service.fetchIfChanged(first.state());
+
+        // then
+        assertThat(first.unchanged()).isFalse();
+        assertThat(first.state().bodyHash()).isNotBlank();
+        assertThat(second.unchanged()).isTrue();
+        verify(parser, times(1)).parse(rssBytes);
+    }
 }
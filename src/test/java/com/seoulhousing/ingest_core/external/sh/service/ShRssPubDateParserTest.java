@@ -0,0 +1,94 @@
+package com.seoulhousing.ingest_core.external.sh.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ShRssPubDateParser 단위 테스트
+ *
+ * 목표:
+ * - 고정폭 RFC-1123 을 직접 파싱한 결과가 포매터와 같은지
+ * - 요일 불일치 / 없는 날짜 / 다른 모양은 포매터 규칙 그대로 따르는지
+ */
+class ShRssPubDateParserTest {
+
+    private static final DateTimeFormatter RFC_1123 =
+            DateTimeFormatter.RFC_1123_DATE_TIME.withLocale(Locale.ENGLISH);
+
+    @Test
+    @DisplayName("SH 피드 모양(GMT / +0900)은 직접 파싱하고 결과는 포매터와 같다")
+    void parse_fixedWidth() {
+        assertThat(ShRssPubDateParser.parseOrNull("Mon, 05 Jan 2026 06:48:24 GMT"))
+                .isEqualTo(Instant.parse("2026-01-05T06:48:24Z"));
+        assertThat(ShRssPubDateParser.parseOrNull(new StringBuilder(" Tue, 06 Jan 2026 12:00:00 +0900 ")))
+                .isEqualTo(Instant.parse("2026-01-06T03:00:00Z"));
+        assertThat(ShRssPubDateParser.parseFixed("Mon, 05 Jan 2026 06:48:24 GMT")).isNotEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("고정폭이 아니거나 값이 틀리면 포매터 결과를 따른다")
+    void parse_fallbackAndInvalid() {
+        // 한자리 일자 / 소문자 : 포매터가 받아줌
+        assertThat(ShRssPubDateParser.parseOrNull("Mon, 5 Jan 2026 06:48:24 GMT"))
+                .isEqualTo(Instant.parse("2026-01-05T06:48:24Z"));
+        assertThat(ShRssPubDateParser.parseOrNull("mon, 05 JAN 2026 06:48:24 GMT"))
+                .isEqualTo(Instant.parse("2026-01-05T06:48:24Z"));
+
+        // 요일 불일치 / 깨진값
+        assertThat(ShRssPubDateParser.parseOrNull("Tue, 05 Jan 2026 06:48:24 GMT")).isNull();
+        assertThat(ShRssPubDateParser.parseOrNull("INVALID")).isNull();
+        assertThat(ShRssPubDateParser.parseOrNull("   ")).isNull();
+        assertThat(ShRssPubDateParser.parseOrNull(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("무작위 날짜 문자열 20만개에서 포매터와 결과가 같다")
+    void parse_matchesFormatter() {
+        String[] days = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun", "mon", "Xyz"};
+        String[] months = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec", "Foo"};
+        String[] zones = {"GMT", "+0900", "-0000", "-0530", "+1800", "+1801", "+09:00", "UT", "+0960"};
+        Random random = new Random(20260105L);
+
+        for (int n = 0; n < 200_000; n++) {
+            String raw;
+            if (random.nextBoolean()) {
+                // 실제로 있는 시각
+                ZonedDateTime z = Instant.ofEpochSecond(random.nextLong(0L, 4_000_000_000L))
+                        .atZone(ZoneOffset.ofHours(random.nextInt(-12, 15)));
+                String offset = z.getOffset().getTotalSeconds() == 0 ? "GMT" : z.getOffset().getId().replace(":", "");
+                raw = String.format("%s, %02d %s %04d %02d:%02d:%02d %s",
+                        z.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH),
+                        z.getDayOfMonth(), months[z.getMonthValue() - 1], z.getYear(),
+                        z.getHour(), z.getMinute(), z.getSecond(), offset);
+            } else {
+                // 범위 밖 값 / 요일 불일치 섞어서
+                raw = String.format("%s, %02d %s %04d %02d:%02d:%02d %s",
+                        days[random.nextInt(days.length)], random.nextInt(0, 33), months[random.nextInt(months.length)],
+                        random.nextInt(1999, 2101), random.nextInt(0, 26), random.nextInt(0, 61), random.nextInt(0, 62),
+                        zones[random.nextInt(zones.length)]);
+            }
+
+            assertThat(ShRssPubDateParser.parseOrNull(raw))
+                    .as("raw=[%s]", raw)
+                    .isEqualTo(formatterOrNull(raw));
+        }
+    }
+
+    private static Instant formatterOrNull(String raw) {
+        try {
+            return ZonedDateTime.parse(raw.trim(), RFC_1123).toInstant();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.seoulhousing.ingest_core.external.sh.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ShRssSeqExtractor 단위 테스트
+ *
+ * 목표:
+ * - 자주 나오는 링크 모양에서 seq 값을 그대로 꺼내는지
+ * - 무작위 링크(정상/깨진 링크 섞어서)에서 기존 URI + split 방식과 결과가 항상 같은지
+ */
+class ShRssSeqExtractorTest {
+
+    private final ShRssSeqExtractor extractor = new ShRssSeqExtractor();
+
+    @Test
+    @DisplayName("SH 공고 링크에서 seq 를 꺼내고, 없거나 깨진 링크면 null")
+    void extractSeq_examples() {
+        assertThat(extractor.extractSeq(
+                "https://www.i-sh.co.kr/main/lay2/program/S1T294C297/www/brd/m_247/view.do?seq=298537&multi_itm_seq=0"))
+                .isEqualTo("298537");
+        assertThat(extractor.extractSeq(" http://x/view.do?multi_itm_seq=0&SEQ=7 ")).isEqualTo("7");
+        assertThat(extractor.extractSeq("http://x/view.do?seq=")).isEqualTo("");
+        assertThat(extractor.extractSeq("http://x/view.do?seq=%32%39")).isEqualTo("29");
+
+        assertThat(extractor.extractSeq(null)).isNull();
+        assertThat(extractor.extractSeq("http://x/view.do")).isNull();
+        assertThat(extractor.extractSeq("http://x/view.do?a=1#seq=2")).isNull();
+        assertThat(extractor.extractSeq("http://x/view.do?seq=1 2")).isNull();
+    }
+
+    @Test
+    @DisplayName("무작위 링크 20만개에서 기존 URI 방식과 결과가 같다")
+    void extractSeq_matchesUriBasedExtraction() {
+        String[] pieces = {
+                "http", "https", "HTTP", "h1+.-", "://", ":/", "//", ":", "www.i-sh.co.kr", "host", "-", ".",
+                ":80", ":99999999999", "@", "/", "/view.do", "?", "??", "#", "seq", "SEQ", "sEq", "seq=", "=",
+                "&", "&&", "298537", "%31", "%", "%zz", " ", "\t", "한", "ſeq", "[", "]", "{", "|", "\\", "\"",
+                "<", "^", "`", "~", "!", "$", "'", "(", "*", "+", ",", ";", "_", "multi_itm_seq=0",
+                "seq=1&seq=2", "seqx=3", "xseq=4", "=5", " ", "　"
+        };
+        Random random = new Random(20260106L);
+
+        for (int n = 0; n < 200_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            if (random.nextInt(3) > 0) sb.append(random.nextBoolean() ? "http://www.i-sh.co.kr/view.do?" : "https://x/y?");
+            int parts = random.nextInt(12);
+            for (int i = 0; i < parts; i++) sb.append(pieces[random.nextInt(pieces.length)]);
+
+            String link = sb.toString();
+            assertThat(extractor.extractSeq(link))
+                    .as("link=[%s]", link)
+                    .isEqualTo(extractSeqWithUri(link));
+        }
+    }
+
+    // 재작성 전 구현 (비교 기준)
+    private static String extractSeqWithUri(String link) {
+        if (link == null) return null;
+        try {
+            String query = URI.create(link.trim()).getQuery();
+            if (query == null) return null;
+
+            for (String s : query.split("&")) {
+                int index = s.indexOf("=");
+                if (index < 0) continue;
+                if ("seq".equalsIgnoreCase(s.substring(0, index))) return s.substring(index + 1);
+            }
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.seoulhousing.ingest_core.external.sh.dto.ShRssItem;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -140,6 +142,29 @@ class ShRssXmlParserTest {
                 .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    @DisplayName("스트림 파싱: 아이템마다 콜백하고 콜백이 false 를 반환하면 그 자리에서 멈춘다")
+    void parseStream_stopsWhenCallbackReturnsFalse() {
+        // given
+        String xml = rssXml(
+                itemXml("3", "공고3", "http://x/view.do?seq=3", "Mon, 05 Jan 2026 06:48:24 GMT"),
+                itemXml("2", "공고2", "http://x/view.do?seq=2", "Mon, 05 Jan 2026 05:48:24 GMT"),
+                itemXml("1", "공고1", "http://x/view.do?seq=1", "Mon, 05 Jan 2026 04:48:24 GMT")
+        );
+        byte[] rssBytes = xml.getBytes(Charset.forName("EUC-KR"));
+        List<ShRssItem> received = new ArrayList<>();
+
+        // when: 2개째에서 중단
+        parser.parse(new ByteArrayInputStream(rssBytes), item -> {
+            received.add(item);
+            return received.size() < 2;
+        });
+
+        // then: 인코딩 감지 후 한글도 그대로, 뒤 아이템은 받지 않음
+        assertThat(received).extracting(ShRssItem::getSeq).containsExactly("3", "2");
+        assertThat(received.get(0).getTitle()).isEqualTo("공고3");
+    }
+
     // ===== 테스트용 XML 빌더 =====
 
     private static String rssXml(String... items) {
@@ -0,0 +1,297 @@
+package com.seoulhousing.ingest_core.mainserver.client;
+
+import com.seoulhousing.ingest_core.config.MainServerProperties;
+import com.seoulhousing.ingest_core.config.ResilienceProperties;
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestRequest;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestResponse;
+import com.seoulhousing.ingest_core.mainserver.dto.MainServerAnnouncementSource;
+import com.seoulhousing.ingest_core.redis.CircuitBreakerStatePort;
+import com.seoulhousing.ingest_core.resilience.DependencyGuard;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * MainServerIngestClient 단위테스트 (로컬 가짜 메인서버 사용)
+ *
+ * 목표:
+ * - 아이템 수/예상 크기 기준으로 청크를 나눠 보내고 응답 카운트를 합산하는지
+ * - 한 청크가 실패해도 나머지 청크는 전송되고, 마지막에 실패가 전파되는지
+ * - gzip 옵션이 켜지면 Content-Encoding: gzip 바디를 보내고, 풀었을때 원래 JSON 과 같은지
+ */
+class MainServerIngestClientTest {
+
+    private static final Pattern EXTERNAL_KEY = Pattern.compile("\\"externalKey\\":\\"([^\\"]+)\\"");
+
+    private HttpServer server;
+    private final List<List<String>> receivedChunks = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> receivedEncodings = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> receivedWireBytes = Collections.synchronizedList(new ArrayList<>());
+    private volatile String failingKey;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/ingest", this::handleIngest);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("chunkMaxItems를 넘으면 나눠 보내고 created/updated/skipped를 합산한다")
+    void ingest_splitsByItemCount_andSumsCounters() {
+        // given
+        MainServerIngestClient client = client(3, 1_048_576, 2);
+
+        // when
+        IngestResponse res = client.ingest(request(7));
+
+        // then
+        assertThat(receivedChunks).hasSize(3);
+        assertThat(receivedChunks).extracting(List::size).containsExactlyInAnyOrder(3, 3, 1);
+        assertThat(receivedChunks.stream().flatMap(List::stream))
+                .containsExactlyInAnyOrderElementsOf(keys(7));
+        assertThat(res).isEqualTo(new IngestResponse(7, 7, 0, 0));
+    }
+
+    @Test
+    @DisplayName("예상 JSON 크기가 chunkMaxBytes를 넘으면 개수 상한 전이라도 나눠 보낸다")
+    void ingest_splitsByEstimatedBytes() {
+        // given: 아이템 하나가 대략 400~500byte 이니 2KB 상한이면 4~5개씩
+        MainServerIngestClient client = client(500, 2_048, 2);
+
+        // when
+        IngestResponse res = client.ingest(request(20));
+
+        // then
+        assertThat(receivedChunks.size()).isGreaterThan(1);
+        assertThat(receivedChunks).allSatisfy(chunk -> assertThat(chunk.size()).isLessThan(20));
+        assertThat(res.received()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("작으면 기존처럼 한번에 보낸다")
+    void ingest_singleRequest_whenSmall() {
+        // given
+        MainServerIngestClient client = client(500, 1_048_576, 2);
+
+        // when
+        IngestResponse res = client.ingest(request(5));
+
+        // then
+        assertThat(receivedChunks).hasSize(1);
+        assertThat(res).isEqualTo(new IngestResponse(5, 5, 0, 0));
+    }
+
+    @Test
+    @DisplayName("한 청크가 실패해도 나머지 청크는 전송되고 마지막에 IllegalStateException")
+    void ingest_oneChunkFails_othersStillSent() {
+        // given
+        failingKey = "P4:1";
+        MainServerIngestClient client = client(3, 1_048_576, 1);
+
+        // when & then
+        assertThatThrownBy(() -> client.ingest(request(9)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("chunked ingest failed");
+
+        // 실패한 청크(P3~P5)를 뺀 나머지 두 청크는 서버에 도착
+        assertThat(receivedChunks).hasSize(2);
+        assertThat(receivedChunks.stream().flatMap(List::stream))
+                .doesNotContain("P4:1")
+                .contains("P0:1", "P8:1");
+    }
+
+    @Test
+    @DisplayName("onAccepted: 서버가 받은 청크만 콜백으로 넘기고, 콜백이 실패해도 전송 결과에는 영향이 없다")
+    void ingest_onAccepted_calledOnlyForSuccessfulChunks() {
+        // given
+        failingKey = "P4:1";
+        MainServerIngestClient client = client(3, 1_048_576, 1);
+        List<String> acceptedKeys = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        assertThatThrownBy(() -> client.ingest(request(9), accepted -> {
+            accepted.forEach(it -> acceptedKeys.add(it.externalKey()));
+            throw new IllegalStateException("redis down");
+        })).hasMessageContaining("chunked ingest failed");
+
+        // then: 실패한 청크(P3~P5)만 빠지고, 콜백 예외 때문에 성공 청크가 실패로 바뀌지 않는다
+        assertThat(acceptedKeys).containsExactlyInAnyOrder("P0:1", "P1:1", "P2:1", "P6:1", "P7:1", "P8:1");
+        assertThat(receivedChunks).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("gzip 옵션: 임계값 이상이면 gzip으로 보내고 서버에서 풀면 원래 아이템이 그대로 들어있다")
+    void ingest_gzipEnabled_sendsCompressedBody() {
+        // given
+        MainServerIngestClient client = client(500, 1_048_576, 2, true, 1024);
+
+        // when
+        IngestResponse res = client.ingest(request(30));
+
+        // then
+        assertThat(receivedEncodings).containsExactly("gzip");
+        assertThat(receivedChunks).hasSize(1);
+        assertThat(receivedChunks.get(0)).containsExactlyElementsOf(keys(30));
+        assertThat(res).isEqualTo(new IngestResponse(30, 30, 0, 0));
+
+        // 반복되는 필드명/한글 값이 많아서 원본 예상크기보다 훨씬 작아야 한다
+        long estimated = request(30).items().stream().mapToLong(IngestChunker::estimateBytes).sum();
+        assertThat(receivedWireBytes.get(0)).isLessThan((int) (estimated / 3));
+    }
+
+    @Test
+    @DisplayName("gzip 옵션: 임계값보다 작은 바디는 압축하지 않는다")
+    void ingest_gzipEnabled_skipsSmallBody() {
+        // given
+        MainServerIngestClient client = client(500, 1_048_576, 2, true, 64 * 1024);
+
+        // when
+        client.ingest(request(2));
+
+        // then
+        assertThat(receivedEncodings).containsExactly("identity");
+        assertThat(receivedChunks.get(0)).containsExactlyElementsOf(keys(2));
+    }
+
+    @Test
+    @DisplayName("예상 크기는 따옴표/역슬래시/줄바꿈 이스케이프와 한글까지 실제 JSON 바이트와 같다")
+    void estimateBytes_matchesSerializedJson() {
+        MainServerIngestClient client = client(500, 1_048_576, 2);
+        AnnouncementIngestItem escaped = new AnnouncementIngestItem(
+                MainServerAnnouncementSource.MYHOME, "P1:1", "\"행복주택\" 모집\n(2차)", "LH", null, null, "서울",
+                LocalDate.of(2026, 1, 2), null, null, null, "https://x.test/a\\b?q=\"1\"",
+                1000L, null, -5L, null, null, "서울시 \t중구", null);
+
+        client.ingest(new AnnouncementIngestRequest("rsdt", List.of(escaped)));
+
+        // {"category":"rsdt","items":[ ... ]} 를 빼면 아이템 하나의 JSON 크기
+        int wrapper = "{\"category\":\"rsdt\",\"items\":[]}".length();
+        assertThat(receivedWireBytes).singleElement()
+                .isEqualTo((int) IngestChunker.estimateBytes(escaped) + wrapper);
+    }
+
+    @Test
+    @DisplayName("request가 null이면 IllegalArgumentException")
+    void ingest_nullRequest_throws() {
+        MainServerIngestClient client = client(500, 1_048_576, 2);
+
+        assertThatThrownBy(() -> client.ingest(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ===== helpers =====
+
+    private MainServerIngestClient client(int maxItems, long maxBytes, int maxInFlight) {
+        return client(maxItems, maxBytes, maxInFlight, false, 1024);
+    }
+
+    private MainServerIngestClient client(int maxItems, long maxBytes, int maxInFlight, boolean gzip, int gzipMinBytes) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        MainServerProperties props = new MainServerProperties(
+                baseUrl, "ingest", maxItems, maxBytes, maxInFlight, gzip, gzipMinBytes, 2000, 10000);
+        RestClient restClient = RestClient.builder().baseUrl(baseUrl).build();
+        // 브레이커/벌크헤드는 꺼둔 상태 (호출을 그대로 통과)
+        DependencyGuard guard = new DependencyGuard(
+                new ResilienceProperties(false, Map.of()), mock(CircuitBreakerStatePort.class));
+        return new MainServerIngestClient(restClient, props, new MainServerRetryExecutor(), guard);
+    }
+
+    private void handleIngest(HttpExchange exchange) throws IOException {
+        byte[] wire = exchange.getRequestBody().readAllBytes();
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+
+        receivedEncodings.add(encoding == null ? "identity" : encoding);
+        receivedWireBytes.add(wire.length);
+
+        byte[] raw = "gzip".equalsIgnoreCase(encoding) ? gunzip(wire) : wire;
+        String body = new String(raw, StandardCharsets.UTF_8);
+
+        List<String> keys = new ArrayList<>();
+        Matcher m = EXTERNAL_KEY.matcher(body);
+        while (m.find()) keys.add(m.group(1));
+
+        if (failingKey != null && keys.contains(failingKey)) {
+            respond(exchange, 500, "{\\"message\\":\\"boom\\"}");
+            return;
+        }
+
+        receivedChunks.add(keys);
+        int n = keys.size();
+        respond(exchange, 200,
+                "{\\"received\\":" + n + ",\\"created\\":" + n + ",\\"updated\\":0,\\"skipped\\":0}");
+    }
+
+    private static byte[] gunzip(byte[] gz) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gz))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static AnnouncementIngestRequest request(int count) {
+        List<AnnouncementIngestItem> items = IntStream.range(0, count)
+                .mapToObj(i -> item("P" + i + ":1"))
+                .toList();
+        return new AnnouncementIngestRequest("rsdt", items);
+    }
+
+    private static List<String> keys(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "P" + i + ":1").toList();
+    }
+
+    private static AnnouncementIngestItem item(String externalKey) {
+        return new AnnouncementIngestItem(
+                MainServerAnnouncementSource.MYHOME,
+                externalKey,
+                "서울 강남구 행복주택 입주자 모집공고",
+                "서울주택도시공사",
+                "아파트",
+                "행복주택",
+                "강남구",
+                null, null, null, null,
+                "https://www.myhome.go.kr/hws/portal/sch/selectRsdtRcritNtcDetailView.do?pblancId=" + externalKey,
+                10_000_000L, null, null, null, 150_000L,
+                "서울특별시 강남구 테헤란로 123",
+                "역삼동"
+        );
+    }
+}
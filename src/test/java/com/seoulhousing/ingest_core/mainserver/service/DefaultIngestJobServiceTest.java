@@ -0,0 +1,558 @@
+package com.seoulhousing.ingest_core.mainserver.service;
+
+import com.seoulhousing.ingest_core.announcement.dto.ChangeDetectionResult;
+import com.seoulhousing.ingest_core.announcement.port.SeenStdIdWriterPort;
+import com.seoulhousing.ingest_core.announcement.service.AnnouncementChangeDetectionService;
+import com.seoulhousing.ingest_core.announcement.service.ChangeDetectionSession;
+import com.seoulhousing.ingest_core.announcement.service.DefaultMissingStdIdDetector;
+import com.seoulhousing.ingest_core.announcement.service.DefaultNewStdIdDetector;
+import com.seoulhousing.ingest_core.announcement.service.SeenStdIdPrefetcher;
+import com.seoulhousing.ingest_core.announcement.service.StdIdGenerator;
+import com.seoulhousing.ingest_core.external.myhome.dto.MyHomeItemDto;
+import com.seoulhousing.ingest_core.external.myhome.service.LtRsdtCollector;
+import com.seoulhousing.ingest_core.external.myhome.service.RsdtCollector;
+import com.seoulhousing.ingest_core.mainserver.client.MainServerIngestClient;
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestRequest;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestJobResult;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestPipeline;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestResponse;
+import com.seoulhousing.ingest_core.mainserver.dto.JobReport;
+import com.seoulhousing.ingest_core.mainserver.dto.MainServerAnnouncementSource;
+import com.seoulhousing.ingest_core.mainserver.dto.PipelineOutcome;
+import com.seoulhousing.ingest_core.mainserver.mapper.IngestItemChecksums;
+import com.seoulhousing.ingest_core.mainserver.mapper.MyHomeToIngestItemMapper;
+import com.seoulhousing.ingest_core.redis.MyHomeChecksumStorePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DefaultIngestJobService 실행 모드 단위테스트
+ *
+ * 목표:
+ * - 한 파이프라인이 실패해도 나머지 파이프라인은 끝까지 실행되는지
+ * - 제한시간을 넘긴 파이프라인은 TIMED_OUT 으로 정리되는지
+ * - 스트리밍 모드에서 페이지 단위로 신규만 배치 전송되는지
+ * - 실패로 끝나도 그때까지의 파이프라인 기록이 리포트로 남는지
+ * - 파이프라인 단독 실행(상주 모드)이 같은 파이프라인끼리 겹치지 않는지
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultIngestJobServiceTest {
+
+    @Mock
+    RsdtCollector rsdtCollector;
+
+    @Mock
+    LtRsdtCollector ltRsdtCollector;
+
+    @Mock
+    ShRssIngestService shRssIngestService;
+
+    @Mock
+    StdIdGenerator stdIdGenerator;
+
+    @Mock
+    AnnouncementChangeDetectionService changeDetectionService;
+
+    @Mock
+    SeenStdIdPrefetcher seenStdIdPrefetcher;
+
+    @Mock
+    SeenStdIdWriterPort seenStdIdWriterPort;
+
+    @Mock
+    MyHomeChecksumStorePort myHomeChecksumStorePort;
+
+    @Mock
+    MainServerIngestClient mainServerIngestClient;
+
+    @Mock
+    JobReportPublisher jobReportPublisher;
+
+    @InjectMocks
+    DefaultIngestJobService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "scope", "seoul");
+        ReflectionTestUtils.setField(service, "myhomeNumOfRows", 100);
+        ReflectionTestUtils.setField(service, "myhomeRsdtCategory", "rsdt");
+        ReflectionTestUtils.setField(service, "myhomeLtRsdtCategory", "ltrsdt");
+        ReflectionTestUtils.setField(service, "shCategory", "rental");
+        ReflectionTestUtils.setField(service, "concurrent", true);
+        ReflectionTestUtils.setField(service, "pipelineTimeoutMs", 2_000L);
+        ReflectionTestUtils.setField(service, "pipelineShutdownGraceMs", 1_000L);
+    }
+
+    @Test
+    @DisplayName("동시 실행: 공공임대 수집이 실패해도 공공분양/SH는 계속 실행되고 결과에 FAILED로 남는다")
+    void runOnce_concurrent_isolatesFailure() {
+        // given
+        when(rsdtCollector.collect(any())).thenThrow(new IllegalStateException("MyHome down"));
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(changeDetectionService.detect(eq("myhome"), eq("ltrsdt"), eq("seoul"), anyList()))
+                .thenReturn(emptyDiff("ltrsdt"));
+        when(shRssIngestService.collectNewItems("rental")).thenReturn(List.of());
+
+        // when
+        IngestJobResult result = service.runOnce();
+
+        // then
+        Map<IngestPipeline, PipelineOutcome> byPipeline = byPipeline(result);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(byPipeline.get(IngestPipeline.MYHOME_RSDT).status()).isEqualTo(PipelineOutcome.Status.FAILED);
+        assertThat(byPipeline.get(IngestPipeline.MYHOME_RSDT).error()).contains("MyHome down");
+        assertThat(byPipeline.get(IngestPipeline.MYHOME_LTRSDT).isSuccess()).isTrue();
+        assertThat(byPipeline.get(IngestPipeline.SH_RSS).isSuccess()).isTrue();
+
+        verify(shRssIngestService).collectNewItems("rental");
+        verifyNoInteractions(mainServerIngestClient);
+    }
+
+    @Test
+    @DisplayName("동시 실행: 제한시간을 넘긴 파이프라인은 취소되고 TIMED_OUT 으로 남는다")
+    void runOnce_concurrent_timesOutSlowPipeline() {
+        // given
+        ReflectionTestUtils.setField(service, "pipelineTimeoutMs", 200L);
+
+        when(rsdtCollector.collect(any())).thenReturn(List.of());
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(changeDetectionService.detect(eq("myhome"), anyString(), eq("seoul"), anyList()))
+                .thenAnswer(inv -> emptyDiff(inv.getArgument(1)));
+        when(shRssIngestService.collectNewItems("rental")).thenAnswer(inv -> {
+            Thread.sleep(10_000L);
+            return List.of();
+        });
+
+        // when
+        IngestJobResult result = service.runOnce();
+
+        // then
+        Map<IngestPipeline, PipelineOutcome> byPipeline = byPipeline(result);
+
+        assertThat(result.failedOutcomes()).hasSize(1);
+        assertThat(byPipeline.get(IngestPipeline.SH_RSS).status()).isEqualTo(PipelineOutcome.Status.TIMED_OUT);
+        assertThat(byPipeline.get(IngestPipeline.MYHOME_RSDT).isSuccess()).isTrue();
+        assertThat(byPipeline.get(IngestPipeline.MYHOME_LTRSDT).isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 실행: 인터럽트를 무시하는 파이프라인이 있어도 제한시간 + 유예시간 안에 결과를 돌려준다")
+    void runOnce_concurrent_doesNotWaitForInterruptIgnoringPipeline() {
+        // given
+        ReflectionTestUtils.setField(service, "pipelineTimeoutMs", 200L);
+        ReflectionTestUtils.setField(service, "pipelineShutdownGraceMs", 100L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(rsdtCollector.collect(any())).thenReturn(List.of());
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(changeDetectionService.detect(eq("myhome"), anyString(), eq("seoul"), anyList()))
+                .thenAnswer(inv -> emptyDiff(inv.getArgument(1)));
+        when(shRssIngestService.collectNewItems("rental")).thenAnswer(inv -> {
+            // 인터럽트를 삼키고 계속 버팀 (테스트 끝에 release 로 풀어줌)
+            while (true) {
+                try {
+                    if (release.await(10, TimeUnit.SECONDS)) return List.of();
+                } catch (InterruptedException ignored) {
+                    // 무시
+                }
+            }
+        });
+
+        try {
+            // when
+            long start = System.nanoTime();
+            IngestJobResult result = service.runOnce();
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(elapsedMs).isLessThan(3_000L);
+            assertThat(byPipeline(result).get(IngestPipeline.SH_RSS).status()).isEqualTo(PipelineOutcome.Status.TIMED_OUT);
+            assertThat(byPipeline(result).get(IngestPipeline.MYHOME_RSDT).isSuccess()).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("seen 미리읽기: 작업 시작때 모든 카테고리의 seen 로딩을 걸고, 끝나면 남은 미리읽기를 정리한다")
+    void runOnce_prefetchesSeenSets_andDiscardsLeftovers() {
+        // given
+        ReflectionTestUtils.setField(service, "seenPrefetch", true);
+        when(rsdtCollector.collect(any())).thenReturn(List.of());
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(changeDetectionService.detect(eq("myhome"), anyString(), eq("seoul"), anyList()))
+                .thenAnswer(inv -> emptyDiff(inv.getArgument(1)));
+
+        // when
+        service.runOnce();
+
+        // then
+        InOrder inOrder = inOrder(seenStdIdPrefetcher, rsdtCollector);
+        inOrder.verify(seenStdIdPrefetcher).prefetch("myhome", "rsdt", "seoul");
+        inOrder.verify(rsdtCollector).collect(any());
+
+        verify(seenStdIdPrefetcher).prefetch("myhome", "ltrsdt", "seoul");
+        verify(seenStdIdPrefetcher).prefetch("sh", "rental", "seoul");
+        verify(seenStdIdPrefetcher).discardAll();
+    }
+
+    @Test
+    @DisplayName("seen 미리읽기: 멤버십 확인을 쓰면 detect 로 판정하는 키는 미리읽기를 걸지 않는다")
+    void runOnce_membershipCheck_skipsPrefetchForDetectKeys() {
+        // given
+        ReflectionTestUtils.setField(service, "seenPrefetch", true);
+        when(changeDetectionService.usesMembershipCheck()).thenReturn(true);
+        when(rsdtCollector.collect(any())).thenReturn(List.of());
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(changeDetectionService.detect(eq("myhome"), anyString(), eq("seoul"), anyList()))
+                .thenAnswer(inv -> emptyDiff(inv.getArgument(1)));
+
+        // when
+        service.runOnce();
+
+        // then
+        verify(seenStdIdPrefetcher, never()).prefetch(anyString(), anyString(), anyString());
+        verify(seenStdIdPrefetcher).discardAll();
+    }
+
+    @Test
+    @DisplayName("seen 미리읽기: SH 스트리밍 모드는 set 전체를 쓰지 않으니 SH 미리읽기를 걸지 않는다")
+    void runOnce_shStreaming_skipsShPrefetch() {
+        // given
+        ReflectionTestUtils.setField(service, "seenPrefetch", true);
+        ReflectionTestUtils.setField(service, "shStreaming", true);
+        when(rsdtCollector.collect(any())).thenReturn(List.of());
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(changeDetectionService.detect(eq("myhome"), anyString(), eq("seoul"), anyList()))
+                .thenAnswer(inv -> emptyDiff(inv.getArgument(1)));
+
+        // when
+        service.runOnce();
+
+        // then
+        verify(seenStdIdPrefetcher).prefetch("myhome", "rsdt", "seoul");
+        verify(seenStdIdPrefetcher, never()).prefetch(eq("sh"), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("순차 실행: 실패하면 기존처럼 예외가 그대로 전파된다")
+    void runOnce_sequential_propagatesFailure() {
+        // given
+        ReflectionTestUtils.setField(service, "concurrent", false);
+        when(rsdtCollector.collect(any())).thenThrow(new IllegalStateException("MyHome down"));
+
+        // when & then
+        assertThatThrownBy(() -> service.runOnce())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("MyHome down");
+
+        verifyNoInteractions(ltRsdtCollector, shRssIngestService);
+    }
+
+    @Test
+    @DisplayName("리포트: 순차 실행이 실패해도 실패한 파이프라인까지 기록된 리포트를 내보내고 예외는 그대로 전파된다")
+    void runOnce_sequential_publishesReportOnFailure() {
+        // given
+        ReflectionTestUtils.setField(service, "concurrent", false);
+        when(rsdtCollector.collect(any())).thenThrow(new IllegalStateException("MyHome down"));
+
+        // when
+        assertThatThrownBy(() -> service.runOnce()).hasMessageContaining("MyHome down");
+
+        // then
+        ArgumentCaptor<JobReport> captor = ArgumentCaptor.forClass(JobReport.class);
+        verify(jobReportPublisher).publish(captor.capture());
+
+        JobReport report = captor.getValue();
+        assertThat(report.success()).isFalse();
+        assertThat(report.jvmUptimeMs()).isPositive();
+        assertThat(report.pipelines()).singleElement().satisfies(p -> {
+            assertThat(p.pipeline()).isEqualTo(IngestPipeline.MYHOME_RSDT);
+            assertThat(p.status()).isEqualTo(PipelineOutcome.Status.FAILED);
+            assertThat(p.error()).contains("MyHome down");
+            assertThat(p.finishedAt()).isAfterOrEqualTo(p.startedAt());
+        });
+    }
+
+    @Test
+    @DisplayName("리포트: 동시 실행 결과에 파이프라인별 리포트가 같이 담긴다")
+    void runOnce_concurrent_attachesReport() {
+        // given
+        when(rsdtCollector.collect(any())).thenReturn(List.of());
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(changeDetectionService.detect(eq("myhome"), anyString(), eq("seoul"), anyList()))
+                .thenAnswer(inv -> emptyDiff(inv.getArgument(1)));
+
+        // when
+        IngestJobResult result = service.runOnce();
+
+        // then
+        assertThat(result.report()).isNotNull();
+        assertThat(result.report().success()).isTrue();
+        assertThat(result.report().pipelines())
+                .extracting(p -> p.pipeline())
+                .containsExactlyInAnyOrder(IngestPipeline.values());
+        verify(jobReportPublisher).publish(result.report());
+    }
+
+    @Test
+    @DisplayName("파이프라인 단독 실행: 실패는 예외 대신 FAILED 결과로 돌려주고 리포트를 남긴다")
+    void runPipeline_returnsFailureInsteadOfThrowing() {
+        // given
+        when(shRssIngestService.collectNewItems("rental")).thenThrow(new IllegalStateException("SH down"));
+
+        // when
+        IngestJobResult result = service.runPipeline(IngestPipeline.SH_RSS);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.outcomes()).singleElement().satisfies(o -> {
+            assertThat(o.pipeline()).isEqualTo(IngestPipeline.SH_RSS);
+            assertThat(o.status()).isEqualTo(PipelineOutcome.Status.FAILED);
+        });
+        verify(jobReportPublisher).publish(result.report());
+        verifyNoInteractions(rsdtCollector, ltRsdtCollector, seenStdIdPrefetcher);
+    }
+
+    @Test
+    @DisplayName("파이프라인 단독 실행: 같은 파이프라인이 실행중이면 겹쳐 돌지 않고 SKIPPED 로 바로 반환한다")
+    void runPipeline_skipsWhileSamePipelineRunning() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(shRssIngestService.collectNewItems("rental")).thenAnswer(inv -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        Thread first = Thread.ofVirtual().start(() -> service.runPipeline(IngestPipeline.SH_RSS));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        IngestJobResult overlapped = service.runPipeline(IngestPipeline.SH_RSS);
+        release.countDown();
+        first.join(5_000L);
+
+        // then
+        assertThat(overlapped.isSuccess()).isTrue();
+        assertThat(overlapped.outcomes()).singleElement()
+                .extracting(PipelineOutcome::status).isEqualTo(PipelineOutcome.Status.SKIPPED);
+        verify(shRssIngestService, times(1)).collectNewItems("rental");
+    }
+
+    @Test
+    @DisplayName("파이프라인 단독 실행: 멈춘 실행은 제한시간에 TIMED_OUT 으로 끝나고 잠금을 풀어 다음 회차가 돈다")
+    void runPipeline_timesOutAndReleasesLock() {
+        // given
+        ReflectionTestUtils.setField(service, "pipelineTimeoutMs", 200L);
+        ReflectionTestUtils.setField(service, "pipelineShutdownGraceMs", 100L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(shRssIngestService.collectNewItems("rental"))
+                .thenAnswer(inv -> {
+                    // 인터럽트를 삼키고 계속 버팀 (테스트 끝에 release 로 풀어줌)
+                    while (true) {
+                        try {
+                            if (release.await(10, TimeUnit.SECONDS)) return List.of();
+                        } catch (InterruptedException ignored) {
+                            // 무시
+                        }
+                    }
+                })
+                .thenReturn(List.of());
+
+        try {
+            // when
+            long start = System.nanoTime();
+            IngestJobResult hung = service.runPipeline(IngestPipeline.SH_RSS);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            IngestJobResult next = service.runPipeline(IngestPipeline.SH_RSS);
+
+            // then
+            assertThat(elapsedMs).isLessThan(3_000L);
+            assertThat(hung.outcomes()).singleElement()
+                    .extracting(PipelineOutcome::status).isEqualTo(PipelineOutcome.Status.TIMED_OUT);
+            assertThat(next.outcomes()).singleElement()
+                    .extracting(PipelineOutcome::status).isEqualTo(PipelineOutcome.Status.SUCCESS);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍: 페이지마다 신규만 골라 배치 단위로 전송하고, 페이지를 넘어 중복된 stdId는 한번만 보낸다")
+    void runOnce_streaming_sendsNewItemsPerBatch() {
+        // given
+        ReflectionTestUtils.setField(service, "concurrent", false);
+        ReflectionTestUtils.setField(service, "myhomeStreaming", true);
+        ReflectionTestUtils.setField(service, "myhomeStreamBatchSize", 2);
+        ReflectionTestUtils.setField(service, "myhomeStreamMaxPendingBatches", 1);
+
+        // seen = {P1:1}
+        when(changeDetectionService.openSession(eq("myhome"), anyString(), eq("seoul")))
+                .thenAnswer(inv -> new ChangeDetectionSession(
+                        "myhome", inv.getArgument(1), "seoul",
+                        Set.of("myhome:rsdt:P1:1"),
+                        new DefaultNewStdIdDetector(),
+                        new DefaultMissingStdIdDetector()));
+        when(stdIdGenerator.myhomeOrNull(anyString(), anyString(), anyString()))
+                .thenAnswer(inv -> "myhome:" + inv.getArgument(0) + ":" + inv.getArgument(1) + ":" + inv.getArgument(2));
+        when(mainServerIngestClient.ingest(any(AnnouncementIngestRequest.class)))
+                .thenAnswer(inv -> {
+                    int size = inv.<AnnouncementIngestRequest>getArgument(0).items().size();
+                    return new IngestResponse(size, size, 0, 0);
+                });
+
+        // 1페이지: P1(seen), P2, P3 / 2페이지: P3(중복), P4
+        doAnswer(inv -> {
+            Consumer<List<MyHomeItemDto>> consumer = inv.getArgument(1);
+            consumer.accept(List.of(item("P1", "1"), item("P2", "1"), item("P3", "1")));
+            consumer.accept(List.of(item("P3", "1"), item("P4", "1")));
+            return null;
+        }).when(rsdtCollector).forEachPage(any(), any());
+
+        // when
+        IngestJobResult result = service.runOnce();
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+
+        ArgumentCaptor<AnnouncementIngestRequest> captor = ArgumentCaptor.forClass(AnnouncementIngestRequest.class);
+        verify(mainServerIngestClient, times(2)).ingest(captor.capture());
+
+        List<String> sentKeys = captor.getAllValues().stream()
+                .flatMap(r -> r.items().stream())
+                .map(AnnouncementIngestItem::externalKey)
+                .toList();
+        assertThat(sentKeys).containsExactly("P2:1", "P3:1", "P4:1");
+        verify(rsdtCollector, never()).collect(any());
+    }
+
+    @Test
+    @DisplayName("seen 기록: 메인서버가 받은 청크의 stdId 를 같은 source/category 의 seen set 에 바로 추가한다")
+    void runOnce_seenWriteEnabled_recordsAcceptedStdIds() {
+        // given
+        ReflectionTestUtils.setField(service, "concurrent", false);
+        ReflectionTestUtils.setField(service, "seenWriteEnabled", true);
+        when(rsdtCollector.collect(any())).thenReturn(List.of());
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(changeDetectionService.detect(eq("myhome"), anyString(), eq("seoul"), anyList()))
+                .thenAnswer(inv -> emptyDiff(inv.getArgument(1)));
+        when(shRssIngestService.collectNewItems("rental"))
+                .thenReturn(List.of(shItem("101"), shItem("102")));
+        when(stdIdGenerator.shRss(anyString())).thenAnswer(inv -> "sh:rss:" + inv.getArgument(0));
+
+        // 메인서버가 청크 하나로 다 받았다고 가정
+        when(mainServerIngestClient.ingest(any(AnnouncementIngestRequest.class), any()))
+                .thenAnswer(inv -> {
+                    AnnouncementIngestRequest req = inv.getArgument(0);
+                    Consumer<List<AnnouncementIngestItem>> onAccepted = inv.getArgument(1);
+                    onAccepted.accept(req.items());
+                    return new IngestResponse(2, 2, 0, 0);
+                });
+
+        // when
+        service.runOnce();
+
+        // then
+        verify(seenStdIdWriterPort).addSeenStdIds("sh", "rental", "seoul", List.of("sh:rss:101", "sh:rss:102"));
+    }
+
+    @Test
+    @DisplayName("체크섬: 내용이 바뀐 기존 공고도 보내고, 기록이 없던 기존 공고는 보내지 않고 체크섬만 기록하고, 빠진 공고 체크섬은 지운다")
+    void runOnce_checksumEnabled_sendsChangedItems() {
+        // given
+        ReflectionTestUtils.setField(service, "concurrent", false);
+        ReflectionTestUtils.setField(service, "myhomeChecksumEnabled", true);
+
+        MyHomeItemDto p1 = item("P1", "1"); // 기존, 내용 바뀜
+        MyHomeItemDto p2 = item("P2", "1"); // 기존, 체크섬 기록 없음
+        MyHomeItemDto p3 = item("P3", "1"); // 기존, 체크섬 기록 없음
+        String p1Checksum = IngestItemChecksums.of(MyHomeToIngestItemMapper.map(p1), p1.getSttusNm());
+        String p2Checksum = IngestItemChecksums.of(MyHomeToIngestItemMapper.map(p2), p2.getSttusNm());
+
+        when(rsdtCollector.collect(any())).thenReturn(List.of(p1, p2, p3));
+        when(ltRsdtCollector.collect(any())).thenReturn(List.of());
+        when(stdIdGenerator.myhomeOrNull(anyString(), anyString(), anyString()))
+                .thenAnswer(inv -> "myhome:" + inv.getArgument(0) + ":" + inv.getArgument(1) + ":" + inv.getArgument(2));
+        when(myHomeChecksumStorePort.getChecksums(anyString(), eq("seoul"), anyCollection()))
+                .thenReturn(Map.of("myhome:rsdt:P1:1", "0000000000000000"));
+        when(changeDetectionService.detect(eq("myhome"), eq("rsdt"), eq("seoul"), anyList(), anyMap(), anyMap()))
+                .thenReturn(new ChangeDetectionResult("myhome", "rsdt", "seoul",
+                        List.of(), List.of("myhome:rsdt:GONE:1"), 3, 4)
+                        .withChangedStdIds(List.of("myhome:rsdt:P1:1")));
+        when(changeDetectionService.detect(eq("myhome"), eq("ltrsdt"), eq("seoul"), anyList(), anyMap(), anyMap()))
+                .thenReturn(emptyDiff("ltrsdt"));
+        when(mainServerIngestClient.ingest(any(AnnouncementIngestRequest.class), any()))
+                .thenAnswer(inv -> {
+                    AnnouncementIngestRequest req = inv.getArgument(0);
+                    Consumer<List<AnnouncementIngestItem>> onAccepted = inv.getArgument(1);
+                    onAccepted.accept(req.items());
+                    return new IngestResponse(1, 0, 1, 0);
+                });
+
+        // when
+        service.runOnce();
+
+        // then: 바뀐 P1 만 전송
+        ArgumentCaptor<AnnouncementIngestRequest> captor = ArgumentCaptor.forClass(AnnouncementIngestRequest.class);
+        verify(mainServerIngestClient).ingest(captor.capture(), any());
+        assertThat(captor.getValue().items()).extracting(AnnouncementIngestItem::externalKey).containsExactly("P1:1");
+
+        // 기록 없던 P2/P3 는 기준값만 기록, 보낸 P1 은 받아진 뒤 새 체크섬 기록
+        verify(myHomeChecksumStorePort).putChecksums(eq("rsdt"), eq("seoul"), argThat(m ->
+                p2Checksum.equals(m.get("myhome:rsdt:P2:1")) && !m.containsKey("myhome:rsdt:P1:1")));
+        verify(myHomeChecksumStorePort).putChecksums("rsdt", "seoul", Map.of("myhome:rsdt:P1:1", p1Checksum));
+
+        // 현재 stdId 체크섬만 읽고, 목록에서 빠진 stdId 체크섬은 지움
+        verify(myHomeChecksumStorePort).getChecksums(eq("rsdt"), eq("seoul"), argThat(ids ->
+                ids.size() == 3 && ids.contains("myhome:rsdt:P1:1")));
+        verify(myHomeChecksumStorePort).removeChecksums("rsdt", "seoul", List.of("myhome:rsdt:GONE:1"));
+    }
+
+    private static AnnouncementIngestItem shItem(String seq) {
+        return new AnnouncementIngestItem(
+                MainServerAnnouncementSource.SH_RSS, seq, "title", null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private static MyHomeItemDto item(String pblancId, String houseSn) {
+        MyHomeItemDto dto = new MyHomeItemDto();
+        ReflectionTestUtils.setField(dto, "pblancId", pblancId);
+        ReflectionTestUtils.setField(dto, "houseSn", houseSn);
+        return dto;
+    }
+
+    private static ChangeDetectionResult emptyDiff(String category) {
+        return new ChangeDetectionResult("myhome", category, "seoul", List.of(), List.of(), 0, 0);
+    }
+
+    private static Map<IngestPipeline, PipelineOutcome> byPipeline(IngestJobResult result) {
+        return result.outcomes().stream()
+                .collect(Collectors.toMap(PipelineOutcome::pipeline, Function.identity()));
+    }
+}
@@ -0,0 +1,137 @@
+package com.seoulhousing.ingest_core.mainserver.service;
+
+import com.seoulhousing.ingest_core.announcement.dto.ChangeDetectionResult;
+import com.seoulhousing.ingest_core.announcement.port.SeenStdIdReaderPort;
+import com.seoulhousing.ingest_core.announcement.service.AnnouncementChangeDetectionService;
+import com.seoulhousing.ingest_core.announcement.service.StdIdGenerator;
+import com.seoulhousing.ingest_core.external.sh.dto.ShRssItem;
+import com.seoulhousing.ingest_core.external.sh.service.ShRentalNoticeChecker;
+import com.seoulhousing.ingest_core.mainserver.dto.AnnouncementIngestItem;
+import com.seoulhousing.ingest_core.mainserver.dto.ShRssCollectResult;
+import com.seoulhousing.ingest_core.mainserver.dto.ShRssHighWaterMark;
+import com.seoulhousing.ingest_core.redis.ShRssMetaWriterPort;
+import com.seoulhousing.ingest_core.redis.ShRssSnapshotReaderPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultShRssIngestServiceTest {
+
+    @Mock ShRentalNoticeChecker shChecker;
+    @Mock StdIdGenerator stdIdGenerator;
+    @Mock AnnouncementChangeDetectionService changeDetectionService;
+    @Mock ShRssSnapshotReaderPort shRssSnapshotReaderPort;
+    @Mock ShRssMetaWriterPort shRssMetaWriterPort;
+    @Mock SeenStdIdReaderPort seenStdIdReaderPort;
+
+    @InjectMocks
+    DefaultShRssIngestService service;
+
+    private static final Instant T0 = Instant.parse("2026-01-05T06:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "scope", "seoul");
+        ReflectionTestUtils.setField(service, "seedLimit", 10);
+        ReflectionTestUtils.setField(service, "reconcileInterval", Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("증분 모드: 기준점 이하 아이템을 만나면 읽기를 멈추고 그 앞의 아이템만 보낸다")
+    void incremental_stopsAtHighWaterMark() {
+        // given: 기준점 seq=100, 최근 reconcile
+        ShRssHighWaterMark mark = new ShRssHighWaterMark(100L, T0, Instant.now().minusSeconds(60));
+        when(shRssSnapshotReaderPort.getMeta("rental", "seoul")).thenReturn(mark.toMeta());
+
+        List<ShRssItem> feed = List.of(
+                item("102", T0.plusSeconds(120)),
+                item("101", T0.plusSeconds(60)),
+                item("100", T0),
+                item("99", T0.minusSeconds(60))
+        );
+        List<String> streamed = new ArrayList<>();
+        when(shChecker.streamItems(any())).thenAnswer(inv -> {
+            Predicate<ShRssItem> onItem = inv.getArgument(0);
+            for (ShRssItem it : feed) {
+                streamed.add(it.getSeq());
+                if (!onItem.test(it)) break;
+            }
+            return streamed.size();
+        });
+
+        // when
+        ShRssCollectResult result = service.collectNewItemsIncremental("rental");
+
+        // then: 100 에서 멈춤, 전체 diff 없음
+        assertThat(streamed).containsExactly("102", "101", "100");
+        assertThat(result.items()).extracting(AnnouncementIngestItem::externalKey).containsExactly("102", "101");
+        assertThat(result.highWaterMark().seq()).isEqualTo(102L);
+        assertThat(result.highWaterMark().publishedAt()).isEqualTo(T0.plusSeconds(120));
+        verify(shChecker, never()).fetchAllItems();
+        verifyNoInteractions(changeDetectionService);
+    }
+
+    @Test
+    @DisplayName("증분 모드: 기준점이 없으면 전체 diff 로 판단하고, 성공 후 기준점을 메타에 저장한다")
+    void incremental_reconcilesWhenNoMark_andCommitsMark() {
+        // given
+        when(shRssSnapshotReaderPort.getMeta("rental", "seoul")).thenReturn(Map.of());
+        when(shChecker.fetchAllItems()).thenReturn(List.of(item("7", T0), item("5", T0.minusSeconds(60))));
+        when(stdIdGenerator.shRss(anyString())).thenAnswer(inv -> "sh:" + inv.getArgument(0));
+        when(changeDetectionService.detect(eq("sh"), eq("rental"), eq("seoul"), anyList()))
+                .thenReturn(new ChangeDetectionResult("sh", "rental", "seoul", List.of("sh:7"), List.of(), 2, 1));
+
+        // when
+        ShRssCollectResult result = service.collectNewItemsIncremental("rental");
+        service.commitFeedState("rental", result);
+
+        // then
+        assertThat(result.items()).extracting(AnnouncementIngestItem::externalKey).containsExactly("7");
+        verify(shChecker, never()).streamItems(any());
+        verify(shRssMetaWriterPort).putMeta(eq("rental"), eq("seoul"), argThat(meta ->
+                "7".equals(meta.get(ShRssHighWaterMark.META_SEQ))
+                        && T0.toString().equals(meta.get(ShRssHighWaterMark.META_PUBLISHED_AT))
+                        && meta.containsKey(ShRssHighWaterMark.META_LAST_RECONCILE_AT)));
+    }
+
+    @Test
+    @DisplayName("증분 모드: 최초 실행에 seedLimit 으로 잘린 아이템은 기준점에 넣지 않는다")
+    void incremental_firstRunMarkIgnoresItemsCutBySeedLimit() {
+        // given: seen 없음, seedLimit=1, seq 가 더 큰 200 은 pubDate 가 더 이르러서 잘림
+        ReflectionTestUtils.setField(service, "seedLimit", 1);
+        when(shRssSnapshotReaderPort.getMeta("rental", "seoul")).thenReturn(Map.of());
+        when(shChecker.fetchAllItems()).thenReturn(List.of(item("200", T0.minusSeconds(60)), item("150", T0)));
+        when(stdIdGenerator.shRss(anyString())).thenAnswer(inv -> "sh:" + inv.getArgument(0));
+        when(changeDetectionService.detect(eq("sh"), eq("rental"), eq("seoul"), anyList()))
+                .thenReturn(new ChangeDetectionResult("sh", "rental", "seoul", List.of("sh:150", "sh:200"), List.of(), 2, 0));
+
+        // when
+        ShRssCollectResult result = service.collectNewItemsIncremental("rental");
+
+        // then: 150 만 보냈으니 기준점도 150 (200 은 다음 실행에서 증분으로 받을 수 있게)
+        assertThat(result.items()).extracting(AnnouncementIngestItem::externalKey).containsExactly("150");
+        assertThat(result.highWaterMark().seq()).isEqualTo(150L);
+        assertThat(result.highWaterMark().publishedAt()).isEqualTo(T0);
+    }
+
+    private static ShRssItem item(String seq, Instant publishedAt) {
+        return new ShRssItem(seq, "공고" + seq, "http://x/view.do?seq=" + seq, publishedAt);
+    }
+}
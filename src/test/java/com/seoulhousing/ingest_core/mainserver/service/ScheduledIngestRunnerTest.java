@@ -0,0 +1,108 @@
+package com.seoulhousing.ingest_core.mainserver.service;
+
+import com.seoulhousing.ingest_core.config.IngestDaemonProperties;
+import com.seoulhousing.ingest_core.config.IngestRunMode;
+import com.seoulhousing.ingest_core.mainserver.dto.IngestPipeline;
+import com.seoulhousing.ingest_core.metrics.MetricsFileExporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ScheduledIngestRunner 단위 테스트
+ *
+ * 목표:
+ * - 원샷 모드에선 아무것도 걸지 않는지
+ * - 파이프라인마다 cron 과 fixed-delay 중 정확히 하나만 허용하고, 잘못된 설정이 있으면 아무것도 걸지 않는지
+ * - 회차 실행의 예외가 스케줄을 멈추지 않고 지표 파일은 항상 갱신되는지
+ */
+class ScheduledIngestRunnerTest {
+
+    private final IngestJobService ingestJobService = mock(IngestJobService.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    private final MetricsFileExporter metricsExporter = mock(MetricsFileExporter.class);
+
+    private ScheduledIngestRunner runner(boolean oneShot, Map<IngestPipeline, IngestDaemonProperties.Schedule> schedules) {
+        return new ScheduledIngestRunner(
+                new IngestRunMode(oneShot),
+                ingestJobService,
+                new IngestDaemonProperties(schedules, ZoneId.of("Asia/Seoul")),
+                taskScheduler,
+                metricsExporter
+        );
+    }
+
+    @Test
+    @DisplayName("원샷 모드면 주기가 있어도 아무것도 걸지 않음")
+    void oneShot_isNoop() {
+        runner(true, Map.of(IngestPipeline.SH_RSS, fixedDelay(Duration.ofMinutes(5)))).run(null);
+
+        verifyNoInteractions(taskScheduler, ingestJobService, metricsExporter);
+    }
+
+    @Test
+    @DisplayName("cron 은 CronTrigger 로, fixed-delay 는 scheduleWithFixedDelay 로 건다")
+    void schedules_cronAndFixedDelay() {
+        runner(false, Map.of(
+                IngestPipeline.SH_RSS, fixedDelay(Duration.ofMinutes(5)),
+                IngestPipeline.MYHOME_RSDT, new IngestDaemonProperties.Schedule("0 0 */6 * * *", null, Duration.ZERO)
+        )).run(null);
+
+        verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), eq(Duration.ofMinutes(5)));
+        verify(taskScheduler).schedule(any(Runnable.class), any(CronTrigger.class));
+        verifyNoInteractions(ingestJobService);
+    }
+
+    @Test
+    @DisplayName("cron 과 fixed-delay 를 둘 다 지정하면 부팅 실패, 다른 파이프라인도 걸지 않음")
+    void both_cronAndFixedDelay_fails() {
+        ScheduledIngestRunner runner = runner(false, Map.of(
+                IngestPipeline.SH_RSS, fixedDelay(Duration.ofMinutes(5)),
+                IngestPipeline.MYHOME_RSDT, new IngestDaemonProperties.Schedule("0 0 * * * *", Duration.ofMinutes(1), Duration.ZERO)
+        ));
+
+        assertThatThrownBy(() -> runner.run(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("MYHOME_RSDT");
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("cron 도 fixed-delay 도 없으면 부팅 실패 (0 이하 fixed-delay 는 없는것으로 봄)")
+    void neither_cronNorFixedDelay_fails() {
+        ScheduledIngestRunner blank = runner(false, Map.of(
+                IngestPipeline.SH_RSS, new IngestDaemonProperties.Schedule(" ", null, Duration.ZERO)));
+        ScheduledIngestRunner zero = runner(false, Map.of(IngestPipeline.SH_RSS, fixedDelay(Duration.ZERO)));
+
+        assertThatThrownBy(() -> blank.run(null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> zero.run(null)).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("회차 실행이 예외로 끝나도 밖으로 던지지 않고 지표 파일은 갱신함")
+    void runOnce_swallowsFailure_andFlushes() {
+        when(ingestJobService.runPipeline(IngestPipeline.SH_RSS)).thenThrow(new IllegalStateException("boom"));
+
+        ScheduledIngestRunner runner = runner(false, Map.of());
+
+        assertThatCode(() -> runner.runOnce(IngestPipeline.SH_RSS)).doesNotThrowAnyException();
+        verify(metricsExporter).flush();
+    }
+
+    private static IngestDaemonProperties.Schedule fixedDelay(Duration delay) {
+        return new IngestDaemonProperties.Schedule(null, delay, Duration.ZERO);
+    }
+}
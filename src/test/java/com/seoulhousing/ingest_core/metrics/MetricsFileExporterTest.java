@@ -0,0 +1,121 @@
+package com.seoulhousing.ingest_core.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IngestMetrics / MetricsFileExporter 단위 테스트
+ *
+ * 목표:
+ * - IngestMetrics 로 기록한 값이 전역 레지스트리에 붙은 레지스트리에 쌓이는지
+ * - 실행 단위 집계(StageTally)에는 범위 안에서 기록된 값만 모이는지
+ * - 종료 직전 flush 가 한 줄에 계측 하나씩 파일로 써지는지
+ */
+class MetricsFileExporterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("IngestMetrics 기록값이 레지스트리에 쌓이고, 실패해도 outcome=failure 로 시간이 기록됨")
+    void ingestMetrics_records() {
+        IngestMetrics.count(IngestMetrics.MAPPER_REJECTED, 2, "source", "sh");
+        IngestMetrics.count(IngestMetrics.MAPPER_REJECTED, 0, "source", "sh"); // 0 은 무시
+        IngestMetrics.record(IngestMetrics.SH_RSS_BYTES, 1024);
+        String out = IngestMetrics.time(IngestMetrics.DIFF, () -> "ok", "source", "myhome");
+
+        assertThatThrownBy(() -> IngestMetrics.time(IngestMetrics.DIFF, () -> {
+            throw new IllegalStateException("boom");
+        }, "source", "myhome")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(out).isEqualTo("ok");
+        assertThat(registry.get(IngestMetrics.MAPPER_REJECTED).tag("source", "sh").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get(IngestMetrics.SH_RSS_BYTES).summary().totalAmount()).isEqualTo(1024.0);
+        assertThat(registry.get(IngestMetrics.DIFF).tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get(IngestMetrics.DIFF).tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("tallied 안에서 기록한 값(안에서 만든 스레드 포함)만 집계에 모이고, 실패한 호출은 errors 로 셈")
+    void tallied_collectsOnlyInsideScope() {
+        StageTally tally = new StageTally();
+        IngestMetrics.record(IngestMetrics.SH_RSS_BYTES, 999); // 범위 밖
+
+        IngestMetrics.tallied(tally, () -> {
+            IngestMetrics.record(IngestMetrics.SH_RSS_BYTES, 100);
+            Thread child = Thread.ofVirtual().start(() -> IngestMetrics.record(IngestMetrics.SH_RSS_BYTES, 50));
+            try {
+                child.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            assertThatThrownBy(() -> IngestMetrics.time(IngestMetrics.MAIN_SERVER_INGEST, () -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+        });
+
+        assertThat(tally.sum(IngestMetrics.SH_RSS_BYTES)).isEqualTo(150);
+        assertThat(tally.count(IngestMetrics.SH_RSS_BYTES)).isEqualTo(2);
+        assertThat(tally.count(IngestMetrics.MAIN_SERVER_INGEST)).isZero();
+        assertThat(tally.sum(StageTally.ERRORS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크 라벨은 # 앞부분만 태그로 씀")
+    void labelTag_dropsChunkSuffix() {
+        assertThat(IngestMetrics.labelTag("INGEST#3/10")).isEqualTo("INGEST");
+        assertThat(IngestMetrics.labelTag("RSDT")).isEqualTo("RSDT");
+        assertThat(IngestMetrics.labelTag(null)).isEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("flush 하면 설정한 파일에 계측값이 한 줄씩 써짐")
+    void flush_writesFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("out/ingest-metrics.txt");
+        MetricsFileExporter exporter = new MetricsFileExporter();
+        ReflectionTestUtils.setField(exporter, "exportFile", file.toString());
+
+        IngestMetrics.count(IngestMetrics.MAIN_SERVER_ITEMS, 3, "category", "rsdt", "result", "created");
+        exporter.flush(registry);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines.getFirst()).startsWith("# flushedAt=");
+        assertThat(lines).contains("ingest.mainserver.items{category=rsdt,result=created} COUNT=3.0");
+        assertThat(Files.list(dir.resolve("out"))).containsExactly(file); // 임시파일이 남지 않음
+    }
+
+    @Test
+    @DisplayName("기록된 값이 없으면 파일을 만들지 않음")
+    void flush_emptyRegistry_noFile(@TempDir Path dir) {
+        Path file = dir.resolve("ingest-metrics.txt");
+        MetricsFileExporter exporter = new MetricsFileExporter();
+        ReflectionTestUtils.setField(exporter, "exportFile", file.toString());
+
+        exporter.flush(registry);
+
+        assertThat(file).doesNotExist();
+    }
+}
@@ -0,0 +1,80 @@
+package com.seoulhousing.ingest_core.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisMyHomeChecksumStoreAdapter 단위 테스트
+ *
+ * 목표:
+ * - 체크섬을 스냅샷 생산자의 checksum 해쉬가 아니라 ingest 전용 해쉬에서 읽고 쓰는지
+ * - 해쉬 전체가 아니라 요청한 stdId 필드만 읽고, 빠진 stdId 필드는 지우는지
+ */
+class RedisMyHomeChecksumStoreAdapterTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+    private final RedisKeyFactory keyFactory = mock(RedisKeyFactory.class);
+
+    @Test
+    @DisplayName("읽기/쓰기 모두 ingestChecksumKey 를 쓰고 생산자 checksumKey 는 건드리지 않음")
+    void uses_ingest_owned_hash() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        when(keyFactory.ingestChecksumKey("myhome", "rsdt", "seoul")).thenReturn("ingest-checksum-key");
+        when(hashOps.multiGet("ingest-checksum-key", List.<Object>of("std-1"))).thenReturn(Arrays.<Object>asList("abc"));
+
+        RedisMyHomeChecksumStoreAdapter adapter = new RedisMyHomeChecksumStoreAdapter(redisTemplate, keyFactory);
+
+        assertThat(adapter.getChecksums("rsdt", "seoul", List.of("std-1"))).containsExactly(Map.entry("std-1", "abc"));
+        adapter.putChecksums("rsdt", "seoul", Map.of("std-2", "def"));
+
+        verify(hashOps).putAll("ingest-checksum-key", Map.of("std-2", "def"));
+        verify(keyFactory, never()).checksumKey(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("요청한 stdId 만 HMGET 하고 기록 없는 stdId 는 결과에서 빠짐, HGETALL 은 쓰지 않음")
+    void reads_only_requested_fields() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        when(keyFactory.ingestChecksumKey("myhome", "rsdt", "seoul")).thenReturn("ingest-checksum-key");
+        when(hashOps.multiGet("ingest-checksum-key", List.<Object>of("std-1", "std-2")))
+                .thenReturn(Arrays.<Object>asList("abc", null));
+
+        RedisMyHomeChecksumStoreAdapter adapter = new RedisMyHomeChecksumStoreAdapter(redisTemplate, keyFactory);
+
+        // 같은 stdId 는 한번만 물어봄
+        assertThat(adapter.getChecksums("rsdt", "seoul", List.of("std-1", "std-2", "std-1")))
+                .containsExactly(Map.entry("std-1", "abc"));
+        assertThat(adapter.getChecksums("rsdt", "seoul", List.of())).isEmpty();
+
+        verify(hashOps, times(1)).multiGet(anyString(), anyCollection());
+        verify(hashOps, never()).entries(anyString());
+    }
+
+    @Test
+    @DisplayName("빠진 stdId 의 체크섬 필드를 HDEL 로 지움")
+    void removes_gone_fields() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        when(keyFactory.ingestChecksumKey("myhome", "rsdt", "seoul")).thenReturn("ingest-checksum-key");
+
+        RedisMyHomeChecksumStoreAdapter adapter = new RedisMyHomeChecksumStoreAdapter(redisTemplate, keyFactory);
+
+        adapter.removeChecksums("rsdt", "seoul", List.of("std-1", "std-2"));
+        adapter.removeChecksums("rsdt", "seoul", List.of());
+
+        verify(hashOps, times(1)).delete("ingest-checksum-key", "std-1", "std-2");
+    }
+}
@@ -0,0 +1,220 @@
+package com.seoulhousing.ingest_core.resilience;
+
+import com.seoulhousing.ingest_core.config.ResilienceProperties;
+import com.seoulhousing.ingest_core.redis.CircuitBreakerStatePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DependencyGuard 단위 테스트 (레디스 대신 메모리 저장소, 시계는 직접 움직임)
+ *
+ * 목표:
+ * - 연속 실패가 기준을 넘으면 열리고, 열린 동안은 호출 없이 바로 실패하는지
+ * - 열린 시간이 지나면 시험 호출 한번으로 닫히거나 다시 열리는지
+ * - 상태가 저장소에 남아서 새 인스턴스(다음 원샷 실행)가 이어받는지
+ * - 4xx 와 호출부 콜백 실패는 장애로 세지 않고, 한 의존의 장애가 다른 의존에 번지지 않는지
+ * - 벌크헤드 대기열이 차면 바로 거절하는지, MyHome 은 벌크헤드 없이 브레이커만 쓰는지
+ */
+class DependencyGuardTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final InMemoryStatePort store = new InMemoryStatePort();
+
+    @Test
+    @DisplayName("연속 실패로 열리고, 열린 동안은 호출하지 않고 바로 실패함")
+    void opens_after_threshold_and_fails_fast() {
+        DependencyGuard guard = guard(policy(2, 1, 0));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(Dependency.SH_RSS, "NOTICE", () -> fail(calls)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .isNotInstanceOf(DependencyUnavailableException.class);
+        }
+
+        assertThatThrownBy(() -> guard.call(Dependency.SH_RSS, "NOTICE", () -> fail(calls)))
+                .isInstanceOf(DependencyUnavailableException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(calls).hasValue(2);
+
+        // 다른 의존은 영향 없음
+        assertThat(guard.call(Dependency.MYHOME, "RSDT", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출: 실패하면 다시 열리고, 성공하면 닫힘")
+    void half_open_probe_reopens_or_closes() {
+        DependencyGuard guard = guard(policy(1, 1, 0));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> guard.call(Dependency.MAIN_SERVER, "INGEST", () -> fail(calls)));
+
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+        assertThatThrownBy(() -> guard.call(Dependency.MAIN_SERVER, "INGEST", () -> fail(calls)))
+                .isNotInstanceOf(DependencyUnavailableException.class);
+        assertThatThrownBy(() -> guard.call(Dependency.MAIN_SERVER, "INGEST", () -> "ok"))
+                .isInstanceOf(DependencyUnavailableException.class);
+
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+        assertThat(guard.call(Dependency.MAIN_SERVER, "INGEST", () -> "ok")).isEqualTo("ok");
+        assertThat(guard.call(Dependency.MAIN_SERVER, "INGEST", () -> "ok")).isEqualTo("ok");
+        assertThat(store.fields("mainserver")).containsEntry("state", "CLOSED");
+    }
+
+    @Test
+    @DisplayName("열린 상태가 저장소에 남아 새 인스턴스도 바로 실패함, 4xx 는 장애로 세지 않음")
+    void state_survives_new_instance_and_4xx_is_ignored() {
+        DependencyGuard first = guard(policy(1, 1, 0));
+        assertThatThrownBy(() -> first.call(Dependency.MYHOME, "RSDT", () -> {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThat(first.call(Dependency.MYHOME, "RSDT", () -> "still closed")).isEqualTo("still closed");
+
+        assertThatThrownBy(() -> first.call(Dependency.MYHOME, "RSDT", () -> {
+            throw new IllegalStateException("MyHome API 재시도 실패", new ResourceAccessException("timeout"));
+        }));
+        assertThat(store.fields("myhome")).containsEntry("state", "OPEN");
+
+        DependencyGuard next = guard(policy(1, 1, 0));
+        assertThatThrownBy(() -> next.call(Dependency.MYHOME, "RSDT", () -> "ok"))
+                .isInstanceOf(DependencyUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("CLOSED 안에서 실패가 쌓이는 동안은 저장하지 않고, 열릴때 한번만 저장함")
+    void persists_only_on_state_change() {
+        DependencyGuard guard = guard(policy(3, 1, 0));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(Dependency.SH_RSS, "NOTICE", () -> fail(calls)));
+        }
+        assertThat(guard.call(Dependency.SH_RSS, "NOTICE", () -> "ok")).isEqualTo("ok");
+        assertThat(store.saves()).isZero();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.call(Dependency.SH_RSS, "NOTICE", () -> fail(calls)));
+        }
+        assertThat(store.saves()).isEqualTo(1);
+        assertThat(store.fields("sh")).containsEntry("state", "OPEN");
+    }
+
+    @Test
+    @DisplayName("호출부 콜백 실패(CallerFailureException)는 장애로 세지 않음")
+    void caller_failure_is_not_counted() {
+        DependencyGuard guard = guard(policy(1, 1, 0));
+
+        assertThatThrownBy(() -> guard.call(Dependency.SH_RSS, "NOTICE", () -> {
+            throw new CallerFailureException(new IllegalStateException("redis down"));
+        })).isInstanceOf(CallerFailureException.class);
+
+        assertThat(guard.call(Dependency.SH_RSS, "NOTICE", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("벌크헤드가 차고 대기열도 없으면 바로 거절")
+    void bulkhead_rejects_when_full() throws Exception {
+        DependencyGuard guard = guard(policy(5, 1, 0));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofVirtual().start(() -> guard.call(Dependency.SH_RSS, "NOTICE", () -> {
+            entered.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guard.call(Dependency.SH_RSS, "NOTICE", () -> "ok"))
+                .isInstanceOf(DependencyUnavailableException.class)
+                .hasMessageContaining("bulkhead");
+
+        release.countDown();
+        holder.join();
+        assertThat(guard.call(Dependency.SH_RSS, "NOTICE", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("MyHome 은 벌크헤드가 없어서 동시 호출이 상한 1 이어도 막히지 않음 (동시성은 HTTP 호스트 상한 담당)")
+    void myhome_has_no_bulkhead() throws Exception {
+        DependencyGuard guard = guard(policy(5, 1, 0));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofVirtual().start(() -> guard.call(Dependency.MYHOME, "RSDT", () -> {
+            entered.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(guard.call(Dependency.MYHOME, "LTRSDT", () -> "ok")).isEqualTo("ok");
+
+        release.countDown();
+        holder.join();
+    }
+
+    // ===== helpers =====
+
+    private DependencyGuard guard(ResilienceProperties.Policy policy) {
+        Map<Dependency, ResilienceProperties.Policy> policies = Map.of(
+                Dependency.MYHOME, policy, Dependency.SH_RSS, policy, Dependency.MAIN_SERVER, policy);
+        return new DependencyGuard(new ResilienceProperties(true, policies), store, clock::get);
+    }
+
+    private static ResilienceProperties.Policy policy(int failureThreshold, int maxConcurrent, int maxQueue) {
+        return new ResilienceProperties.Policy(failureThreshold, Duration.ofSeconds(30), 1,
+                maxConcurrent, maxQueue, Duration.ofMillis(100));
+    }
+
+    private static String fail(AtomicInteger calls) {
+        calls.incrementAndGet();
+        throw new IllegalStateException("retry exhausted", new ResourceAccessException("connect refused"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class InMemoryStatePort implements CircuitBreakerStatePort {
+
+        private final Map<String, Map<String, String>> saved = new ConcurrentHashMap<>();
+        private final AtomicInteger saves = new AtomicInteger();
+
+        @Override
+        public Map<String, String> load(String name) {
+            return saved.getOrDefault(name, Map.of());
+        }
+
+        @Override
+        public void save(String name, Map<String, String> fields, Duration ttl) {
+            saved.put(name, Map.copyOf(fields));
+            saves.incrementAndGet();
+        }
+
+        int saves() {
+            return saves.get();
+        }
+
+        Map<String, String> fields(String name) {
+            return load(name);
+        }
+    }
+}